@@ -0,0 +1,33 @@
+package io.mosip.mock.sbi.benchmark;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.service.SBIMockService;
+
+/**
+ * SBIMockService with its device helpers initialised but no server socket, so
+ * the benchmarks call the request handling code in process.
+ */
+class BenchmarkMockService extends SBIMockService {
+	static final String FINGER_SLAP = SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER + "_"
+			+ SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_FINGER_SLAP;
+	static final String IRIS_DOUBLE = SBIConstant.MOSIP_BIOMETRIC_TYPE_IRIS + "_"
+			+ SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_IRIS_DOUBLE;
+	static final String FACE = SBIConstant.MOSIP_BIOMETRIC_TYPE_FACE + "_" + SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_FACE;
+
+	BenchmarkMockService() {
+		super(SBIConstant.PURPOSE_REGISTRATION, SBIConstant.MOSIP_BIOMETRIC_TYPE_BIOMETRIC_DEVICE, null,
+				SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_JP2000);
+		initDeviceHelpers();
+		for (SBIDeviceHelper deviceHelper : this.deviceHelpers.values()) {
+			deviceHelper.initDeviceDetails();
+			if (deviceHelper.getDeviceInfo() == null)
+				throw new IllegalStateException("Device details not loaded for " + deviceHelper.getDeviceType()
+						+ ", run the benchmarks from the MockMDS folder");
+		}
+	}
+
+	String getDeviceId(String deviceTypeName) {
+		return getDeviceHelper(deviceTypeName).getDeviceInfo().getDeviceId();
+	}
+}
@@ -0,0 +1,123 @@
+package io.mosip.mock.sbi.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.biometric.provider.CryptoUtility;
+import org.biometric.provider.IdaCertificateCache;
+import org.biometric.provider.IdaLocalCertificateProvider;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.service.SBIServiceResponse;
+import io.mosip.mock.sbi.util.BioUtilHelper;
+import io.mosip.mock.sbi.util.StringHelper;
+import io.mosip.registration.mdm.dto.BioMetricsDataDto;
+import io.mosip.registration.mdm.dto.BioMetricsDto;
+import io.mosip.registration.mdm.dto.CaptureRequestDto;
+
+/**
+ * The steps of a capture response on their own: building one biometrics
+ * entry, signing its data block, encrypting an auth bio value and reading the
+ * finger quality score from an ISO record. Inputs come from the Default
+ * Registration profile and the encryption key from
+ * {@code mosip.ida.certificate.local.file}, so no IDA server is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CaptureComponentBenchmark {
+	private static final String TRANSACTION_ID = "1234567890123";
+
+	private SBIDeviceHelper faceHelper;
+	private SBIServiceResponse serviceResponse;
+	private MethodHandle getBiometricData;
+	private CaptureRequestDto requestObject;
+	private String faceBioValue;
+	private byte[] faceIso;
+	private byte[] fingerIso;
+	private String faceBioData;
+	private PublicKey publicKey;
+
+	@Setup
+	@SuppressWarnings({ "java:S112" })
+	public void setup() throws Exception {
+		BenchmarkMockService mockService = new BenchmarkMockService();
+		this.faceHelper = mockService.getDeviceHelper(BenchmarkMockService.FACE);
+		this.serviceResponse = new SBIServiceResponse(mockService.getServerPort());
+
+		// private in SBIServiceResponse, reached through a method handle to keep it so
+		this.getBiometricData = MethodHandles
+				.privateLookupIn(SBIServiceResponse.class, MethodHandles.lookup())
+				.findVirtual(SBIServiceResponse.class, "getBiometricData",
+						MethodType.methodType(BioMetricsDto.class, String.class, CaptureRequestDto.class,
+								SBIDeviceHelper.class, String.class, String.class, String.class, String.class,
+								float.class, float.class, String.class, String.class, boolean.class))
+				.bindTo(this.serviceResponse);
+
+		this.requestObject = new CaptureRequestDto();
+		this.requestObject.setEnv(SBIConstant.ENVIRONMENT_STAGING);
+		this.requestObject.setPurpose(SBIConstant.PURPOSE_REGISTRATION);
+		this.requestObject.setSpecVersion("0.9.5");
+		this.requestObject.setTransactionId(TRANSACTION_ID);
+
+		Path profileFolder = Path.of("Profile", SBIConstant.PROFILE_DEFAULT, SBIConstant.PURPOSE_REGISTRATION);
+		this.faceIso = Files.readAllBytes(profileFolder.resolve("Face.iso"));
+		this.fingerIso = Files.readAllBytes(profileFolder.resolve("Right_Index.iso"));
+		this.faceBioValue = StringHelper.base64UrlEncode(this.faceIso);
+
+		BioMetricsDataDto biometricData = new BioMetricsDataDto();
+		biometricData.setDigitalId(this.faceHelper.getDeviceInfo().getDigitalId());
+		biometricData.setBioType(SBIConstant.MOSIP_BIOMETRIC_TYPE_FACE);
+		biometricData.setBioValue(this.faceBioValue);
+		biometricData.setTransactionId(TRANSACTION_ID);
+		this.faceBioData = new ObjectMapper().writeValueAsString(biometricData);
+
+		this.publicKey = new IdaCertificateCache(new IdaLocalCertificateProvider()).getCertificate().getPublicKey();
+	}
+
+	@Benchmark
+	@SuppressWarnings({ "java:S112" })
+	public BioMetricsDto getBiometricData() throws Throwable {
+		return (BioMetricsDto) this.getBiometricData.invokeExact(TRANSACTION_ID, this.requestObject,
+				this.faceHelper, "", SBIConstant.MOSIP_BIOMETRIC_TYPE_FACE, "", this.faceBioValue, 80.0f, 40.0f,
+				"en", "0", false);
+	}
+
+	@Benchmark
+	public String signBioMetricsData() {
+		return this.faceHelper.getSignBioMetricsDataDto(this.faceHelper.getDeviceType(),
+				this.faceHelper.getDeviceSubType(), this.faceBioData);
+	}
+
+	@Benchmark
+	public Map<String, String> encrypt() {
+		return CryptoUtility.encrypt(this.publicKey, this.faceIso, TRANSACTION_ID);
+	}
+
+	@Benchmark
+	@SuppressWarnings({ "java:S112" })
+	public int fingerQualityScoreFromIso() throws Exception {
+		return BioUtilHelper.getFingerQualityScoreFromIso(SBIConstant.PURPOSE_REGISTRATION, this.fingerIso);
+	}
+}
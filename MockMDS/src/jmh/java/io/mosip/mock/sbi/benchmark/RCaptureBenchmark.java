@@ -0,0 +1,78 @@
+package io.mosip.mock.sbi.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.service.SBIServiceResponse;
+
+/**
+ * Full registration rCapture response generation (capture loop, quality
+ * scores, signing, hash chain and JSON) for a left slap, both irises and a
+ * face. Single threaded, as one device serves one capture at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class RCaptureBenchmark {
+	private static final String REQUEST_LINE = SBIConstant.MOSIP_RCAPTURE_VERB + "/1.1";
+	private static final String REQUEST_TEMPLATE = "{\"env\":\"Staging\",\"purpose\":\"Registration\","
+			+ "\"specVersion\":\"0.9.5\",\"timeout\":10000,\"captureTime\":\"2024-01-01T10:00:00Z\","
+			+ "\"transactionId\":\"1234567890123\",\"bio\":[{\"type\":\"%s\",\"count\":%d,\"bioSubType\":[],"
+			+ "\"requestedScore\":40,\"deviceId\":\"%s\",\"deviceSubId\":%d,\"previousHash\":\"\"}]}";
+
+	@Param({ "Finger", "Iris", "Face" })
+	public String modality;
+
+	private BenchmarkMockService mockService;
+	private byte[] requestBody;
+
+	@Setup
+	public void setup() {
+		this.mockService = new BenchmarkMockService();
+		String request;
+		switch (this.modality) {
+		case SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER:
+			request = String.format(REQUEST_TEMPLATE, this.modality, 4,
+					this.mockService.getDeviceId(BenchmarkMockService.FINGER_SLAP),
+					SBIConstant.DEVICE_FINGER_SLAP_SUB_TYPE_ID_LEFT);
+			break;
+		case SBIConstant.MOSIP_BIOMETRIC_TYPE_IRIS:
+			request = String.format(REQUEST_TEMPLATE, this.modality, 2,
+					this.mockService.getDeviceId(BenchmarkMockService.IRIS_DOUBLE),
+					SBIConstant.DEVICE_IRIS_DOUBLE_SUB_TYPE_ID_BOTH);
+			break;
+		default:
+			request = String.format(REQUEST_TEMPLATE, this.modality, 1,
+					this.mockService.getDeviceId(BenchmarkMockService.FACE), 0);
+			break;
+		}
+		this.requestBody = request.getBytes(StandardCharsets.UTF_8);
+
+		String response = rCapture();
+		if (response == null || !response.contains("\"errorCode\":\"0\""))
+			throw new IllegalStateException("rCapture failed for " + this.modality + " :: " + response);
+	}
+
+	@Benchmark
+	public String rCapture() {
+		SBIServiceResponse serviceResponse = new SBIServiceResponse(this.mockService.getServerPort());
+		serviceResponse.setRequestBody(this.requestBody);
+		return serviceResponse.getServiceresponse(this.mockService, null, REQUEST_LINE);
+	}
+}
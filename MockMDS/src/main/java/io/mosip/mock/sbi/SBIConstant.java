@@ -13,6 +13,18 @@ public class SBIConstant {
 	/** SBI Server IP Address. */
 	public static final String SERVER_ADDRESS = "server.serveripaddress";
 
+	/** SBI Server Engine (thread, virtual), Accept Backlog and Max Workers. */
+	public static final String SERVER_ENGINE = "server.engine";
+	public static final String SERVER_ENGINE_THREAD = "thread";
+	public static final String SERVER_ENGINE_VIRTUAL = "virtual";
+	public static final String SERVER_BACKLOG = "server.backlog";
+	public static final String SERVER_MAX_WORKERS = "server.maxworkers";
+
+	/** SBI Server HTTP/1.1 Keep-Alive Timeout(ms) and Max Requests per Connection. */
+	public static final String SERVER_KEEPALIVE_TIMEOUT = "server.keepalive.timeout";
+	public static final String SERVER_KEEPALIVE_MAX_REQUESTS = "server.keepalive.maxrequests";
+	public static final String SERVER_REQUEST_MAX_SIZE = "server.request.maxsize";
+
 	/** CORS HEADERS METHODS */
 	public static final String CORS_HEADER_METHODS = "cors.headers.allowed.methods";
 
@@ -22,6 +34,13 @@ public class SBIConstant {
 	/** SBI BIOMETRIC DEFAULT QUALITY SCORE */
 	public static final String MOSIP_MOCK_SBI_QUALITY_SCORE = "mosip.mock.sbi.quality.score";
 
+	/** SBI Device Capture Lock Fairness and Timeout(ms) */
+	public static final String MOSIP_MOCK_SBI_DEVICE_LOCK_FAIR = "mosip.mock.sbi.device.lock.fair";
+	public static final String MOSIP_MOCK_SBI_DEVICE_LOCK_TIMEOUT = "mosip.mock.sbi.device.lock.timeout";
+
+	/** SBI Device digitalId/discover/deviceInfo Template Cache TTL(ms), 0 = until invalidated */
+	public static final String MOSIP_MOCK_SBI_DEVICE_DESCRIPTOR_TTL = "mosip.mock.sbi.device.descriptor.ttl";
+
 	/** Environment */
 	public static final String ENVIRONMENT_NONE = "None";
 	public static final String ENVIRONMENT_STAGING = "Staging";
@@ -314,4 +333,17 @@ public class SBIConstant {
 
 	public static final String MOSIP_PROFILE_FOLDER_PATH = "mosip.mock.sbi.folder.profile";
 	public static final String MOSIP_PROFILE_DEFAULT_FOLDER_PATH = "mosip.mock.sbi.file.folder.default";
+
+	/** Profile ISO/Stream Image Cache and Profile Folder Watch */
+	public static final String MOSIP_PROFILE_CACHE_ENABLED = "mosip.mock.sbi.profile.cache.enabled";
+	public static final String MOSIP_PROFILE_CACHE_WATCH = "mosip.mock.sbi.profile.cache.watch";
+
+	/** IDA Encryption Certificate Provider (server, local or class name), Cache TTL(ms) and Local Stand-in */
+	public static final String MOSIP_IDA_CERTIFICATE_PROVIDER = "mosip.ida.certificate.provider";
+	public static final String IDA_CERTIFICATE_PROVIDER_SERVER = "server";
+	public static final String IDA_CERTIFICATE_PROVIDER_LOCAL = "local";
+	public static final String MOSIP_IDA_CERTIFICATE_CACHE_TTL = "mosip.ida.certificate.cache.ttl";
+	public static final String MOSIP_IDA_CERTIFICATE_LOCAL_FILE = "mosip.ida.certificate.local.file";
+	public static final String MOSIP_IDA_CERTIFICATE_LOCAL_KEYSTORE_PWD = "mosip.ida.certificate.local.keystorepwd";
+	public static final String MOSIP_IDA_CERTIFICATE_LOCAL_KEY_ALIAS = "mosip.ida.certificate.local.keyalias";
 }
\ No newline at end of file
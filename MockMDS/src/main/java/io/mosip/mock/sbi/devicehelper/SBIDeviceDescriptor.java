@@ -0,0 +1,28 @@
+package io.mosip.mock.sbi.devicehelper;
+
+/**
+ * A digitalId, discover or deviceInfo payload parsed once from its JSON file
+ * and cached by {@link SBIDeviceHelper} per device type and subtype. The cached
+ * payload is an unsigned template that is never handed out: each use gets a
+ * copy, which is then stamped with the current time, device status and purpose
+ * and signed, so that the digitalId of each response carries a fresh
+ * timestamp.
+ */
+public class SBIDeviceDescriptor<T> {
+	private final T template;
+	private final long createdTime;
+
+	public SBIDeviceDescriptor(T template) {
+		super();
+		this.template = template;
+		this.createdTime = System.currentTimeMillis();
+	}
+
+	public boolean isExpired(long ttl) {
+		return ttl > 0 && System.currentTimeMillis() - this.createdTime > ttl;
+	}
+
+	public T getTemplate() {
+		return template;
+	}
+}
@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
@@ -12,6 +14,7 @@ import java.security.cert.X509Certificate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import org.biometric.provider.CryptoUtility;
 import org.biometric.provider.JwtUtility;
@@ -36,6 +39,7 @@ public abstract class SBIDeviceHelper {
 
 	private static Map<String, PrivateKey> privateKeyMap = new ConcurrentHashMap<>();
 	private static Map<String, Certificate> certificateMap = new ConcurrentHashMap<>();
+	private static final ObjectMapper descriptorMapper = new ObjectMapper();
 
 	private String biometricImageType;
 	private String purpose;
@@ -51,6 +55,7 @@ public abstract class SBIDeviceHelper {
 	private DeviceInfo deviceInfo;
 	private DiscoverDto discoverDto;
 	private DeviceInfoDto deviceInfoDto;
+	private final Map<String, SBIDeviceDescriptor<?>> descriptorCache = new ConcurrentHashMap<>();
 	private HashMap<String, String> statusMap = new HashMap<>();
 	private HashMap<String, Long> delayMap = new HashMap<>();
 	protected float qualityScore;
@@ -84,6 +89,12 @@ public abstract class SBIDeviceHelper {
 		initDeviceDetails();
 	}
 
+	/**
+	 * Sets the digitalId, discover and deviceInfo payloads for the current device
+	 * status and purpose. The payloads are copied from the templates parsed once
+	 * per device type and subtype, then stamped with the current time and signed
+	 * on every call
+	 */
 	public void initDeviceDetails() {
 		setDigitalId(getDigitalId(getDeviceType(), getDeviceSubType()));
 		setDiscoverDto(getDiscoverInfo(getDeviceType(), getDeviceSubType(), getDigitalId()));
@@ -91,11 +102,82 @@ public abstract class SBIDeviceHelper {
 		setDeviceInfoDto(getDeviceInfoDto(getDeviceType(), getDeviceSubType(), getDeviceInfo()));
 	}
 
+	public void invalidateDeviceDetails() {
+		this.descriptorCache.clear();
+	}
+
+	/**
+	 * Returns a copy of the digitalId, discover or deviceInfo template of a device
+	 * type and subtype, parsed from its JSON file only when it is not cached or
+	 * its mosip.mock.sbi.device.descriptor.ttl expired; null if the file does not
+	 * exist
+	 */
+	@SuppressWarnings({ "unchecked" })
+	private <T> T readDescriptor(String deviceType, String deviceSubType, String fileName, Class<T> valueType,
+			UnaryOperator<T> copy) throws IOException {
+		String key = deviceType + "_" + deviceSubType + "_" + valueType.getSimpleName();
+		SBIDeviceDescriptor<T> descriptor = (SBIDeviceDescriptor<T>) this.descriptorCache.get(key);
+		if (descriptor == null || descriptor.isExpired(ApplicationPropertyHelper
+				.getLongPropertyKeyValue(SBIConstant.MOSIP_MOCK_SBI_DEVICE_DESCRIPTOR_TTL, 0))) {
+			if (!FileHelper.exists(fileName))
+				return null;
+			descriptor = new SBIDeviceDescriptor<>(
+					descriptorMapper.readValue(Files.readAllBytes(Paths.get(fileName)), valueType));
+			this.descriptorCache.put(key, descriptor);
+		}
+		return copy.apply(descriptor.getTemplate());
+	}
+
+	private static DigitalId copyDigitalId(DigitalId template) {
+		DigitalId digitalIdInfo = new DigitalId();
+		digitalIdInfo.setSerialNo(template.getSerialNo());
+		digitalIdInfo.setMake(template.getMake());
+		digitalIdInfo.setModel(template.getModel());
+		digitalIdInfo.setType(template.getType());
+		digitalIdInfo.setDeviceSubType(template.getDeviceSubType());
+		digitalIdInfo.setDeviceProviderId(template.getDeviceProviderId());
+		digitalIdInfo.setDeviceProvider(template.getDeviceProvider());
+		digitalIdInfo.setDateTime(template.getDateTime());
+		return digitalIdInfo;
+	}
+
+	private static DiscoverDto copyDiscoverDto(DiscoverDto template) {
+		DiscoverDto discoverDtoInfo = new DiscoverDto();
+		discoverDtoInfo.setDeviceId(template.getDeviceId());
+		discoverDtoInfo.setDeviceStatus(template.getDeviceStatus());
+		discoverDtoInfo.setCertification(template.getCertification());
+		discoverDtoInfo.setServiceVersion(template.getServiceVersion());
+		discoverDtoInfo.setCallbackId(template.getCallbackId());
+		discoverDtoInfo.setDigitalId(template.getDigitalId());
+		discoverDtoInfo.setDeviceCode(template.getDeviceCode());
+		discoverDtoInfo.setPurpose(template.getPurpose());
+		discoverDtoInfo.setError(template.getError());
+		discoverDtoInfo.setSpecVersion(template.getSpecVersion() == null ? null : template.getSpecVersion().clone());
+		discoverDtoInfo.setDeviceSubId(template.getDeviceSubId() == null ? null : template.getDeviceSubId().clone());
+		return discoverDtoInfo;
+	}
+
+	private static DeviceInfo copyDeviceInfo(DeviceInfo template) {
+		DeviceInfo devInfo = new DeviceInfo();
+		devInfo.setSpecVersion(template.getSpecVersion() == null ? null : template.getSpecVersion().clone());
+		devInfo.setEnv(template.getEnv());
+		devInfo.setDigitalId(template.getDigitalId());
+		devInfo.setDeviceId(template.getDeviceId());
+		devInfo.setDeviceCode(template.getDeviceCode());
+		devInfo.setPurpose(template.getPurpose());
+		devInfo.setServiceVersion(template.getServiceVersion());
+		devInfo.setDeviceStatus(template.getDeviceStatus());
+		devInfo.setFirmware(template.getFirmware());
+		devInfo.setCertification(template.getCertification());
+		devInfo.setDeviceSubId(template.getDeviceSubId() == null ? null : template.getDeviceSubId().clone());
+		devInfo.setCallbackId(template.getCallbackId());
+		return devInfo;
+	}
+
 	protected DigitalId getDigitalId(String deviceType, String deviceSubType) {
 		DigitalId digitalIdInfo = null;
 		String fileName = null;
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
 			switch (deviceType) {
 			case SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER:
 				if (deviceSubType.equals(SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_FINGER_SLAP)) {
@@ -124,15 +206,13 @@ public abstract class SBIDeviceHelper {
 				break;
 			}
 
-			if (FileHelper.exists(fileName)) {
-				File file = new File(fileName);
-				digitalIdInfo = objectMapper.readValue(file, DigitalId.class);
-				if (digitalIdInfo != null) {
-					digitalIdInfo.setDateTime(CryptoUtility.getTimestamp());
-				}
-
-				return digitalIdInfo;
+			digitalIdInfo = readDescriptor(deviceType, deviceSubType, fileName, DigitalId.class,
+					SBIDeviceHelper::copyDigitalId);
+			if (digitalIdInfo != null) {
+				digitalIdInfo.setDateTime(CryptoUtility.getTimestamp());
 			}
+
+			return digitalIdInfo;
 		} catch (Exception ex) {
 			logger.info("getDigitalId :: deviceType:: {} :: deviceSubType:: {}", deviceType, deviceSubType);
 			logger.error("getDigitalId :: error", ex);
@@ -145,7 +225,6 @@ public abstract class SBIDeviceHelper {
 		DiscoverDto discoverDtoInfo = null;
 		String fileName = null;
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
 			switch (deviceType) {
 			case SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER:
 				if (deviceSubType.equals(SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_FINGER_SLAP)) {
@@ -174,37 +253,35 @@ public abstract class SBIDeviceHelper {
 				break;
 			}
 
-			if (FileHelper.exists(fileName)) {
-				File jsonFile = new File(fileName);
-				discoverDtoInfo = objectMapper.readValue(jsonFile, DiscoverDto.class);
-				if (discoverDtoInfo != null) {
-					discoverDtoInfo.setDigitalId(getUnsignedDigitalId(digitalId, true));
-					discoverDtoInfo.setDeviceStatus(getDeviceStatus());
-					discoverDtoInfo.setPurpose(getPurpose());
-					discoverDtoInfo.setCallbackId(
-							"http://" + ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.SERVER_ADDRESS) + ":"
-									+ getPort() + "/");
-					switch (getDeviceStatus()) {
-					case SBIConstant.DEVICE_STATUS_NOTREADY:
-						discoverDtoInfo.setError(new ErrorInfo("110", SBIJsonInfo.getErrorDescription("en", "110")));
-						break;
-					case SBIConstant.DEVICE_STATUS_ISBUSY:
-						discoverDtoInfo.setError(new ErrorInfo("111", SBIJsonInfo.getErrorDescription("en", "111")));
-						break;
-					case SBIConstant.DEVICE_STATUS_NOTREGISTERED:
-						discoverDtoInfo.setDeviceId("");
-						discoverDtoInfo.setDeviceCode("");
-						discoverDtoInfo.setPurpose("");
-						discoverDtoInfo.setError(new ErrorInfo("100", SBIJsonInfo.getErrorDescription("en", "100")));
-						break;
-					default:
-						discoverDtoInfo.setError(new ErrorInfo("0", SBIJsonInfo.getErrorDescription("en", "0")));
-						break;
-					}
+			discoverDtoInfo = readDescriptor(deviceType, deviceSubType, fileName, DiscoverDto.class,
+					SBIDeviceHelper::copyDiscoverDto);
+			if (discoverDtoInfo != null) {
+				discoverDtoInfo.setDigitalId(getUnsignedDigitalId(digitalId, true));
+				discoverDtoInfo.setDeviceStatus(getDeviceStatus());
+				discoverDtoInfo.setPurpose(getPurpose());
+				discoverDtoInfo.setCallbackId(
+						"http://" + ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.SERVER_ADDRESS) + ":"
+								+ getPort() + "/");
+				switch (getDeviceStatus()) {
+				case SBIConstant.DEVICE_STATUS_NOTREADY:
+					discoverDtoInfo.setError(new ErrorInfo("110", SBIJsonInfo.getErrorDescription("en", "110")));
+					break;
+				case SBIConstant.DEVICE_STATUS_ISBUSY:
+					discoverDtoInfo.setError(new ErrorInfo("111", SBIJsonInfo.getErrorDescription("en", "111")));
+					break;
+				case SBIConstant.DEVICE_STATUS_NOTREGISTERED:
+					discoverDtoInfo.setDeviceId("");
+					discoverDtoInfo.setDeviceCode("");
+					discoverDtoInfo.setPurpose("");
+					discoverDtoInfo.setError(new ErrorInfo("100", SBIJsonInfo.getErrorDescription("en", "100")));
+					break;
+				default:
+					discoverDtoInfo.setError(new ErrorInfo("0", SBIJsonInfo.getErrorDescription("en", "0")));
+					break;
 				}
-
-				return discoverDtoInfo;
 			}
+
+			return discoverDtoInfo;
 		} catch (Exception ex) {
 			logger.info("getDiscoverInfo :: deviceType:: {} :: deviceSubType:: {}", deviceType, deviceSubType);
 			logger.error("getDiscoverInfo :: error", ex);
@@ -220,7 +297,6 @@ public abstract class SBIDeviceHelper {
 		String keyAlias = null;
 		String keyPwd = null;
 		try {
-			ObjectMapper objectMapper = new ObjectMapper();
 			switch (deviceType) {
 			case SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER:
 				if (deviceSubType.equals(SBIConstant.MOSIP_BIOMETRIC_SUBTYPE_FINGER_SLAP)) {
@@ -323,7 +399,8 @@ public abstract class SBIDeviceHelper {
 				break;
 			}
 
-			devInfo = objectMapper.readValue(new File(fileName), DeviceInfo.class);
+			devInfo = readDescriptor(deviceType, deviceSubType, fileName, DeviceInfo.class,
+					SBIDeviceHelper::copyDeviceInfo);
 			if (devInfo != null) {
 				devInfo.setDigitalId(getUnsignedDigitalId(digitalId, true));
 				devInfo.setDeviceStatus(getDeviceStatus());
@@ -543,7 +620,6 @@ public abstract class SBIDeviceHelper {
 
 	@SuppressWarnings({ "java:S3776" })
 	protected byte[] getLiveStreamBufferedImage() {
-		byte[] image = null;
 		String fileName = null;
 		try {
 			switch (getDeviceType()) {
@@ -600,10 +676,7 @@ public abstract class SBIDeviceHelper {
 				break;
 			}
 
-			if (FileHelper.exists(fileName)) {
-				image = FileHelper.readAllBytes(fileName);
-				return image;
-			}
+			return SBIProfileAssetCache.getInstance().getAsset(fileName).getData();
 		} catch (Exception ex) {
 			logger.info("getLiveStreamBufferedImage :: deviceType:: {} :: deviceSubType:: {}", deviceType,
 					deviceSubType);
@@ -613,34 +686,29 @@ public abstract class SBIDeviceHelper {
 	}
 
 	protected byte[] getBiometricISOImage(String seedName, String bioSubTypeFileName) {
-		byte[] image = null;
+		return getBiometricISOAsset(seedName, bioSubTypeFileName).getData();
+	}
+
+	/**
+	 * ISO file of the current profile and purpose, served from
+	 * {@link SBIProfileAssetCache} with its base64url value and quality score
+	 */
+	protected SBIProfileAsset getBiometricISOAsset(String seedName, String bioSubTypeFileName) {
 		String fileName = null;
-		boolean isFolderExist = true;
 		try {
 			fileName = FileHelper.getCanonicalPath()
 					+ ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.MOSIP_PROFILE_FOLDER_PATH)
-					+ File.separator + getProfileId() + File.separator + getPurpose();
-			if (!FileHelper.directoryExists(fileName)) {
-				isFolderExist = false;
-				if (FileHelper.directoryExists(fileName)) {
-					isFolderExist = true;
-				}
-			}
-			if (isFolderExist) {
-				fileName = fileName + File.separator + seedName + bioSubTypeFileName;
-				logger.info("getBiometricISOImage :: bioSubTypeFileName:: {} :: fileName:: {}", bioSubTypeFileName,
-						fileName);
-				if (FileHelper.exists(fileName)) {
-					image = FileHelper.readAllBytes(fileName);
-					return image;
-				}
-			}
+					+ File.separator + getProfileId() + File.separator + getPurpose() + File.separator + seedName
+					+ bioSubTypeFileName;
+			logger.debug("getBiometricISOAsset :: bioSubTypeFileName:: {} :: fileName:: {}", bioSubTypeFileName,
+					fileName);
+			return SBIProfileAssetCache.getInstance().getAsset(fileName);
 		} catch (Exception ex) {
-			logger.info("getBiometricISOImage :: profileId:: {} :: bioSubTypeFileName:: {}", getProfileId(),
+			logger.info("getBiometricISOAsset :: profileId:: {} :: bioSubTypeFileName:: {}", getProfileId(),
 					bioSubTypeFileName);
-			logger.error("getBiometricISOImage :: error", ex);
+			logger.error("getBiometricISOAsset :: error", ex);
 		}
-		return new byte[0];
+		return SBIProfileAsset.EMPTY;
 	}
 
 	public String getBiometricImageType() {
@@ -0,0 +1,69 @@
+package io.mosip.mock.sbi.devicehelper;
+
+import io.mosip.mock.sbi.util.BioUtilHelper;
+import io.mosip.mock.sbi.util.StringHelper;
+
+/**
+ * A profile ISO or stream image held by {@link SBIProfileAssetCache}: the raw
+ * bytes, with the base64url form and the ISO quality score computed on first
+ * use and then kept for every later capture.
+ */
+public class SBIProfileAsset {
+	public static final SBIProfileAsset EMPTY = new SBIProfileAsset(new byte[0]);
+
+	private final byte[] data;
+	private volatile String base64UrlData;
+	private volatile Integer qualityScore;
+
+	public SBIProfileAsset(byte[] data) {
+		super();
+		this.data = data;
+	}
+
+	/**
+	 * The cached bytes are shared by all devices, callers must not modify them.
+	 */
+	public byte[] getData() {
+		return data;
+	}
+
+	public boolean isEmpty() {
+		return data.length == 0;
+	}
+
+	public String getBase64UrlData() {
+		String value = this.base64UrlData;
+		if (value == null) {
+			value = StringHelper.base64UrlEncode(this.data);
+			this.base64UrlData = value;
+		}
+		return value;
+	}
+
+	public int getFingerQualityScore(String purpose) throws Exception {
+		Integer value = this.qualityScore;
+		if (value == null) {
+			value = BioUtilHelper.getFingerQualityScoreFromIso(purpose, this.data);
+			this.qualityScore = value;
+		}
+		return value;
+	}
+
+	public int getIrisQualityScore(String purpose) throws Exception {
+		Integer value = this.qualityScore;
+		if (value == null) {
+			value = BioUtilHelper.getIrisQualityScoreFromIso(purpose, this.data);
+			this.qualityScore = value;
+		}
+		return value;
+	}
+
+	public int getFaceQualityScore(String purpose) throws Exception {
+		Integer value = this.qualityScore;
+		if (value == null) {
+			value = BioUtilHelper.getFaceQualityScoreFromIso(purpose, this.data);
+			this.qualityScore = value;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,143 @@
+package io.mosip.mock.sbi.devicehelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
+import io.mosip.mock.sbi.util.FileHelper;
+
+/**
+ * Process wide cache of the profile ISO files and stream images, keyed by file
+ * name. Files are read on first use; {@link #invalidate()} is called when the
+ * profile is switched, and with mosip.mock.sbi.profile.cache.watch=true a
+ * watcher on the Profile folder drops entries whose files change on disk.
+ */
+public class SBIProfileAssetCache {
+	private static final Logger logger = LoggerFactory.getLogger(SBIProfileAssetCache.class);
+
+	private static final SBIProfileAssetCache INSTANCE = new SBIProfileAssetCache();
+
+	private final Map<String, SBIProfileAsset> assets = new ConcurrentHashMap<>();
+	private final boolean enabled;
+	private WatchService watchService;
+
+	private SBIProfileAssetCache() {
+		this.enabled = ApplicationPropertyHelper.getBooleanPropertyKeyValue(SBIConstant.MOSIP_PROFILE_CACHE_ENABLED,
+				true);
+		if (this.enabled
+				&& ApplicationPropertyHelper.getBooleanPropertyKeyValue(SBIConstant.MOSIP_PROFILE_CACHE_WATCH, false))
+			startWatcher();
+	}
+
+	public static SBIProfileAssetCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @return the cached asset, or {@link SBIProfileAsset#EMPTY} when the file
+	 *         does not exist (missing files are not cached)
+	 */
+	public SBIProfileAsset getAsset(String fileName) {
+		if (fileName == null)
+			return SBIProfileAsset.EMPTY;
+		if (!this.enabled)
+			return loadAsset(fileName);
+
+		SBIProfileAsset asset = this.assets.get(fileName);
+		if (asset == null) {
+			asset = loadAsset(fileName);
+			if (!asset.isEmpty())
+				this.assets.putIfAbsent(fileName, asset);
+		}
+		return asset;
+	}
+
+	public void invalidate() {
+		logger.info("invalidate :: profile asset cache :: {} entries", this.assets.size());
+		this.assets.clear();
+	}
+
+	public int size() {
+		return this.assets.size();
+	}
+
+	private SBIProfileAsset loadAsset(String fileName) {
+		try {
+			if (FileHelper.exists(fileName))
+				return new SBIProfileAsset(FileHelper.readAllBytes(fileName));
+		} catch (IOException ex) {
+			logger.error("loadAsset :: fileName :: {}", fileName, ex);
+		}
+		return SBIProfileAsset.EMPTY;
+	}
+
+	private void startWatcher() {
+		try {
+			Path profileRoot = Paths.get(FileHelper.getCanonicalPath()
+					+ ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.MOSIP_PROFILE_FOLDER_PATH));
+			if (!Files.isDirectory(profileRoot))
+				return;
+			this.watchService = FileSystems.getDefault().newWatchService();
+			try (Stream<Path> paths = Files.walk(profileRoot)) {
+				paths.filter(Files::isDirectory).forEach(this::register);
+			}
+			Thread watcher = new Thread(this::watch, "sbi-profile-watcher");
+			watcher.setDaemon(true);
+			watcher.start();
+			logger.info("startWatcher :: watching :: {}", profileRoot);
+		} catch (IOException ex) {
+			logger.error("startWatcher :: profile folder watch not started", ex);
+		}
+	}
+
+	private void register(Path directory) {
+		try {
+			directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException ex) {
+			logger.error("register :: directory :: {}", directory, ex);
+		}
+	}
+
+	private void watch() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = this.watchService.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			Path directory = (Path) key.watchable();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+					invalidate();
+					continue;
+				}
+				Path changed = directory.resolve((Path) event.context());
+				if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed))
+					register(changed);
+				String fileName = changed.toString();
+				// drop the file itself and anything cached below a changed folder
+				this.assets.keySet().removeIf(
+						name -> name.equals(fileName) || name.startsWith(fileName + File.separator));
+			}
+			key.reset();
+		}
+	}
+}
@@ -2,9 +2,8 @@ package io.mosip.mock.sbi.devicehelper.face;
 
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAsset;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
-import io.mosip.mock.sbi.util.BioUtilHelper;
-import io.mosip.mock.sbi.util.StringHelper;
 
 public class SBIFaceHelper extends SBIDeviceHelper {
 	private SBIFaceHelper(int port, String purpose, String keystoreFilePath, String biometricImageType) {
@@ -47,7 +46,7 @@ public class SBIFaceHelper extends SBIDeviceHelper {
 	@Override
 	@SuppressWarnings({ "java:S3776" })
 	public int getBioCapture(boolean isUsedForAuthenication) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 
 		String seedName = "";
 		if (this.getProfileId().equalsIgnoreCase(SBIConstant.PROFILE_AUTOMATIC)) {
@@ -66,24 +65,24 @@ public class SBIFaceHelper extends SBIDeviceHelper {
 		}
 
 		if (!isUsedForAuthenication) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE);
-			if (isoData != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureFace()) {
-				((SBIFaceCaptureInfo) getCaptureInfo()).setBioValueFace(StringHelper.base64UrlEncode(isoData));
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE);
+			if (isoAsset != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureFace()) {
+				((SBIFaceCaptureInfo) getCaptureInfo()).setBioValueFace(isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFaceCaptureInfo) getCaptureInfo())
-							.setCaptureScoreFace(BioUtilHelper.getFaceQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreFace(isoAsset.getFaceQualityScore(getPurpose()));
 				else
 					((SBIFaceCaptureInfo) getCaptureInfo()).setCaptureScoreFace(getQualityScore());
 			}
 			((SBIFaceCaptureInfo) getCaptureInfo()).setCaptureFace(true);
 
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE_EXCEPTION);
-			if (isoData != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureExceptionPhoto()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE_EXCEPTION);
+			if (isoAsset != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureExceptionPhoto()) {
 				((SBIFaceCaptureInfo) getCaptureInfo())
-						.setBioValueExceptionPhoto(StringHelper.base64UrlEncode(isoData));
+						.setBioValueExceptionPhoto(isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFaceCaptureInfo) getCaptureInfo())
-							.setCaptureScoreFace(BioUtilHelper.getFaceQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreFace(isoAsset.getFaceQualityScore(getPurpose()));
 				else
 					((SBIFaceCaptureInfo) getCaptureInfo()).setCaptureScoreFace(getQualityScore());
 			}
@@ -94,13 +93,13 @@ public class SBIFaceHelper extends SBIDeviceHelper {
 				getCaptureInfo().setCaptureCompleted(true);
 			}
 		} else {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE);
-			if (isoData != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureFace()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_FACE);
+			if (isoAsset != null && !((SBIFaceCaptureInfo) getCaptureInfo()).isCaptureFace()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_UNKNOWN,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFaceCaptureInfo) getCaptureInfo())
-							.setCaptureScoreFace(BioUtilHelper.getFaceQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreFace(isoAsset.getFaceQualityScore(getPurpose()));
 				else
 					((SBIFaceCaptureInfo) getCaptureInfo()).setCaptureScoreFace(getQualityScore());
 				((SBIFaceCaptureInfo) getCaptureInfo()).setCaptureFace(true);
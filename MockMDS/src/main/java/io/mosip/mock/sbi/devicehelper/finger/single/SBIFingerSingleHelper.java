@@ -2,9 +2,8 @@ package io.mosip.mock.sbi.devicehelper.finger.single;
 
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAsset;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
-import io.mosip.mock.sbi.util.BioUtilHelper;
-import io.mosip.mock.sbi.util.StringHelper;
 
 public class SBIFingerSingleHelper extends SBIDeviceHelper {
 	private SBIFingerSingleHelper(int port, String purpose, String keystoreFilePath, String biometricImageType) {
@@ -47,7 +46,7 @@ public class SBIFingerSingleHelper extends SBIDeviceHelper {
 	@Override
 	@SuppressWarnings({ "java:S3776" })
 	public int getBioCapture(boolean isUsedForAuthenication) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 
 		String seedName = "";
 		if (this.getProfileId().equalsIgnoreCase(SBIConstant.PROFILE_AUTOMATIC)) {
@@ -66,141 +65,141 @@ public class SBIFingerSingleHelper extends SBIDeviceHelper {
 		}
 
 		if (isUsedForAuthenication && getDeviceSubId() == SBIConstant.DEVICE_FINGER_SINGLE_SUB_TYPE_ID) {
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_INDEX,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLI(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLI(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLI(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureLI(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLM()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLM()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_MIDDLE,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLM(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLM(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLM(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureLM(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLR()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLR()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_RING,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLR(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLR(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLR(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureLR(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLL()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLL()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_LITTLE,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLL(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLL(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLL(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureLL(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_INDEX,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRI(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRI(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRI(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureRI(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRM()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRM()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_MIDDLE,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRM(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRM(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRM(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureRM(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRR()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRR()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_RING,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRR(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRR(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRR(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureRR(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRL()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRL()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_LITTLE,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRL(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRL(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRL(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureRL(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLT()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureLT()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_THUMB,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLT(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLT(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLT(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureLT(true);
 			}
 
-			isoData = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
-					? getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB_WSQ)
-					: getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB);
-			if (isoData != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRT()) {
+			isoAsset = getBiometricImageType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_IMAGE_TYPE_WSQ)
+					? getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB_WSQ)
+					: getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB);
+			if (isoAsset != null && !((SBIFingerSingleCaptureInfo) getCaptureInfo()).isCaptureRT()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_THUMB,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIFingerSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRT(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRT(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRT(getQualityScore());
 				((SBIFingerSingleCaptureInfo) getCaptureInfo()).setCaptureRT(true);
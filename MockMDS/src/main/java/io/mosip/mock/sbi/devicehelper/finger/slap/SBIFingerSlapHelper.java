@@ -3,9 +3,8 @@ package io.mosip.mock.sbi.devicehelper.finger.slap;
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBICheckState;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAsset;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
-import io.mosip.mock.sbi.util.BioUtilHelper;
-import io.mosip.mock.sbi.util.StringHelper;
 
 public class SBIFingerSlapHelper extends SBIDeviceHelper {
 	private SBIFingerSlapHelper(int port, String purpose, String keystorePath, String biometricImageType) {
@@ -83,20 +82,20 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 	@SuppressWarnings({ "java:S3776" })
 	private void setBioCaptureFingerprintForSubTypeThumb(boolean isUsedForAuthenication, String seedName)
 			throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftThumb() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLT()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_THUMB);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLT()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLT(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLT(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_THUMB,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLT(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLT(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreLT(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureLT(true);
@@ -107,17 +106,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightThumb() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRT()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_THUMB);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRT()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRT(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRT(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_THUMB,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRT(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRT(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreRT(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureRT(true);
@@ -135,20 +134,20 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 	@SuppressWarnings({ "java:S3776" })
 	private void setBioCaptureFingerprintForSubTypeRight(boolean isUsedForAuthenication, String seedName)
 			throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightIndex() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_INDEX);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRI()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRI(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_INDEX,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRI(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRI(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreRI(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureRI(true);
@@ -159,17 +158,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightMiddle() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRM()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_MIDDLE);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRM()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRM(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRM(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_MIDDLE,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRM(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRM(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreRM(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureRM(true);
@@ -180,17 +179,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightRing() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRR()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_RING);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRR()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRR(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRR(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_RING,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRR(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRR(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreRR(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureRR(true);
@@ -201,17 +200,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightLittle() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRL()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_LITTLE);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureRL()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRL(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueRL(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_LITTLE,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRL(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRL(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreRL(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureRL(true);
@@ -231,20 +230,20 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 	@SuppressWarnings({ "java:S3776" })
 	private void setBioCaptureFingerprintForSubTypeLeft(boolean isUsedForAuthenication, String seedName)
 			throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftIndex() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_INDEX);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLI()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLI(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_INDEX,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLI(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLI(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreLI(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureLI(true);
@@ -255,17 +254,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftMiddle() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLM()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_MIDDLE);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLM()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLM(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLM(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_MIDDLE,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLM(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLM(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreLM(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureLM(true);
@@ -276,17 +275,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftRing() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLR()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_RING);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLR()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLR(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLR(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_RING,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLR(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLR(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreLR(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureLR(true);
@@ -297,17 +296,17 @@ public class SBIFingerSlapHelper extends SBIDeviceHelper {
 
 		if (((SBIFingerSlapBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftLittle() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE);
-			if (isoData != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLL()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_LITTLE);
+			if (isoAsset != null && !((SBIFingerSlapCaptureInfo) getCaptureInfo()).isCaptureLL()) {
 				if (!isUsedForAuthenication) {
-					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLL(StringHelper.base64UrlEncode(isoData));
+					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setBioValueLL(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_LITTLE,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIFingerSlapCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLL(BioUtilHelper.getFingerQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLL(isoAsset.getFingerQualityScore(getPurpose()));
 				else
 					((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureScoreLL(getQualityScore());
 				((SBIFingerSlapCaptureInfo) getCaptureInfo()).setCaptureLL(true);
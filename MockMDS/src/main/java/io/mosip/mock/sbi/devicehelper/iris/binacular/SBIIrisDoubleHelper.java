@@ -3,9 +3,8 @@ package io.mosip.mock.sbi.devicehelper.iris.binacular;
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBICheckState;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAsset;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
-import io.mosip.mock.sbi.util.BioUtilHelper;
-import io.mosip.mock.sbi.util.StringHelper;
 
 public class SBIIrisDoubleHelper extends SBIDeviceHelper {
 	private SBIIrisDoubleHelper(int port, String purpose, String keystoreFilePath, String biometricImageType) {
@@ -81,21 +80,21 @@ public class SBIIrisDoubleHelper extends SBIDeviceHelper {
 	}
 
 	private void setBioCaptureIrisForSubTypeLeft(boolean isUsedForAuthenication, String seedName) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIIrisDoubleBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftIris() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
-			if (isoData != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
+			if (isoAsset != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
 				if (!isUsedForAuthenication) {
-					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueLI(StringHelper.base64UrlEncode(isoData));
+					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueLI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_IRIS,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 
 				if (isScoreFromIso())
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureScoreLI(getQualityScore());
 				((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureLI(true);
@@ -110,20 +109,20 @@ public class SBIIrisDoubleHelper extends SBIDeviceHelper {
 	}
 
 	private void setBioCaptureIrisForSubTypeRight(boolean isUsedForAuthenication, String seedName) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIIrisDoubleBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightIris() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
-			if (isoData != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
+			if (isoAsset != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
 				if (!isUsedForAuthenication) {
-					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueRI(StringHelper.base64UrlEncode(isoData));
+					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueRI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_IRIS,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureScoreRI(getQualityScore());
 				((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureRI(true);
@@ -138,20 +137,20 @@ public class SBIIrisDoubleHelper extends SBIDeviceHelper {
 
 	@SuppressWarnings({ "java:S3776" })
 	private void setBioCaptureIrisForSubTypeBoth(boolean isUsedForAuthenication, String seedName) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 		if (((SBIIrisDoubleBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingLeftIris() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
-			if (isoData != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
+			if (isoAsset != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
 				if (!isUsedForAuthenication) {
-					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueLI(StringHelper.base64UrlEncode(isoData));
+					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueLI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_IRIS,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureScoreLI(getQualityScore());
 				((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureLI(true);
@@ -162,17 +161,17 @@ public class SBIIrisDoubleHelper extends SBIDeviceHelper {
 
 		if (((SBIIrisDoubleBioExceptionInfo) getCaptureInfo().getBioExceptionInfo())
 				.getChkMissingRightIris() == SBICheckState.UNCHECKED) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
-			if (isoData != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
+			if (isoAsset != null && !((SBIIrisDoubleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
 				if (!isUsedForAuthenication) {
-					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueRI(StringHelper.base64UrlEncode(isoData));
+					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setBioValueRI(isoAsset.getBase64UrlData());
 				} else {
 					getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_IRIS,
-							StringHelper.base64UrlEncode(isoData));
+							isoAsset.getBase64UrlData());
 				}
 				if (isScoreFromIso())
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureScoreRI(getQualityScore());
 				((SBIIrisDoubleCaptureInfo) getCaptureInfo()).setCaptureRI(true);
@@ -2,9 +2,8 @@ package io.mosip.mock.sbi.devicehelper.iris.monocular;
 
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAsset;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
-import io.mosip.mock.sbi.util.BioUtilHelper;
-import io.mosip.mock.sbi.util.StringHelper;
 
 public class SBIIrisSingleHelper extends SBIDeviceHelper {
 	private SBIIrisSingleHelper(int port, String purpose, String keystoreFilePath, String biometricImageType) {
@@ -47,7 +46,7 @@ public class SBIIrisSingleHelper extends SBIDeviceHelper {
 	@Override
 	@SuppressWarnings({ "java:S1172", "java:S3776" })
 	public int getBioCapture(boolean isForAuthenication) throws Exception {
-		byte[] isoData = null;
+		SBIProfileAsset isoAsset = null;
 
 		String seedName = "";
 		if (this.getProfileId().equalsIgnoreCase(SBIConstant.PROFILE_AUTOMATIC)) {
@@ -66,25 +65,25 @@ public class SBIIrisSingleHelper extends SBIDeviceHelper {
 		}
 
 		if (isForAuthenication && getDeviceSubId() == SBIConstant.DEVICE_IRIS_SINGLE_SUB_TYPE_ID) {
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
-			if (isoData != null && !((SBIIrisSingleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_LEFT_IRIS);
+			if (isoAsset != null && !((SBIIrisSingleCaptureInfo) getCaptureInfo()).isCaptureLI()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_LEFT_IRIS,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIIrisSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreLI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreLI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisSingleCaptureInfo) getCaptureInfo()).setCaptureScoreLI(getQualityScore());
 				((SBIIrisSingleCaptureInfo) getCaptureInfo()).setCaptureLI(true);
 			}
 
-			isoData = getBiometricISOImage(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
-			if (isoData != null && !((SBIIrisSingleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
+			isoAsset = getBiometricISOAsset(seedName, SBIConstant.PROFILE_BIO_FILE_NAME_RIGHT_IRIS);
+			if (isoAsset != null && !((SBIIrisSingleCaptureInfo) getCaptureInfo()).isCaptureRI()) {
 				getCaptureInfo().addBiometricForBioSubType(SBIConstant.BIO_NAME_RIGHT_IRIS,
-						StringHelper.base64UrlEncode(isoData));
+						isoAsset.getBase64UrlData());
 				if (isScoreFromIso())
 					((SBIIrisSingleCaptureInfo) getCaptureInfo())
-							.setCaptureScoreRI(BioUtilHelper.getIrisQualityScoreFromIso(getPurpose(), isoData));
+							.setCaptureScoreRI(isoAsset.getIrisQualityScore(getPurpose()));
 				else
 					((SBIIrisSingleCaptureInfo) getCaptureInfo()).setCaptureScoreRI(getQualityScore());
 				((SBIIrisSingleCaptureInfo) getCaptureInfo()).setCaptureLI(true);
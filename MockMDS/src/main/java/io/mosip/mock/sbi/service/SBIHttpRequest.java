@@ -0,0 +1,96 @@
+package io.mosip.mock.sbi.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One HTTP request read by {@link SBIHttpRequestParser}; header names are case
+ * insensitive and the body is kept as the raw bytes received.
+ */
+public class SBIHttpRequest {
+	private static final byte[] EMPTY_BODY = new byte[0];
+
+	private String method;
+	private String path;
+	private String version;
+	private Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	private byte[] body = EMPTY_BODY;
+
+	public SBIHttpRequest(String method, String path, String version) {
+		super();
+		setMethod(method);
+		setPath(path);
+		setVersion(version);
+	}
+
+	public String getRequestLine() {
+		return getMethod() + " " + getPath() + " " + getVersion();
+	}
+
+	public String getHeader(String name) {
+		return this.headers.get(name);
+	}
+
+	public void addHeader(String name, String value) {
+		this.headers.merge(name, value, (oldValue, newValue) -> oldValue + "," + newValue);
+	}
+
+	public boolean hasHeaderToken(String name, String token) {
+		String value = getHeader(name);
+		if (value == null)
+			return false;
+		for (String item : value.split(",")) {
+			if (item.trim().equalsIgnoreCase(token))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * HTTP/1.1 connections are persistent unless the client sends Connection:
+	 * close, HTTP/1.0 ones only when the client asks for keep-alive.
+	 */
+	public boolean isKeepAlive() {
+		if (hasHeaderToken("Connection", "close"))
+			return false;
+		if ("HTTP/1.0".equalsIgnoreCase(getVersion()))
+			return hasHeaderToken("Connection", "keep-alive");
+		return true;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public void setMethod(String method) {
+		this.method = method;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public void setPath(String path) {
+		this.path = path;
+	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	public void setBody(byte[] body) {
+		this.body = body != null ? body : EMPTY_BODY;
+	}
+}
@@ -0,0 +1,177 @@
+package io.mosip.mock.sbi.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.mosip.mock.sbi.exception.SBIException;
+
+/**
+ * Incremental HTTP/1.1 request parser working on a byte buffer over the socket
+ * input stream. Bytes read past the end of one request stay in the buffer for
+ * the next one, so the same parser is reused for every request on a keep-alive
+ * connection. Bodies are read as exact byte counts (Content-Length) or
+ * de-chunked (Transfer-Encoding: chunked), and a request larger than
+ * maxRequestSize is rejected.
+ */
+public class SBIHttpRequestParser {
+	private static final int BUFFER_SIZE = 8192;
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+
+	private final InputStream inputStream;
+	private final int maxRequestSize;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int position = 0;
+	private int limit = 0;
+	private int requestSize = 0;
+
+	public SBIHttpRequestParser(InputStream inputStream, int maxRequestSize) {
+		super();
+		this.inputStream = inputStream;
+		this.maxRequestSize = maxRequestSize;
+	}
+
+	/**
+	 * @return the next request, or null when the client closed the connection
+	 *         before sending one
+	 */
+	public SBIHttpRequest parse() throws IOException, SBIException {
+		this.requestSize = 0;
+		String requestLine = readLine();
+		// empty lines before the request line are ignored (RFC 7230 3.5)
+		while (requestLine != null && requestLine.isEmpty()) {
+			requestLine = readLine();
+		}
+		if (requestLine == null)
+			return null;
+
+		String[] parts = requestLine.trim().split("\\s+");
+		if (parts.length != 3)
+			throw new SBIException("400", "Malformed HTTP request line :: " + requestLine, null);
+		SBIHttpRequest request = new SBIHttpRequest(parts[0], parts[1], parts[2]);
+
+		String line;
+		while ((line = readLine()) != null && !line.isEmpty()) {
+			int index = line.indexOf(':');
+			if (index > 0)
+				request.addHeader(line.substring(0, index).trim(), line.substring(index + 1).trim());
+		}
+		if (line == null)
+			throw new EOFException("Connection closed inside HTTP request headers");
+
+		if (request.hasHeaderToken("Transfer-Encoding", "chunked")) {
+			request.setBody(readChunkedBody());
+		} else {
+			String contentLength = request.getHeader("Content-Length");
+			if (contentLength != null)
+				request.setBody(readFully(parseLength(contentLength, 10)));
+		}
+		return request;
+	}
+
+	private byte[] readChunkedBody() throws IOException, SBIException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		while (true) {
+			String sizeLine = readLine();
+			if (sizeLine == null)
+				throw new EOFException("Connection closed inside chunked HTTP body");
+			int extension = sizeLine.indexOf(';');
+			int chunkSize = parseLength(extension >= 0 ? sizeLine.substring(0, extension) : sizeLine, 16);
+			if (chunkSize == 0)
+				break;
+			body.write(readFully(chunkSize));
+			String chunkEnd = readLine();
+			if (chunkEnd == null || !chunkEnd.isEmpty())
+				throw new SBIException("400", "Malformed chunk in HTTP body", null);
+		}
+		// trailer fields are not used
+		String trailer = readLine();
+		while (trailer != null && !trailer.isEmpty()) {
+			trailer = readLine();
+		}
+		return body.toByteArray();
+	}
+
+	private int parseLength(String value, int radix) throws SBIException {
+		long length;
+		try {
+			length = Long.parseLong(value.trim(), radix);
+		} catch (NumberFormatException ex) {
+			throw new SBIException("400", "Invalid HTTP body length :: " + value, ex);
+		}
+		if (length < 0 || this.requestSize + length > this.maxRequestSize)
+			throw new SBIException("413", "HTTP request larger than " + this.maxRequestSize + " bytes", null);
+		return (int) length;
+	}
+
+	/**
+	 * Reads a header line as ISO-8859-1 without the trailing CRLF (or bare LF).
+	 */
+	private String readLine() throws IOException, SBIException {
+		ByteArrayOutputStream line = null;
+		while (true) {
+			if (this.position == this.limit && !fill()) {
+				if (line == null)
+					return null;
+				throw new EOFException("Connection closed inside HTTP request line");
+			}
+			int start = this.position;
+			while (this.position < this.limit && this.buffer[this.position] != LF) {
+				this.position++;
+			}
+			boolean found = this.position < this.limit;
+			int end = this.position;
+			if (found)
+				this.position++;
+			consumed(this.position - start);
+
+			if (line == null && found) {
+				if (end > start && this.buffer[end - 1] == CR)
+					end--;
+				return new String(this.buffer, start, end - start, StandardCharsets.ISO_8859_1);
+			}
+			if (line == null)
+				line = new ByteArrayOutputStream();
+			line.write(this.buffer, start, end - start);
+			if (found) {
+				byte[] bytes = line.toByteArray();
+				int length = bytes.length > 0 && bytes[bytes.length - 1] == CR ? bytes.length - 1 : bytes.length;
+				return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+			}
+		}
+	}
+
+	private byte[] readFully(int length) throws IOException, SBIException {
+		byte[] data = new byte[length];
+		int offset = Math.min(length, this.limit - this.position);
+		System.arraycopy(this.buffer, this.position, data, 0, offset);
+		this.position += offset;
+		while (offset < length) {
+			int count = this.inputStream.read(data, offset, length - offset);
+			if (count < 0)
+				throw new EOFException("Connection closed inside HTTP body, expected " + length + " bytes");
+			offset += count;
+		}
+		consumed(length);
+		return data;
+	}
+
+	private boolean fill() throws IOException {
+		this.position = 0;
+		this.limit = 0;
+		int count = this.inputStream.read(this.buffer, 0, this.buffer.length);
+		if (count < 0)
+			return false;
+		this.limit = count;
+		return true;
+	}
+
+	private void consumed(int count) throws SBIException {
+		this.requestSize += count;
+		if (this.requestSize > this.maxRequestSize)
+			throw new SBIException("413", "HTTP request larger than " + this.maxRequestSize + " bytes", null);
+	}
+}
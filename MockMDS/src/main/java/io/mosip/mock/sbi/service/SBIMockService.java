@@ -6,6 +6,10 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +26,9 @@ import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
 
 public class SBIMockService implements Runnable {
 	private static final Logger LOGGER = LoggerFactory.getLogger(SBIMockService.class);
+	private static final long DEFAULT_DEVICE_LOCK_TIMEOUT = 5000;
+	private static final int DEFAULT_SERVER_BACKLOG = 50;
+	private static final int DEFAULT_SERVER_MAX_WORKERS = 256;
 
 	protected String profileId = SBIConstant.PROFILE_DEFAULT;
 	protected String keystoreFilePath;
@@ -29,11 +36,14 @@ public class SBIMockService implements Runnable {
 	protected String biometricType;
 	protected String biometricImageType;
 	protected Map<String, SBIDeviceHelper> deviceHelpers = new HashMap<>();
+	protected Map<String, Semaphore> deviceLocks = new ConcurrentHashMap<>();
 
 	protected Thread runningThread = null;
 	protected int serverPort = 0;
 	protected ServerSocket serverSocket = null;
 	protected boolean isStopped = false;
+	protected ExecutorService workerExecutor = null;
+	protected Semaphore workerPermits = null;
 
 	/**
 	 * Set Purpose and biometricType
@@ -56,6 +66,7 @@ public class SBIMockService implements Runnable {
 		try {
 			createServerSocket();
 			initDeviceHelpers();
+			initWorkerExecutor();
 			while (!isStopped()) {
 				Socket clientSocket = null;
 				try {
@@ -68,17 +79,68 @@ public class SBIMockService implements Runnable {
 					throw new SBIException(ex.hashCode() + "", "SBI Mock Service Error Accepting Client Connection",
 							new Throwable(ex.getLocalizedMessage()));
 				}
-				new Thread(new SBIWorker(this, clientSocket, getServerPort())).start();
+				dispatch(clientSocket);
 			}
 		} catch (SBIException ex) {
 			LOGGER.error("SBI Mock Service Error", ex);
 		} finally {
 			setStopped(true);
+			if (this.workerExecutor != null)
+				this.workerExecutor.shutdownNow();
 		}
 
 		LOGGER.info("SBI Mock Service Stopped.");
 	}
 
+	/**
+	 * With server.engine=virtual every connection runs on a virtual thread with
+	 * HTTP/1.1 keep-alive; server.maxworkers bounds the connections served at once
+	 * and the accept loop waits for a free permit. The default engine keeps the
+	 * thread per connection, one request per connection behaviour.
+	 */
+	protected void initWorkerExecutor() {
+		String engine = ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.SERVER_ENGINE);
+		if (engine != null && engine.trim().equalsIgnoreCase(SBIConstant.SERVER_ENGINE_VIRTUAL)) {
+			int maxWorkers = ApplicationPropertyHelper.getIntPropertyKeyValue(SBIConstant.SERVER_MAX_WORKERS,
+					DEFAULT_SERVER_MAX_WORKERS);
+			this.workerPermits = new Semaphore(maxWorkers);
+			this.workerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+			LOGGER.info("SBI Mock Service virtual thread engine :: maxWorkers :: {}", maxWorkers);
+		}
+	}
+
+	protected void dispatch(Socket clientSocket) {
+		if (this.workerExecutor == null) {
+			new Thread(new SBIWorker(this, clientSocket, getServerPort())).start();
+			return;
+		}
+
+		try {
+			this.workerPermits.acquire();
+		} catch (InterruptedException ex) {
+			LOGGER.error("SBI Mock Service interrupted waiting for a worker", ex);
+			Thread.currentThread().interrupt();
+			closeQuietly(clientSocket);
+			return;
+		}
+		SBIWorker worker = new SBIWorker(this, clientSocket, getServerPort(), true);
+		this.workerExecutor.execute(() -> {
+			try {
+				worker.run();
+			} finally {
+				this.workerPermits.release();
+			}
+		});
+	}
+
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException ex) {
+			LOGGER.error("SBI Mock Service Error closing Client Connection", ex);
+		}
+	}
+
 	protected void initDeviceHelpers() {
 		if (getBiometricType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_TYPE_BIOMETRIC_DEVICE)
 				|| getBiometricType().equalsIgnoreCase(SBIConstant.MOSIP_BIOMETRIC_TYPE_FINGER)) {
@@ -118,6 +180,12 @@ public class SBIMockService implements Runnable {
 		}
 	}
 
+	public void invalidateDeviceDetails() {
+		for (SBIDeviceHelper deviceHelper : this.deviceHelpers.values()) {
+			deviceHelper.invalidateDeviceDetails();
+		}
+	}
+
 	public SBIDeviceHelper getDeviceHelper(String deviceTypeName) {
 		if (this.deviceHelpers != null && this.deviceHelpers.size() >= 0 && this.deviceHelpers.containsKey(deviceTypeName)) {
 				return this.deviceHelpers.get(deviceTypeName);
@@ -126,6 +194,26 @@ public class SBIMockService implements Runnable {
 		return null;
 	}
 
+	/**
+	 * Capture, rCapture and stream calls hold this lock while touching the device
+	 * helper. It is keyed the same way as deviceHelpers, so calls on different
+	 * devices no longer block each other. The sub ids of one device share its
+	 * lock, since they share the capture, status and profile fields of its helper.
+	 */
+	public Semaphore getDeviceLock(SBIDeviceHelper deviceHelper) {
+		String key = deviceHelper.getDeviceType() + "_" + deviceHelper.getDeviceSubType();
+		return this.deviceLocks.computeIfAbsent(key, k -> new Semaphore(1, isDeviceLockFair()));
+	}
+
+	public long getDeviceLockTimeout() {
+		return ApplicationPropertyHelper.getLongPropertyKeyValue(SBIConstant.MOSIP_MOCK_SBI_DEVICE_LOCK_TIMEOUT,
+				DEFAULT_DEVICE_LOCK_TIMEOUT);
+	}
+
+	private boolean isDeviceLockFair() {
+		return ApplicationPropertyHelper.getBooleanPropertyKeyValue(SBIConstant.MOSIP_MOCK_SBI_DEVICE_LOCK_FAIR, true);
+	}
+
 	public void createServerSocket() throws SBIException {
 		try {
 
@@ -133,7 +221,9 @@ public class SBIMockService implements Runnable {
 			LOGGER.info("SBI Proxy Service Check port {}", this.serverPort);
 			InetAddress addr = InetAddress
 					.getByName(ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.SERVER_ADDRESS));
-			this.serverSocket = new ServerSocket(this.serverPort, 50, addr);
+			int backlog = ApplicationPropertyHelper.getIntPropertyKeyValue(SBIConstant.SERVER_BACKLOG,
+					DEFAULT_SERVER_BACKLOG);
+			this.serverSocket = new ServerSocket(this.serverPort, backlog, addr);
 
 			LOGGER.info("SBI Proxy Service started on port {}", this.serverPort);
 		} catch (IOException ex) {
@@ -1,5 +1,7 @@
 package io.mosip.mock.sbi.service;
 
+import java.nio.charset.StandardCharsets;
+
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
 
@@ -46,24 +48,44 @@ public class SBIResponseInfo {
 		return httpResponse;
 	}
 
-	@SuppressWarnings({ "java:S1172" })
 	public static String generateResponse(String lang, int port, String response) {
+		return generateResponse(lang, port, response, false);
+	}
+
+	/**
+	 * With keepAlive the Content-Length is the exact UTF-8 byte count and nothing
+	 * follows the body, so the client can read the next response on the same
+	 * connection.
+	 */
+	@SuppressWarnings({ "java:S1172" })
+	public static String generateResponse(String lang, int port, String response, boolean keepAlive) {
 		String httpResponse = "";
 		httpResponse = "HTTP/1.1 200 OK\r\n";
 		httpResponse += getAccessControlAllowInfo();
 		httpResponse += "CACHE-CONTROL:no-cache\r\n";
 		if (response != null) {
-			httpResponse += "Content-Length: " + response.length() + "\r\n";
+			httpResponse += "Content-Length: "
+					+ (keepAlive ? response.getBytes(StandardCharsets.UTF_8).length : response.length()) + "\r\n";
 		}
 		httpResponse += "Content-Type: application/json\r\n";
 		httpResponse += "LOCATION: HTTP://" + ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.SERVER_ADDRESS)
 				+ ":" + port + "/\r\n";
-		httpResponse += "Connection: close\r\n\r\n";
-		httpResponse += response + "\r\n\r\n";
+		if (keepAlive) {
+			httpResponse += getKeepAliveInfo();
+			httpResponse += response;
+		} else {
+			httpResponse += "Connection: close\r\n\r\n";
+			httpResponse += response + "\r\n\r\n";
+		}
 
 		return httpResponse;
 	}
 
+	private static String getKeepAliveInfo() {
+		long timeout = ApplicationPropertyHelper.getLongPropertyKeyValue(SBIConstant.SERVER_KEEPALIVE_TIMEOUT, 5000);
+		return "Connection: keep-alive\r\n" + "Keep-Alive: timeout=" + Math.max(1, timeout / 1000) + "\r\n\r\n";
+	}
+
 	private static String getAccessControlAllowInfo() {
 		String httpHeaderInfo = "";
 		String allowOrigin = getAccessControlAllowOrigin();
@@ -96,13 +118,22 @@ public class SBIResponseInfo {
 	}
 
 	public static String generateOptionsResponse() {
+		return generateOptionsResponse(false);
+	}
+
+	public static String generateOptionsResponse(boolean keepAlive) {
 		String httpResponse = "";
 		httpResponse = "HTTP/1.1 200 OK\r\n";
 		httpResponse += "Access-Control-Allow-Origin:*\r\n";
 		httpResponse += "Access-Control-Allow-Headers:Content-Type\r\n";
 		httpResponse += "Access-Control-Allow-Methods:OPTIONS, RCAPTURE, CAPTURE, MOSIPDINFO, MOSIPDISC, STREAM, GET, POST\r\n";
 		httpResponse += "CACHE-CONTROL:no-cache\r\n";
-		httpResponse += "Connection: Keep-Alive\r\n\r\n";
+		if (keepAlive) {
+			httpResponse += "Content-Length: 0\r\n";
+			httpResponse += getKeepAliveInfo();
+		} else {
+			httpResponse += "Connection: Keep-Alive\r\n\r\n";
+		}
 		return httpResponse;
 	}
 }
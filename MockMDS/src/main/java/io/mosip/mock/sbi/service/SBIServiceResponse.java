@@ -1,47 +1,38 @@
 package io.mosip.mock.sbi.service;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.biometric.provider.CryptoUtility;
+import org.biometric.provider.IdaCertificateCache;
 import org.biometric.provider.JwtUtility;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.map.SerializationConfig;
 import org.codehaus.jackson.map.annotate.JsonSerialize.Inclusion;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.squareup.okhttp.MediaType;
-import com.squareup.okhttp.OkHttpClient;
-import com.squareup.okhttp.Request;
-import com.squareup.okhttp.RequestBody;
-import com.squareup.okhttp.Response;
-
 import io.mosip.kernel.core.util.CryptoUtil;
-import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.mock.sbi.SBIConstant;
 import io.mosip.mock.sbi.devicehelper.SBIBioSubTypeInfo;
 import io.mosip.mock.sbi.devicehelper.SBICheckState;
 import io.mosip.mock.sbi.devicehelper.SBIDeviceHelper;
+import io.mosip.mock.sbi.devicehelper.SBIProfileAssetCache;
 import io.mosip.mock.sbi.devicehelper.face.SBIFaceCaptureInfo;
 import io.mosip.mock.sbi.devicehelper.finger.single.SBIFingerSingleCaptureInfo;
 import io.mosip.mock.sbi.devicehelper.finger.slap.SBIFingerSlapBioExceptionInfo;
@@ -71,11 +62,10 @@ import io.mosip.registration.mdm.dto.StreamingRequestDetail;
 
 public class SBIServiceResponse {
 	private static final Logger logger = LoggerFactory.getLogger(SBIServiceResponse.class);
-	private static final String AUTH_REQ_TEMPLATE = "{ \"id\": \"string\",\"metadata\": {},\"request\": { \"appId\": \"%s\", \"clientId\": \"%s\", \"secretKey\": \"%s\" }, \"requesttime\": \"%s\", \"version\": \"string\"}";
 
 	protected int port = 0;
 	protected String request = "";
-	private static Semaphore semaphore = new Semaphore(1);
+	protected byte[] requestBody = null;
 
 	private static final String[] bioExceptionsArrayFinger = { "Left IndexFinger", "Left MiddleFinger",
 			"Left RingFinger", "Left LittleFinger", "Left Thumb", "Right IndexFinger", "Right MiddleFinger",
@@ -95,6 +85,15 @@ public class SBIServiceResponse {
 		setPort(port);
 	}
 
+	/**
+	 * Routes on the request line and deserialises the JSON straight from the body
+	 * bytes read by {@link SBIHttpRequestParser}.
+	 */
+	public String getServiceresponse(SBIMockService mockService, Socket socket, SBIHttpRequest httpRequest) {
+		setRequestBody(httpRequest.getBody());
+		return getServiceresponse(mockService, socket, httpRequest.getRequestLine());
+	}
+
 	public String getServiceresponse(SBIMockService mockService, Socket socket, String strJsonRequest) {
 		String responseJson = "";
 		setRequest(strJsonRequest);
@@ -569,6 +568,9 @@ public class SBIServiceResponse {
 				response = SBIJsonInfo.getAdminApiErrorJson(lang, "0", "");
 			}
 
+			// profile files and device payloads are built again for the new profile
+			SBIProfileAssetCache.getInstance().invalidate();
+			mockService.invalidateDeviceDetails();
 			logger.info("processSetProfileInfo :: ProfileId :: {}", mockService.getProfileId());
 		} catch (Exception ex) {
 			response = SBIJsonInfo.getAdminApiErrorJson(lang, "999", ex.getLocalizedMessage() + "");
@@ -644,6 +646,8 @@ public class SBIServiceResponse {
 			boolean streamTimeOut = false;
 
 			long delay = deviceHelper.getDelayForMethod(SBIConstant.MOSIP_METHOD_STREAM);
+			Semaphore deviceLock = mockService.getDeviceLock(deviceHelper);
+			long lockTimeout = mockService.getDeviceLockTimeout();
 			while (true) {
 				delay(delay);
 				if (isStreamTimeoutSet && System.currentTimeMillis() > endTime) {
@@ -656,10 +660,15 @@ public class SBIServiceResponse {
 					break;
 				}
 
+				boolean isLocked = false;
 				try {
-					// acquiring the lock
-					if (semaphore != null)
-						semaphore.acquire();
+					// acquiring the lock for this device helper only
+					isLocked = deviceLock.tryAcquire(lockTimeout, TimeUnit.MILLISECONDS);
+					if (!isLocked) {
+						logger.warn("device lock not acquired in {} ms :: deviceId :: {} :: deviceSubId :: {}",
+								lockTimeout, deviceId, deviceSubId);
+						continue;
+					}
 
 					returnCode = deviceHelper.getLiveStream();
 
@@ -670,12 +679,8 @@ public class SBIServiceResponse {
 				} catch (Exception ex) {
 					logger.error("processLiveStreamInfo :: error ::", ex);
 				} finally {
-					try {
-						if (semaphore != null)
-							semaphore.release();
-					} catch (Exception ex) {
-						logger.error("processLiveStreamInfo :: semaphore error ::", ex);
-					}
+					if (isLocked)
+						deviceLock.release();
 				}
 
 				if (deviceHelper.getCaptureInfo() != null && deviceHelper.getCaptureInfo().getImage() != null) {
@@ -700,13 +705,6 @@ public class SBIServiceResponse {
 		} catch (Exception ex) {
 			response = SBIJsonInfo.getStreamErrorJson(lang, "610", ex.getLocalizedMessage());
 			logger.error("processLiveStreamInfo", ex);
-		} finally {
-			try {
-				if (semaphore != null)
-					semaphore.release();
-			} catch (Exception ex) {
-				logger.error("processLiveStreamInfo :: semaphore error ::", ex);
-			}
 		}
 		return response;
 	}
@@ -888,6 +886,8 @@ public class SBIServiceResponse {
 			boolean captureTimeOut = false;
 			boolean captureLiveStreamEnded = false;
 			long delay = deviceHelper.getDelayForMethod(SBIConstant.MOSIP_METHOD_RCAPTURE);
+			Semaphore deviceLock = mockService.getDeviceLock(deviceHelper);
+			long lockTimeout = mockService.getDeviceLockTimeout();
 			while (true) {
 				if (!captureStarted) {
 					deviceHelper.setProfileId(mockService.getProfileId());
@@ -900,14 +900,19 @@ public class SBIServiceResponse {
 					captureStarted = true;
 				}
 				delay(delay);
+				boolean isLocked = false;
 				try {
 					if (System.currentTimeMillis() > endTime) {
 						captureTimeOut = true;
 						break;
 					}
-					// acquiring the lock
-					if (semaphore != null)
-						semaphore.acquire();
+					// acquiring the lock for this device helper only
+					isLocked = deviceLock.tryAcquire(lockTimeout, TimeUnit.MILLISECONDS);
+					if (!isLocked) {
+						logger.warn("device lock not acquired in {} ms :: deviceId :: {} :: deviceSubId :: {}",
+								lockTimeout, deviceId, deviceSubId);
+						continue;
+					}
 
 					if (deviceHelper.getCaptureInfo() == null) {
 						captureLiveStreamEnded = true;
@@ -922,12 +927,8 @@ public class SBIServiceResponse {
 				} catch (Exception ex) {
 					logger.error("processRCaptureInfo :: error ::", ex);
 				} finally {
-					try {
-						if (semaphore != null)
-							semaphore.release();
-					} catch (Exception ex) {
-						logger.error("processRCaptureInfo :: semaphore error ::", ex);
-					}
+					if (isLocked)
+						deviceLock.release();
 				}
 
 				Thread.sleep(30);
@@ -979,13 +980,6 @@ public class SBIServiceResponse {
 		Exception ex) {
 			response = SBIJsonInfo.getCaptureErrorJson(specVersion, lang, "710", "", true);
 			logger.error("processRCaptureInfo", ex);
-		} finally {
-			try {
-				if (semaphore != null)
-					semaphore.release();
-			} catch (Exception ex) {
-				logger.error("processRCaptureInfo :: semaphore error ::", ex);
-			}
 		}
 		return response;
 	}
@@ -1115,6 +1109,8 @@ public class SBIServiceResponse {
 			boolean captureTimeOut = false;
 			boolean captureLiveStreamEnded = false;
 			long delay = deviceHelper.getDelayForMethod(SBIConstant.MOSIP_METHOD_CAPTURE);
+			Semaphore deviceLock = mockService.getDeviceLock(deviceHelper);
+			long lockTimeout = mockService.getDeviceLockTimeout();
 
 			while (true) {
 				if (!captureStarted) {
@@ -1127,14 +1123,19 @@ public class SBIServiceResponse {
 					captureStarted = true;
 				}
 				delay(delay);
+				boolean isLocked = false;
 				try {
 					if (System.currentTimeMillis() > endTime) {
 						captureTimeOut = true;
 						break;
 					}
-					// acquiring the lock
-					if (semaphore != null)
-						semaphore.acquire();
+					// acquiring the lock for this device helper only
+					isLocked = deviceLock.tryAcquire(lockTimeout, TimeUnit.MILLISECONDS);
+					if (!isLocked) {
+						logger.warn("device lock not acquired in {} ms :: deviceId :: {} :: deviceSubId :: {}",
+								lockTimeout, deviceId, deviceSubId);
+						continue;
+					}
 
 					if (deviceHelper.getCaptureInfo() == null) {
 						captureLiveStreamEnded = true;
@@ -1149,12 +1150,8 @@ public class SBIServiceResponse {
 				} catch (Exception ex) {
 					logger.error("processCaptureInfo :: error ::", ex);
 				} finally {
-					try {
-						if (semaphore != null)
-							semaphore.release();
-					} catch (Exception ex) {
-						logger.error("processCaptureInfo :: semaphore error ::", ex);
-					}
+					if (isLocked)
+						deviceLock.release();
 				}
 
 				Thread.sleep(30);
@@ -1209,13 +1206,6 @@ public class SBIServiceResponse {
 		} catch (Exception ex) {
 			response = SBIJsonInfo.getCaptureErrorJson(specVersion, lang, "810", "", false);
 			logger.error("processCaptureInfo", ex);
-		} finally {
-			try {
-				if (semaphore != null)
-					semaphore.release();
-			} catch (Exception ex) {
-				logger.error("processCaptureInfo :: semaphore error ::", ex);
-			}
 		}
 		return response;
 	}
@@ -2185,104 +2175,55 @@ public class SBIServiceResponse {
 		return null;
 	}
 
-	@SuppressWarnings({ "java:S3776" })
 	public Object getRequestJson(String methodVerb) {
-		if (getRequest() != null && getRequest().indexOf("{") >= 0) {
-			try {
-				ObjectMapper mapper = new ObjectMapper();
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_DISC_VERB))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")),
-							DeviceDiscoveryRequestDetail.class);
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_STREAM_VERB))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")),
-							StreamingRequestDetail.class);
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_RCAPTURE_VERB))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), CaptureRequestDto.class);
-
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_STATUS))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), StatusRequest.class);
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_SCORE))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), ScoreRequest.class);
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_DELAY))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), DelayRequest.class);
-				if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_PROFILE))
-					return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), ProfileRequest.class);
-
-				return null;
-			} catch (Exception ex) {
-				logger.error("getRequestJson", ex);
-				return null;
-			}
-		} else {
+		Class<?> requestClass = getRequestClass(methodVerb);
+		if (requestClass == null)
 			return null;
+		try {
+			ObjectMapper mapper = new ObjectMapper();
+			if (getRequestBody() != null)
+				return getRequestBody().length > 0 ? mapper.readValue(getRequestBody(), requestClass) : null;
+			if (getRequest() != null && getRequest().indexOf("{") >= 0)
+				return mapper.readValue(getRequest().substring(getRequest().indexOf("{")), requestClass);
+		} catch (Exception ex) {
+			logger.error("getRequestJson", ex);
 		}
+		return null;
+	}
+
+	private static Class<?> getRequestClass(String methodVerb) {
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_DISC_VERB))
+			return DeviceDiscoveryRequestDetail.class;
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_STREAM_VERB))
+			return StreamingRequestDetail.class;
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_RCAPTURE_VERB))
+			return CaptureRequestDto.class;
+
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_STATUS))
+			return StatusRequest.class;
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_SCORE))
+			return ScoreRequest.class;
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_DELAY))
+			return DelayRequest.class;
+		if (methodVerb.equalsIgnoreCase(SBIConstant.MOSIP_ADMIN_API_PROFILE))
+			return ProfileRequest.class;
+
+		return null;
 	}
 
 	@SuppressWarnings({ "java:S112" })
 	public PublicKey getPublicKeyToEncryptCaptureBioValue() throws Exception {
-		String certificate = getPublicKeyFromIDA();
-		certificate = trimBeginEnd(certificate);
-		CertificateFactory cf = CertificateFactory.getInstance("X.509");
-		X509Certificate x509Certificate = (X509Certificate) cf
-				.generateCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(certificate)));
-
-		return x509Certificate.getPublicKey();
+		return IdaCertificateCache.getInstance().getCertificate().getPublicKey();
 	}
 
 	@SuppressWarnings({ "java:S112" })
 	public String getThumbprint() throws Exception {
-		String certificate = getPublicKeyFromIDA();
-		certificate = trimBeginEnd(certificate);
-		CertificateFactory cf = CertificateFactory.getInstance("X.509");
-		X509Certificate x509Certificate = (X509Certificate) cf
-				.generateCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(certificate)));
+		X509Certificate x509Certificate = IdaCertificateCache.getInstance().getCertificate();
 
 		// thumbprint =
 		return CryptoUtil.computeFingerPrint(x509Certificate.getEncoded(), null);
 	}
 
-	public String getPublicKeyFromIDA() {
-		OkHttpClient client = new OkHttpClient();
-		String requestBody = String.format(AUTH_REQ_TEMPLATE,
-				ApplicationPropertyHelper.getPropertyKeyValue("mosip.auth.appid"),
-				ApplicationPropertyHelper.getPropertyKeyValue("mosip.auth.clientid"),
-				ApplicationPropertyHelper.getPropertyKeyValue("mosip.auth.secretkey"),
-				DateUtils.getUTCCurrentDateTime());
-
-		MediaType mediaType = MediaType.parse("application/json; charset=utf-8");
-		RequestBody body = RequestBody.create(mediaType, requestBody);
-		Request requestInfo = new Request.Builder()
-				.url(ApplicationPropertyHelper.getPropertyKeyValue("mosip.auth.server.url")).post(body).build();
-		try {
-			Response response = client.newCall(requestInfo).execute();
-			if (response.isSuccessful()) {
-				String authToken = response.header("authorization");
-
-				Request idarequest = new Request.Builder().header("cookie", "Authorization=" + authToken)
-						.url(ApplicationPropertyHelper.getPropertyKeyValue("mosip.ida.server.url")).get().build();
-
-				Response idaResponse = new OkHttpClient().newCall(idarequest).execute();
-				if (idaResponse.isSuccessful()) {
-					JSONObject jsonObject = new JSONObject(idaResponse.body().string());
-					jsonObject = jsonObject.getJSONObject("response");
-					return jsonObject.getString("certificate");
-				}
-			}
-
-		} catch (IOException | JSONException e) {
-			logger.error("getPublicKeyFromIDA", e);
-		}
-		return null;
-	}
-
-	@SuppressWarnings({ "java:S5852" })
-	private String trimBeginEnd(String pKey) {
-		pKey = pKey.replaceAll("-*BEGIN([^-]*)-*(\r?\n)?", "");
-		pKey = pKey.replaceAll("-*END([^-]*)-*(\r?\n)?", "");
-		pKey = pKey.replaceAll("\\s", "");
-		return pKey;
-	}
-
 	public int getPort() {
 		return port;
 	}
@@ -2299,12 +2240,12 @@ public class SBIServiceResponse {
 		this.request = request;
 	}
 
-	public static Semaphore getSemaphore() {
-		return semaphore;
+	public byte[] getRequestBody() {
+		return requestBody;
 	}
 
-	public static void setSemaphore(Semaphore semaphore) {
-		SBIServiceResponse.semaphore = semaphore;
+	public void setRequestBody(byte[] requestBody) {
+		this.requestBody = requestBody;
 	}
 
 	private void delay(long millseconds) {
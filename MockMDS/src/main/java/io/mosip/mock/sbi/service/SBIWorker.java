@@ -1,16 +1,16 @@
 package io.mosip.mock.sbi.service;
 
 import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.exception.SBIException;
 import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
 
 public class SBIWorker implements Runnable {
@@ -20,76 +20,56 @@ public class SBIWorker implements Runnable {
 	private SBIMockService mockService;
 	private Socket clientSocket;
 	private int serverPort;
+	private boolean keepAlive;
 
 	/**
 	 * Constructor SBIWroker
 	 */
 	public SBIWorker(SBIMockService mockService, Socket clientSocket, int serverPort) {
+		this(mockService, clientSocket, serverPort, false);
+	}
+
+	/**
+	 * Constructor SBIWroker, with keepAlive the connection is reused for the next
+	 * request until the client closes it, asks for Connection: close, starts a
+	 * STREAM or stays idle longer than server.keepalive.timeout
+	 */
+	public SBIWorker(SBIMockService mockService, Socket clientSocket, int serverPort, boolean keepAlive) {
 		super();
 		setMockService(mockService);
 		setClientSocket(clientSocket);
 		setServerPort(serverPort);
+		setKeepAlive(keepAlive);
 	}
 
 	@Override
-	@SuppressWarnings({ "java:S1141", "java:S2093", "java:S3776" })
+	@SuppressWarnings({ "java:S1141", "java:S2093" })
 	public void run() {
 		BufferedOutputStream bos = null;
-		BufferedReader reader = null;
+		SBIHttpRequestParser parser = null;
 		try {
 			if (getClientSocket() != null) {
 				bos = new BufferedOutputStream(getClientSocket().getOutputStream());
-				reader = new BufferedReader(
-						new InputStreamReader(getClientSocket().getInputStream(), StandardCharsets.UTF_8));
+				parser = new SBIHttpRequestParser(getClientSocket().getInputStream(),
+						ApplicationPropertyHelper.getIntPropertyKeyValue(SBIConstant.SERVER_REQUEST_MAX_SIZE, 1048576));
 			}
 
-			StringBuilder out = new StringBuilder();
-			String line;
-			int contentLength = 0;
-			try {
-				while (!((line = reader.readLine()).equals(""))) {
-					if (line.indexOf("content-length:") >= 0 || line.indexOf("Content-Length:") >= 0) {
-						contentLength = Integer.parseInt(line.substring(16, line.length()));
-					}
-					out.append(line);
-				}
-			} catch (Exception e) {
-				logger.error("run", e);
-			}
-
-			char[] requestBody = new char[contentLength];
-
-			reader.read(requestBody, 0, contentLength);
-			String strJsonRequest = out.append(new String(requestBody, 0, requestBody.length)).toString();
-			logger.info("Request data :: {}", strJsonRequest);
-			String[] arrMethodName = strJsonRequest.split("HTTP/1.1");
-			String strMethodName = null;
-			if (arrMethodName != null && arrMethodName.length > 0) {
-				arrMethodName = arrMethodName[0].trim().split("/");
-				if (arrMethodName != null && arrMethodName.length > 0) {
-					strMethodName = arrMethodName[0].trim();
-				}
-			}
-			logger.info("Method Name :: {}", strMethodName);
-			String corsHeaderMethods = ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.CORS_HEADER_METHODS);
-
-			String responseJson = null;
-			if (strMethodName != null && corsHeaderMethods.contains(strMethodName)) {
-				logger.info("Method Valid ::");
-				if (strMethodName.equals("OPTIONS")) {
-					responseJson = SBIResponseInfo.generateOptionsResponse();
-				} else {
-					SBIServiceResponse serviceResponse = new SBIServiceResponse(getServerPort());
-					responseJson = SBIResponseInfo.generateResponse("en", getServerPort(),
-							serviceResponse.getServiceresponse(getMockService(), getClientSocket(), strJsonRequest));
+			if (isKeepAlive()) {
+				getClientSocket().setSoTimeout(
+						ApplicationPropertyHelper.getIntPropertyKeyValue(SBIConstant.SERVER_KEEPALIVE_TIMEOUT, 5000));
+				int maxRequests = ApplicationPropertyHelper
+						.getIntPropertyKeyValue(SBIConstant.SERVER_KEEPALIVE_MAX_REQUESTS, 100);
+				int requestCount = 0;
+				boolean keepConnection = true;
+				while (keepConnection && !getClientSocket().isClosed()) {
+					requestCount++;
+					keepConnection = processRequest(parser, bos, requestCount < maxRequests);
 				}
 			} else {
-				logger.info("Method InValid ::");
-				responseJson = SBIResponseInfo.generateErrorResponse("en", getServerPort(), "500", "");
+				processRequest(parser, bos, false);
 			}
-			logger.info("Response data :: {}", responseJson);
-			bos.write(responseJson.getBytes());
-			bos.flush();
+		} catch (SocketTimeoutException e) {
+			logger.debug("run :: keep-alive connection idle timeout");
 		} catch (IOException e) {
 			try {
 				bos.write(
@@ -113,7 +93,6 @@ public class SBIWorker implements Runnable {
 				logger.error("run", e);
 			}
 			try {
-				reader.close();
 				if (getClientSocket() != null)
 					getClientSocket().close();
 			} catch (IOException e) {
@@ -122,6 +101,48 @@ public class SBIWorker implements Runnable {
 		}
 	}
 
+	/**
+	 * Reads one request from the connection and writes its response.
+	 *
+	 * @return true when the connection can be reused for another request
+	 */
+	private boolean processRequest(SBIHttpRequestParser parser, BufferedOutputStream bos, boolean allowKeepAlive)
+			throws IOException, SBIException {
+		SBIHttpRequest request = parser.parse();
+		// clients may close the connection between requests
+		if (request == null)
+			return false;
+
+		logger.info("Request data :: {} :: body bytes :: {}", request.getRequestLine(), request.getBody().length);
+		String strMethodName = request.getMethod();
+		logger.info("Method Name :: {}", strMethodName);
+		String corsHeaderMethods = ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.CORS_HEADER_METHODS);
+
+		// STREAM writes a multipart response until the socket is closed
+		boolean reuseConnection = allowKeepAlive && request.isKeepAlive()
+				&& !SBIConstant.MOSIP_METHOD_STREAM.equals(strMethodName);
+		String responseJson = null;
+		if (strMethodName != null && corsHeaderMethods.contains(strMethodName)) {
+			logger.info("Method Valid ::");
+			if (strMethodName.equals("OPTIONS")) {
+				responseJson = SBIResponseInfo.generateOptionsResponse(reuseConnection);
+			} else {
+				SBIServiceResponse serviceResponse = new SBIServiceResponse(getServerPort());
+				responseJson = SBIResponseInfo.generateResponse("en", getServerPort(),
+						serviceResponse.getServiceresponse(getMockService(), getClientSocket(), request),
+						reuseConnection);
+			}
+		} else {
+			logger.info("Method InValid ::");
+			responseJson = SBIResponseInfo.generateErrorResponse("en", getServerPort(), "500", "");
+			reuseConnection = false;
+		}
+		logger.info("Response data :: {}", responseJson);
+		bos.write(responseJson.getBytes(StandardCharsets.UTF_8));
+		bos.flush();
+		return reuseConnection;
+	}
+
 	public SBIMockService getMockService() {
 		return mockService;
 	}
@@ -145,4 +166,12 @@ public class SBIWorker implements Runnable {
 	public void setServerPort(int serverPort) {
 		this.serverPort = serverPort;
 	}
-}
\ No newline at end of file
+
+	public boolean isKeepAlive() {
+		return keepAlive;
+	}
+
+	public void setKeepAlive(boolean keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+}
@@ -32,6 +32,27 @@ public class ApplicationPropertyHelper {
 		return null;
 	}
 
+	public static int getIntPropertyKeyValue(String key, int defaultValue) {
+		String value = getPropertyKeyValue(key);
+		if (value == null || value.trim().length() == 0)
+			return defaultValue;
+		return Integer.parseInt(value.trim());
+	}
+
+	public static long getLongPropertyKeyValue(String key, long defaultValue) {
+		String value = getPropertyKeyValue(key);
+		if (value == null || value.trim().length() == 0)
+			return defaultValue;
+		return Long.parseLong(value.trim());
+	}
+
+	public static boolean getBooleanPropertyKeyValue(String key, boolean defaultValue) {
+		String value = getPropertyKeyValue(key);
+		if (value == null || value.trim().length() == 0)
+			return defaultValue;
+		return Boolean.parseBoolean(value.trim());
+	}
+
 	@SuppressWarnings({ "java:S2139" })
 	private static void createPropertyInfo() throws IOException {
 		if (Objects.isNull(properties)) {
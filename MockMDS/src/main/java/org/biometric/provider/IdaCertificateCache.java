@@ -0,0 +1,103 @@
+package org.biometric.provider;
+
+import java.security.cert.X509Certificate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
+
+/**
+ * Process wide cache of the IDA encryption certificate.
+ * <p>
+ * The certificate is loaded from the configured {@link IdaCertificateProvider}
+ * on first use and kept for {@code mosip.ida.certificate.cache.ttl}
+ * milliseconds, or until it expires if that is earlier, so an auth capture of
+ * ten fingers needs no IDA round trip once the certificate is cached.
+ * Concurrent callers wait for a single refresh instead of each calling the
+ * provider.
+ * </p>
+ */
+public class IdaCertificateCache {
+	private static final Logger logger = LoggerFactory.getLogger(IdaCertificateCache.class);
+
+	private static final IdaCertificateCache INSTANCE = new IdaCertificateCache();
+
+	private final IdaCertificateProvider provider;
+	private volatile X509Certificate certificate;
+	private volatile long expiryTime;
+
+	private IdaCertificateCache() {
+		this(createProvider(ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.MOSIP_IDA_CERTIFICATE_PROVIDER)));
+	}
+
+	/**
+	 * Creates a cache over the given provider, used by tests and benchmarks.
+	 *
+	 * @param provider the certificate source
+	 */
+	public IdaCertificateCache(IdaCertificateProvider provider) {
+		this.provider = provider;
+	}
+
+	public static IdaCertificateCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the cached certificate, loading it from the provider when the cache
+	 * is empty or expired.
+	 *
+	 * @return the IDA encryption certificate
+	 * @throws Exception if the provider fails to load the certificate
+	 */
+	@SuppressWarnings({ "java:S112" })
+	public X509Certificate getCertificate() throws Exception {
+		X509Certificate cached = this.certificate;
+		if (cached != null && System.currentTimeMillis() < this.expiryTime)
+			return cached;
+
+		synchronized (this) {
+			if (this.certificate != null && System.currentTimeMillis() < this.expiryTime)
+				return this.certificate;
+
+			X509Certificate loaded = this.provider.getCertificate();
+			long ttl = ApplicationPropertyHelper.getLongPropertyKeyValue(SBIConstant.MOSIP_IDA_CERTIFICATE_CACHE_TTL,
+					3600000L);
+			long now = System.currentTimeMillis();
+			long notAfter = loaded.getNotAfter().getTime();
+			// an already expired (test) certificate is still kept for the ttl
+			this.expiryTime = notAfter > now ? Math.min(now + ttl, notAfter) : now + ttl;
+			this.certificate = loaded;
+			logger.info("getCertificate :: loaded from {} :: subject :: {}", this.provider.getClass().getSimpleName(),
+					loaded.getSubjectX500Principal());
+			return loaded;
+		}
+	}
+
+	/**
+	 * Drops the cached certificate so the next call reloads it.
+	 */
+	public synchronized void invalidate() {
+		this.certificate = null;
+		this.expiryTime = 0;
+	}
+
+	public IdaCertificateProvider getProvider() {
+		return provider;
+	}
+
+	private static IdaCertificateProvider createProvider(String name) {
+		if (name == null || name.isBlank() || SBIConstant.IDA_CERTIFICATE_PROVIDER_SERVER.equalsIgnoreCase(name))
+			return new IdaServerCertificateProvider();
+		if (SBIConstant.IDA_CERTIFICATE_PROVIDER_LOCAL.equalsIgnoreCase(name))
+			return new IdaLocalCertificateProvider();
+		try {
+			return (IdaCertificateProvider) Class.forName(name.trim()).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | ClassCastException ex) {
+			logger.error("createProvider :: unknown IDA certificate provider {}, using server", name, ex);
+			return new IdaServerCertificateProvider();
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package org.biometric.provider;
+
+import java.security.cert.X509Certificate;
+
+/**
+ * Source of the IDA partner certificate used to encrypt auth capture bio
+ * values.
+ * <p>
+ * Implementations are selected with the {@code mosip.ida.certificate.provider}
+ * property ({@code server}, {@code local} or the fully qualified name of a
+ * class implementing this interface with a public no-argument constructor) and
+ * are always called through {@link IdaCertificateCache}.
+ * </p>
+ */
+public interface IdaCertificateProvider {
+	/**
+	 * Loads the IDA encryption certificate.
+	 *
+	 * @return the X.509 certificate, never null
+	 * @throws Exception if the certificate cannot be loaded
+	 */
+	@SuppressWarnings({ "java:S112" })
+	X509Certificate getCertificate() throws Exception;
+}
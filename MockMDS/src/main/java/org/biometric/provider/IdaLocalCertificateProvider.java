@@ -0,0 +1,62 @@
+package org.biometric.provider;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+import io.mosip.mock.sbi.SBIConstant;
+import io.mosip.mock.sbi.util.ApplicationPropertyHelper;
+
+/**
+ * Offline stand-in for the IDA server: loads the certificate from
+ * {@code mosip.ida.certificate.local.file}, relative to the working directory.
+ * <p>
+ * A {@code .p12}, {@code .pfx} or {@code .jks} file is opened as a keystore
+ * with {@code mosip.ida.certificate.local.keystorepwd} and the certificate of
+ * {@code mosip.ida.certificate.local.keyalias} (or the first alias) is used;
+ * any other file is read as a PEM or DER encoded certificate. With this provider
+ * auth captures work, and can be load tested, without network access. The
+ * encrypted bio values are only readable by the holder of the matching private
+ * key.
+ * </p>
+ */
+public class IdaLocalCertificateProvider implements IdaCertificateProvider {
+	@Override
+	@SuppressWarnings({ "java:S112" })
+	public X509Certificate getCertificate() throws Exception {
+		String fileName = new File(".").getCanonicalPath()
+				+ ApplicationPropertyHelper.getPropertyKeyValue(SBIConstant.MOSIP_IDA_CERTIFICATE_LOCAL_FILE);
+		String lowerName = fileName.toLowerCase();
+		if (lowerName.endsWith(".p12") || lowerName.endsWith(".pfx") || lowerName.endsWith(".jks"))
+			return getKeyStoreCertificate(fileName);
+
+		byte[] data = Files.readAllBytes(new File(fileName).toPath());
+		String text = new String(data, StandardCharsets.US_ASCII);
+		if (text.contains("BEGIN CERTIFICATE"))
+			return JwtUtility.parseCertificate(text);
+		return JwtUtility.parseCertificate(data);
+	}
+
+	private X509Certificate getKeyStoreCertificate(String fileName) throws Exception {
+		String password = ApplicationPropertyHelper
+				.getPropertyKeyValue(SBIConstant.MOSIP_IDA_CERTIFICATE_LOCAL_KEYSTORE_PWD);
+		char[] pwd = password != null ? password.toCharArray() : new char[0];
+		KeyStore keyStore = KeyStore.getInstance(fileName.toLowerCase().endsWith(".jks") ? "JKS" : "PKCS12");
+		try (InputStream inputStream = new FileInputStream(fileName)) {
+			keyStore.load(inputStream, pwd);
+		}
+		String alias = ApplicationPropertyHelper
+				.getPropertyKeyValue(SBIConstant.MOSIP_IDA_CERTIFICATE_LOCAL_KEY_ALIAS);
+		if (alias == null || alias.isBlank())
+			alias = keyStore.aliases().nextElement();
+		X509Certificate certificate = (X509Certificate) keyStore.getCertificate(alias);
+		if (certificate == null)
+			throw new IOException("No certificate for alias " + alias + " in " + fileName);
+		return certificate;
+	}
+}
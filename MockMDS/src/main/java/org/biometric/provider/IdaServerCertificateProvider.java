@@ -0,0 +1,21 @@
+package org.biometric.provider;
+
+import java.security.cert.X509Certificate;
+
+/**
+ * Fetches the IDA certificate from the IDA server configured with
+ * {@code mosip.auth.server.url} and {@code mosip.ida.server.url}, using the
+ * shared connection-pooled client of {@link JwtUtility}.
+ */
+public class IdaServerCertificateProvider implements IdaCertificateProvider {
+	@Override
+	@SuppressWarnings({ "java:S112" })
+	public X509Certificate getCertificate() throws Exception {
+		JwtUtility jwtUtility = new JwtUtility();
+		String certificate = jwtUtility.getCertificateFromIDA();
+		if (certificate == null)
+			throw new IllegalStateException(
+					"IDA certificate not returned by " + jwtUtility.getPropertyValue("mosip.ida.server.url"));
+		return JwtUtility.parseCertificate(certificate);
+	}
+}
@@ -14,6 +14,7 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
+import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.security.spec.InvalidKeySpecException;
@@ -22,6 +23,7 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.jose4j.jws.JsonWebSignature;
@@ -31,6 +33,7 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.squareup.okhttp.ConnectionPool;
 import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Request;
@@ -53,6 +56,29 @@ public class JwtUtility {
 
 	private static final String X509 = "X.509";
 
+	/**
+	 * Shared client for the IDA and auth server calls, so connections are pooled
+	 * and reused instead of a new client being created per request.
+	 */
+	private static final OkHttpClient HTTP_CLIENT = createHttpClient();
+
+	private static OkHttpClient createHttpClient() {
+		OkHttpClient client = new OkHttpClient();
+		client.setConnectionPool(new ConnectionPool(5, TimeUnit.MINUTES.toMillis(5)));
+		client.setConnectTimeout(10, TimeUnit.SECONDS);
+		client.setReadTimeout(30, TimeUnit.SECONDS);
+		return client;
+	}
+
+	/**
+	 * Returns the shared, connection-pooled HTTP client.
+	 *
+	 * @return the shared OkHttpClient
+	 */
+	public static OkHttpClient getHttpClient() {
+		return HTTP_CLIENT;
+	}
+
 	/**
 	 * Generates a JWT token using the provided data, private key, and optional
 	 * X.509 certificate chain.
@@ -180,11 +206,12 @@ public class JwtUtility {
 	}
 
 	/**
-	 * Retrieves an X.509 certificate from the Identity and Authentication (IDA)
+	 * Retrieves the X.509 certificate of the Identity and Authentication (IDA)
 	 * server to be used for encrypting the biometric capture value.
 	 * <p>
-	 * The method communicates with the IDA server to fetch the certificate, decodes
-	 * it from Base64 format, and returns the X509Certificate object.
+	 * The certificate is served from {@link IdaCertificateCache}, which loads it
+	 * from the IDA server or the local stand-in configured with
+	 * {@code mosip.ida.certificate.provider}.
 	 * </p>
 	 *
 	 * @return the X509Certificate object used for encryption
@@ -192,13 +219,31 @@ public class JwtUtility {
 	 *                   parsing
 	 */
 	public X509Certificate getCertificateToEncryptCaptureBioValue() throws Exception {
-		String certificate = getCertificateFromIDA();
-		certificate = trimBeginEnd(certificate);
-		CertificateFactory cf = CertificateFactory.getInstance(X509);
+		return IdaCertificateCache.getInstance().getCertificate();
+	}
+
+	/**
+	 * Parses a Base64 encoded X.509 certificate, with or without the PEM header
+	 * and footer lines.
+	 *
+	 * @param certificate the Base64 or PEM encoded certificate
+	 * @return the X509Certificate object
+	 * @throws CertificateException if the certificate cannot be parsed
+	 */
+	public static X509Certificate parseCertificate(String certificate) throws CertificateException {
+		return parseCertificate(Base64.getDecoder().decode(trimBeginEnd(certificate)));
+	}
 
-		// X509Certificate
-		return (X509Certificate) cf
-				.generateCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(certificate)));
+	/**
+	 * Parses a DER encoded X.509 certificate.
+	 *
+	 * @param certificate the DER encoded certificate bytes
+	 * @return the X509Certificate object
+	 * @throws CertificateException if the certificate cannot be parsed
+	 */
+	public static X509Certificate parseCertificate(byte[] certificate) throws CertificateException {
+		CertificateFactory cf = CertificateFactory.getInstance(X509);
+		return (X509Certificate) cf.generateCertificate(new ByteArrayInputStream(certificate));
 	}
 
 	/**
@@ -208,11 +253,7 @@ public class JwtUtility {
 	 * @throws Exception if an error occurs during the thumbprint computation
 	 */
 	public String getThumbprint() throws Exception {
-		String certificate = getCertificateFromIDA();
-		certificate = trimBeginEnd(certificate);
-		CertificateFactory cf = CertificateFactory.getInstance(X509);
-		X509Certificate x509Certificate = (X509Certificate) cf
-				.generateCertificate(new ByteArrayInputStream(Base64.getDecoder().decode(certificate)));
+		X509Certificate x509Certificate = getCertificateToEncryptCaptureBioValue();
 
 		// thumbprint
 		return CryptoUtil.computeFingerPrint(x509Certificate.getEncoded(), null);
@@ -239,7 +280,7 @@ public class JwtUtility {
 	 */
 	@SuppressWarnings({ "java:S112", "java:S2139" })
 	public String getCertificateFromIDA() throws Exception {
-		OkHttpClient client = new OkHttpClient();
+		OkHttpClient client = getHttpClient();
 		String requestBody = String.format(AUTH_REQ_TEMPLATE, getPropertyValue("mosip.auth.appid"),
 				getPropertyValue("mosip.auth.clientid"), getPropertyValue("mosip.auth.secretkey"),
 				DateUtils.getUTCCurrentDateTime());
@@ -249,14 +290,17 @@ public class JwtUtility {
 		Request request = new Request.Builder().url(getPropertyValue("mosip.auth.server.url")).post(body).build();
 		try {
 			Response response = client.newCall(request).execute();
+			// the body is not needed, closing it returns the connection to the pool
+			response.body().close();
 			if (response.isSuccessful()) {
 				String authToken = response.header("authorization");
 				Request idarequest = new Request.Builder().header("cookie", "Authorization=" + authToken)
 						.url(getPropertyValue("mosip.ida.server.url")).get().build();
 
-				Response idaResponse = new OkHttpClient().newCall(idarequest).execute();
+				Response idaResponse = client.newCall(idarequest).execute();
+				String idaBody = idaResponse.body().string();
 				if (idaResponse.isSuccessful()) {
-					JSONObject jsonObject = new JSONObject(idaResponse.body().string());
+					JSONObject jsonObject = new JSONObject(idaBody);
 					jsonObject = jsonObject.getJSONObject("response");
 					return jsonObject.getString("certificate");
 				}
@@ -0,0 +1,16 @@
+-- Migrates a mock ABIS H2 database created before bio_data was stored as a
+-- binary digest: converts the hexadecimal SHA-256 strings of
+-- biometric_data.bio_data to their 32 raw bytes and adds the indexes used by
+-- identify. Only needed for a file database; the default in-memory database
+-- is created with the new schema. Run once, with mock ABIS stopped and a JDK
+-- (H2 compiles the conversion function):
+--   java -cp h2.jar org.h2.tools.RunScript -url jdbc:h2:<database> -user sa -script migrate_bio_data_binary_h2.sql
+
+CREATE ALIAS IF NOT EXISTS HEX_TO_DIGEST AS 'byte[] hexToDigest(String hex) { return java.util.HexFormat.of().parseHex(hex); }';
+
+ALTER TABLE BIOMETRIC_DATA ALTER COLUMN BIO_DATA SET DATA TYPE BINARY(32) USING HEX_TO_DIGEST(BIO_DATA);
+
+DROP ALIAS HEX_TO_DIGEST;
+
+CREATE INDEX IF NOT EXISTS IDX_BIOMETRIC_DATA_BIO_DATA ON BIOMETRIC_DATA (BIO_DATA, TYPE, SUB_TYPE);
+CREATE INDEX IF NOT EXISTS IDX_BIOMETRIC_DATA_REFERENCE_ID ON BIOMETRIC_DATA (REFERENCE_ID);
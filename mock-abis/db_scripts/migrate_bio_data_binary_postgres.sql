@@ -0,0 +1,14 @@
+-- Migrates a mock ABIS Postgres database created before bio_data was stored
+-- as a binary digest: converts the hexadecimal SHA-256 strings of
+-- biometric_data.bio_data to their 32 raw bytes and adds the indexes used by
+-- identify. Run once, with mock ABIS stopped:
+--   psql -d proxyabis -f migrate_bio_data_binary_postgres.sql
+
+BEGIN;
+
+ALTER TABLE biometric_data ALTER COLUMN bio_data TYPE bytea USING decode(bio_data, 'hex');
+
+CREATE INDEX IF NOT EXISTS idx_biometric_data_bio_data ON biometric_data (bio_data, type, sub_type);
+CREATE INDEX IF NOT EXISTS idx_biometric_data_reference_id ON biometric_data (reference_id);
+
+COMMIT;
@@ -0,0 +1,89 @@
+package io.mosip.proxy.abis.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.proxy.abis.utility.ByteSearch;
+
+/**
+ * Finding the {@code #KEY_SPLITTER#} boundary of an encrypted CBEFF, with the
+ * String-per-candidate scan CryptoCoreUtil used before and with
+ * {@link ByteSearch}. The payload is random bytes, so the first byte of the
+ * splitter shows up about once every 256 bytes as in real ciphertext. The
+ * splitter sits either after the 288 bytes of thumbprint and encrypted key, as
+ * CBEFFs are sent, or at the end of the payload as the worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SplitterSearchBenchmark {
+	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
+	private static final int HEADER_LENGTH = 288;
+
+	private static final ByteSearch KEY_SPLITTER_SEARCH = new ByteSearch(KEY_SPLITTER.getBytes());
+
+	@Param({ "65536", "1048576", "8388608" })
+	private int payloadSize;
+
+	@Param({ "HEADER", "END" })
+	private String splitterPosition;
+
+	private byte[] payload;
+
+	@Setup
+	public void setup() {
+		payload = new byte[payloadSize];
+		new Random(42).nextBytes(payload);
+		int splitterIndex = "HEADER".equals(splitterPosition) ? HEADER_LENGTH : payloadSize - KEY_SPLITTER.length();
+		byte[] splitter = KEY_SPLITTER.getBytes();
+		System.arraycopy(splitter, 0, payload, splitterIndex, splitter.length);
+
+		int expected = legacySplitterIndex(payload, 0, KEY_SPLITTER);
+		if (expected != splitterIndex || KEY_SPLITTER_SEARCH.indexOf(payload) != expected)
+			throw new IllegalStateException("Searches disagree on the splitter index");
+	}
+
+	@Benchmark
+	public int legacy() {
+		return legacySplitterIndex(payload, 0, KEY_SPLITTER);
+	}
+
+	@Benchmark
+	public int byteSearch() {
+		return KEY_SPLITTER_SEARCH.indexOf(payload);
+	}
+
+	/**
+	 * The splitter scan CryptoCoreUtil used before, kept as the baseline.
+	 */
+	private static int legacySplitterIndex(byte[] encryptedData, int keyDemiliterIndex, String keySplitter) {
+		byte keySplitterFirstByte = keySplitter.getBytes()[0];
+		int keySplitterLength = keySplitter.length();
+		for (byte data : encryptedData) {
+			if (data == keySplitterFirstByte) {
+				String keySplit = new String(
+						Arrays.copyOfRange(encryptedData, keyDemiliterIndex, keyDemiliterIndex + keySplitterLength));
+				if (keySplitter.equals(keySplit))
+					break;
+			}
+			keyDemiliterIndex++;
+		}
+		return keyDemiliterIndex;
+	}
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.mosip.proxy.abis.controller;
 
 import io.mosip.proxy.abis.constant.AbisErrorCode;
+import io.mosip.proxy.abis.dto.BiometricHashPageDto;
 import io.mosip.proxy.abis.dto.ConfigureDto;
 import io.mosip.proxy.abis.dto.Expectation;
 import io.mosip.proxy.abis.exception.AbisException;
@@ -15,11 +16,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +45,13 @@ import java.util.Map;
 public class ProxyAbisConfigController {
 	private static final Logger logger = LoggerFactory.getLogger(ProxyAbisConfigController.class);
 
+	/**
+	 * Writes the streamed cache; the servlet stream is left for Spring to close,
+	 * and an array cut short by an error is left open so that it does not parse.
+	 */
+	private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+			.disable(StreamWriteFeature.AUTO_CLOSE_TARGET).disable(StreamWriteFeature.AUTO_CLOSE_CONTENT).build();
+
 	private ProxyAbisConfigService proxyAbisConfigService;
 
 	/**
@@ -212,14 +228,58 @@ public class ProxyAbisConfigController {
 	}
 
 	/**
-	 * Retrieves the cached biometrics.
+	 * Retrieves the cached biometrics. The JSON array is written while the hashes
+	 * are read from the database, so the whole list is never held in memory.
+	 * <p>
+	 * The status is sent before the hashes are read, so a failure while streaming
+	 * cannot be reported as an error response; it is logged and the stream is
+	 * closed with the array left unterminated, which the client fails to parse.
+	 * </p>
 	 *
-	 * @return ResponseEntity containing the list of cached biometrics.
+	 * @return ResponseEntity streaming the list of cached biometrics.
+	 */
+	@GetMapping(value = "cache", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get cached biometrics", description = "Get cached biometrics", tags = {
+			"Proxy Abis config API" })
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	public ResponseEntity<StreamingResponseBody> getCache() {
+		logger.info("Get cached biometrics Request");
+		StreamingResponseBody body = outputStream -> {
+			try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+				generator.writeStartArray();
+				proxyAbisConfigService.forEachCachedBiometric(hash -> {
+					try {
+						generator.writeString(hash);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				generator.writeEndArray();
+			} catch (Exception exp) {
+				logger.error("Exception in getCache request, the response is truncated: ", exp);
+			}
+		};
+		return new ResponseEntity<>(body, HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves a page of the distinct cached biometrics, in ascending order of
+	 * hash, the same hashes as the full list. The next page is requested with the
+	 * {@code next} value of this one as {@code after}.
+	 *
+	 * @param after The {@code next} value of the previous page, absent for the
+	 *              first page.
+	 * @param size  The maximum number of hashes to return.
+	 * @return ResponseEntity containing the page of cached biometrics.
 	 * @throws AbisException If an error occurs during retrieving the cached
 	 *                       biometrics.
 	 */
-	@GetMapping(value = "cache")
-	@Operation(summary = "Get cached biometrics", description = "Get cached biometrics", tags = {
+	@GetMapping(value = "cache", params = "size")
+	@Operation(summary = "Get a page of cached biometrics", description = "Get a page of cached biometrics", tags = {
 			"Proxy Abis config API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
 			@ApiResponse(responseCode = "201", description = "Created", content = @Content(schema = @Schema(hidden = true))),
@@ -227,12 +287,13 @@ public class ProxyAbisConfigController {
 			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
 	@SuppressWarnings({ "java:S2139" })
-	public ResponseEntity<List<String>> getCache() {
-		logger.info("Get cached biometrics Request");
+	public ResponseEntity<BiometricHashPageDto> getCachePage(@RequestParam(value = "after", required = false) String after,
+			@RequestParam("size") int size) {
+		logger.info("Get cached biometrics page Request after {} size {}", after, size);
 		try {
-			return new ResponseEntity<>(proxyAbisConfigService.getCachedBiometrics(), HttpStatus.OK);
+			return new ResponseEntity<>(proxyAbisConfigService.getCachedBiometrics(after, size), HttpStatus.OK);
 		} catch (Exception exp) {
-			logger.error("Exception in getCache request: ", exp);
+			logger.error("Exception in getCachePage request: ", exp);
 			throw new AbisException(AbisErrorCode.INVALID_CACHE_EXCEPTION.getErrorCode(),
 					AbisErrorCode.INVALID_CACHE_EXCEPTION.getErrorMessage() + " " + exp.getLocalizedMessage());
 		}
@@ -1,9 +1,10 @@
 package io.mosip.proxy.abis.controller;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,12 +28,16 @@ import io.mosip.proxy.abis.constant.FailureReasonsConstants;
 import io.mosip.proxy.abis.dto.FailureResponse;
 import io.mosip.proxy.abis.dto.IdentifyDelayResponse;
 import io.mosip.proxy.abis.dto.IdentityRequest;
+import io.mosip.proxy.abis.dto.InsertBatchRequestMO;
+import io.mosip.proxy.abis.dto.InsertDelayResponse;
 import io.mosip.proxy.abis.dto.InsertRequestMO;
 import io.mosip.proxy.abis.dto.RequestMO;
 import io.mosip.proxy.abis.dto.ResponseMO;
 import io.mosip.proxy.abis.exception.BindingException;
 import io.mosip.proxy.abis.exception.RequestException;
 import io.mosip.proxy.abis.listener.Listener;
+import io.mosip.proxy.abis.service.AbisMetrics;
+import io.mosip.proxy.abis.service.DelayedResponseScheduler;
 import io.mosip.proxy.abis.service.ProxyAbisInsertService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -57,17 +62,22 @@ public class ProxyAbisController {
 
 	private ProxyAbisInsertService abisInsertService;
 	private Listener listener;
-	private Timer timer = new Timer();
+	private DelayedResponseScheduler responseScheduler;
+	private AbisMetrics metrics;
 
 	/**
 	 * Constructor to initialize ProxyAbisController with ProxyAbisInsertService.
 	 *
 	 * @param abisInsertService Service for inserting data into Proxy Abis.
+	 * @param responseScheduler Scheduler sending the responses after their delay.
+	 * @param metrics           Metrics recording the processing time of requests.
 	 */
 	@Autowired
-	public ProxyAbisController(ProxyAbisInsertService abisInsertService) {
+	public ProxyAbisController(ProxyAbisInsertService abisInsertService,
+			DelayedResponseScheduler responseScheduler, AbisMetrics metrics) {
 		this.abisInsertService = abisInsertService;
-		this.timer = new Timer();
+		this.responseScheduler = responseScheduler;
+		this.metrics = metrics;
 	}
 
 	/**
@@ -111,6 +121,25 @@ public class ProxyAbisController {
 		}
 	}
 
+	/**
+	 * Endpoint to save a batch of insert requests into Proxy Abis, to seed a
+	 * gallery with many reference IDs at once.
+	 *
+	 * @param batch InsertBatchRequestMO object containing the insert requests.
+	 * @return ResponseEntity with the response of each insert request, in order.
+	 */
+	@PostMapping(value = "insertbatchrequest")
+	@Operation(summary = "Save Insert Requests in batch", description = "Save Insert Requests in batch", tags = {
+			"Proxy Abis API" })
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	public ResponseEntity<Object> saveInsertBatchRequest(@RequestBody InsertBatchRequestMO batch) {
+		return processInsertBatchRequest(batch, 1);
+	}
+
 	/**
 	 * Endpoint to delete a request from Proxy Abis.
 	 *
@@ -228,11 +257,18 @@ public class ProxyAbisController {
 	 *         FailureResponse with error details.
 	 */
 	private ResponseEntity<Object> processDeleteRequest(RequestMO ie, int msgType) {
+		long startTime = System.nanoTime();
 		logger.info("Deleting request with reference id {}", ie.getReferenceId());
-		abisInsertService.deleteData(ie.getReferenceId());
+		try {
+			abisInsertService.deleteData(ie.getReferenceId());
+		} catch (RuntimeException ex) {
+			recordRequest(AbisMetrics.DELETE, startTime, ex);
+			throw ex;
+		}
 		ResponseMO response = new ResponseMO(ie.getId(), ie.getRequestId(), ie.getRequesttime(), "1");
 		logger.info("Successfully deleted reference id {}", ie.getReferenceId());
 		ResponseEntity<Object> responseEntity = new ResponseEntity<>(response, HttpStatus.OK);
+		recordRequest(AbisMetrics.DELETE, startTime, responseEntity);
 		executeAsync(responseEntity, 0, msgType);
 		return responseEntity;
 	}
@@ -264,6 +300,7 @@ public class ProxyAbisController {
 	 *         FailureResponse with error details.
 	 */
 	private ResponseEntity<Object> processIdentityRequest(IdentityRequest ir, int msgType) {
+		long startTime = System.nanoTime();
 		logger.info("Finding duplication for reference ID {}", ir.getReferenceId());
 		int delayResponse = 0;
 		ResponseEntity<Object> responseEntity;
@@ -277,7 +314,11 @@ public class ProxyAbisController {
 							: exp.getReasonConstant());
 			delayResponse = exp.getDelayResponse();
 			responseEntity = new ResponseEntity<>(fr, HttpStatus.NOT_ACCEPTABLE);
+		} catch (RuntimeException ex) {
+			recordRequest(AbisMetrics.IDENTIFY, startTime, ex);
+			throw ex;
 		}
+		recordRequest(AbisMetrics.IDENTIFY, startTime, responseEntity);
 		executeAsync(responseEntity, delayResponse, msgType);
 		return responseEntity;
 	}
@@ -291,10 +332,12 @@ public class ProxyAbisController {
 	 *         FailureResponse with error details.
 	 */
 	public ResponseEntity<Object> saveInsertRequestThroughListner(InsertRequestMO ie, int msgType) {
+		long startTime = System.nanoTime();
 		logger.info("Saving Insert Request");
 		String validate = validateRequest(ie);
 		if (null != validate) {
 			FailureResponse fr = new FailureResponse(ie.getId(), ie.getRequestId(), ie.getRequesttime(), "2", validate);
+			metrics.recordRequest(AbisMetrics.INSERT, System.nanoTime() - startTime, validate);
 			return new ResponseEntity<>(fr, HttpStatus.NOT_ACCEPTABLE);
 		}
 		try {
@@ -316,6 +359,7 @@ public class ProxyAbisController {
 	 *         FailureResponse with error details.
 	 */
 	public ResponseEntity<Object> processInsertRequest(InsertRequestMO ie, int msgType) {
+		long startTime = System.nanoTime();
 		int delayResponse = 0;
 		ResponseEntity<Object> responseEntity;
 		try {
@@ -336,11 +380,108 @@ public class ProxyAbisController {
 							: exp.getReasonConstant());
 			delayResponse = exp.getDelayResponse();
 			responseEntity = new ResponseEntity<>(fr, HttpStatus.OK);
+		} catch (RuntimeException ex) {
+			recordRequest(AbisMetrics.INSERT, startTime, ex);
+			throw ex;
 		}
+		recordRequest(AbisMetrics.INSERT, startTime, responseEntity);
 		executeAsync(responseEntity, delayResponse, msgType);
 		return responseEntity;
 	}
 
+	/**
+	 * Handles asynchronous batch insertion request via listener.
+	 *
+	 * @param batch   The batch of insertion requests.
+	 * @param msgType The message type for asynchronous processing.
+	 * @return ResponseEntity containing the response of each insertion request.
+	 */
+	public ResponseEntity<Object> saveInsertBatchRequestThroughListner(InsertBatchRequestMO batch, int msgType) {
+		return processInsertBatchRequest(batch, msgType);
+	}
+
+	/**
+	 * Process the batch insertion request. Each insertion request is validated
+	 * and answered as if it had been sent alone through the listener: an invalid
+	 * request gets a FailureResponse that is not sent to the queue, while the
+	 * response (ResponseMO) or FailureResponse of an insertion is sent to the
+	 * queue after its own delay.
+	 *
+	 * @param batch   The batch of insertion requests.
+	 * @param msgType The message type for asynchronous processing.
+	 * @return ResponseEntity containing the response of each insertion request,
+	 *         in the order of the requests, with HttpStatus.OK if they were all
+	 *         inserted and HttpStatus.NOT_ACCEPTABLE otherwise.
+	 */
+	private ResponseEntity<Object> processInsertBatchRequest(InsertBatchRequestMO batch, int msgType) {
+		long startTime = System.nanoTime();
+		if (!Objects.isNull(batch.getId()) && !batch.getId().isEmpty()
+				&& !batch.getId().equalsIgnoreCase("mosip.abis.insert.batch")) {
+			FailureResponse fr = new FailureResponse(batch.getId(), batch.getRequestId(), batch.getRequesttime(), "2",
+					FailureReasonsConstants.INVALID_ID);
+			metrics.recordRequest(AbisMetrics.INSERT_BATCH, System.nanoTime() - startTime,
+					FailureReasonsConstants.INVALID_ID);
+			return new ResponseEntity<>(fr, HttpStatus.NOT_ACCEPTABLE);
+		}
+		List<InsertRequestMO> requests = Objects.isNull(batch.getRequests()) ? List.of() : batch.getRequests();
+		logger.info("Saving batch of {} Insert Requests", requests.size());
+
+		List<ResponseEntity<Object>> responseEntities = new ArrayList<>(requests.size());
+		int[] delays = new int[requests.size()];
+		boolean[] inserted = new boolean[requests.size()];
+		List<InsertRequestMO> validRequests = new ArrayList<>(requests.size());
+		for (InsertRequestMO ie : requests) {
+			String validate = validateRequest(ie);
+			if (null != validate) {
+				FailureResponse fr = new FailureResponse(ie.getId(), ie.getRequestId(), ie.getRequesttime(), "2",
+						validate);
+				responseEntities.add(new ResponseEntity<>(fr, HttpStatus.NOT_ACCEPTABLE));
+			} else {
+				responseEntities.add(null);
+				validRequests.add(ie);
+			}
+		}
+
+		List<InsertDelayResponse> results;
+		try {
+			results = validRequests.isEmpty() ? List.of() : abisInsertService.insertData(validRequests);
+		} catch (RequestException exp) {
+			logger.error("processInsertBatchRequest::failureReason:: ", exp);
+			results = validRequests.stream()
+					.map(ie -> new InsertDelayResponse(FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN, 0)).toList();
+		}
+
+		for (int i = 0, valid = 0; i < requests.size(); i++) {
+			if (null != responseEntities.get(i))
+				continue;
+			InsertRequestMO ie = requests.get(i);
+			InsertDelayResponse result = results.get(valid++);
+			if (null == result.getFailureReason()) {
+				ResponseMO responseMO = new ResponseMO(ie.getId(), ie.getRequestId(), ie.getRequesttime(), "1");
+				responseEntities.set(i, new ResponseEntity<>(responseMO, HttpStatus.OK));
+			} else {
+				FailureResponse fr = new FailureResponse(ie.getId(), ie.getRequestId(), ie.getRequesttime(), "2",
+						result.getFailureReason());
+				responseEntities.set(i, new ResponseEntity<>(fr, HttpStatus.NOT_ACCEPTABLE));
+			}
+			inserted[i] = true;
+			delays[i] = result.getDelayResponse();
+		}
+
+		metrics.recordRequest(AbisMetrics.INSERT_BATCH, System.nanoTime() - startTime, null);
+		HttpStatus status = HttpStatus.OK;
+		List<Object> responses = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			ResponseEntity<Object> responseEntity = responseEntities.get(i);
+			if (inserted[i])
+				executeAsync(responseEntity, delays[i], msgType);
+			if (responseEntity.getStatusCode() != HttpStatus.OK)
+				status = HttpStatus.NOT_ACCEPTABLE;
+			responses.add(responseEntity.getBody());
+		}
+		return new ResponseEntity<>(responses, status);
+	}
+
 	/**
 	 * Validates the insertion request details.
 	 *
@@ -363,6 +504,34 @@ public class ProxyAbisController {
 		return null;
 	}
 
+	/**
+	 * Records the processing time of a request with the failure reason of its
+	 * response, if any.
+	 *
+	 * @param operation      The operation of the request.
+	 * @param startTime      The {@link System#nanoTime()} the processing started
+	 *                       at.
+	 * @param responseEntity The response of the request.
+	 */
+	private void recordRequest(String operation, long startTime, ResponseEntity<Object> responseEntity) {
+		String failureReason = responseEntity.getBody() instanceof FailureResponse fr ? fr.getFailureReason() : null;
+		metrics.recordRequest(operation, System.nanoTime() - startTime, failureReason);
+	}
+
+	/**
+	 * Records the processing time of a request that ended with an exception.
+	 *
+	 * @param operation The operation of the request.
+	 * @param startTime The {@link System#nanoTime()} the processing started at.
+	 * @param ex        The exception.
+	 */
+	private void recordRequest(String operation, long startTime, RuntimeException ex) {
+		String failureReason = ex instanceof RequestException exp && null != exp.getReasonConstant()
+				? exp.getReasonConstant()
+				: FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN;
+		metrics.recordRequest(operation, System.nanoTime() - startTime, failureReason);
+	}
+
 	/**
 	 * Executes a task asynchronously with a specified delay.
 	 *
@@ -373,22 +542,17 @@ public class ProxyAbisController {
 	 * @param msgType             The type of message for identifying the task.
 	 */
 	public void executeAsync(ResponseEntity<Object> finalResponseEntity, int delayResponse, int msgType) {
-		TimerTask task = new TimerTask() {
-			public void run() {
-				try {
-					try {
-						listener.sendToQueue(finalResponseEntity, msgType);
-					} catch (UnsupportedEncodingException e) {
-						logger.error("executeAsync::error ", e);
-					}
-					logger.info("Scheduled job completed: MsgType {}", msgType);
-				} catch (JsonProcessingException e) {
-					logger.error("executeAsync::error ", e);
-				}
+		Runnable task = () -> {
+			try {
+				listener.sendToQueue(finalResponseEntity, msgType);
+				logger.info("Scheduled job completed: MsgType {}", msgType);
+			} catch (JsonProcessingException | UnsupportedEncodingException e) {
+				logger.error("executeAsync::error ", e);
 			}
 		};
-		logger.info("Adding timed task with timer as {} in seconds", delayResponse);
-		timer.schedule(task, (long) delayResponse * 1000);
+		logger.info("Adding timed task with timer as {} in seconds, queued tasks {}", delayResponse,
+				responseScheduler.getQueueSize());
+		responseScheduler.schedule(task, delayResponse, TimeUnit.SECONDS);
 	}
 
 	/**
@@ -1,13 +1,20 @@
 package io.mosip.proxy.abis.dao;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import io.mosip.proxy.abis.dto.BiometricHashDto;
 import io.mosip.proxy.abis.entity.BiometricData;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing CRUD operations and custom queries related
@@ -19,7 +26,7 @@ import io.mosip.proxy.abis.entity.BiometricData;
  * 
  * <pre>{@code
  * List<String> referenceIds = Arrays.asList("id1", "id2", "id3");
- * List<BiometricData> duplicates = proxyAbisBioDataRepository.fetchDuplicatesForReferenceId("referenceId");
+ * List<BiometricHashDto> duplicates = proxyAbisBioDataRepository.fetchDuplicatesForReferenceId("referenceId");
  * }</pre>
  * </p>
  * 
@@ -37,18 +44,28 @@ import io.mosip.proxy.abis.entity.BiometricData;
  * ID.</li>
  * <li>{@link #fetchReferenceId(String)}: Fetches distinct reference IDs by
  * biometric data.</li>
- * <li>{@link #fetchAllBioData()}: Fetches all distinct biometric data.</li>
+ * <li>{@link #fetchFirstBioDataPage(Pageable)} and
+ * {@link #fetchBioDataPage(String, Pageable)}: Fetch a page of distinct
+ * biometric data, in ascending order.</li>
+ * <li>{@link #streamAllBioData()}: Streams all distinct biometric data.</li>
  * <li>{@link #fetchByBioData(String)}: Fetches biometric data by specific
  * biometric data value.</li>
  * <li>{@link #fetchByReferenceId(String, List)}: Fetches reference IDs by
  * biometric data within specified reference IDs.</li>
+ * <li>{@link #fetchAllReferenceIdAndBioData()}: Fetches the reference ID, type
+ * and biometric data of all records.</li>
+ * <li>{@link #deleteAllBioData()}: Deletes all records with one statement.</li>
  * </ul>
  * 
  * <p>
- * The queries utilize native SQL for some operations for performance reasons.
+ * The duplicate searches return {@link BiometricHashDto} projections rather than
+ * entities, so no insert request is loaded along with the matching rows. They
+ * join the sample rows, found through the reference_id index, to the rows
+ * sharing their hash, found through the bio_data index.
  * </p>
  * 
  * <p>
+ * <p>
  * Note: This repository extends {@link CrudRepository} which provides basic
  * CRUD operations for {@link BiometricData}.
  * </p>
@@ -63,10 +80,10 @@ public interface ProxyAbisBioDataRepository extends CrudRepository<BiometricData
 	 * Fetches duplicates of biometric data for a given reference ID.
 	 * 
 	 * @param referenceId The reference ID to search for duplicates
-	 * @return List of {@link BiometricData} instances representing duplicates
+	 * @return List of {@link BiometricHashDto} projections representing duplicates
 	 */
-	@Query(value = "select distinct(b.*) from Biometric_Data b where b.bio_data in (select bio_data from Biometric_Data where Biometric_Data.reference_id =?1) and b.reference_id <> ?1  order by reference_id asc", nativeQuery = true)
-	public List<BiometricData> fetchDuplicatesForReferenceId(@Param("referenceId") String referecenId);
+	@Query(value = "select distinct new io.mosip.proxy.abis.dto.BiometricHashDto(b.insertEntity.referenceId, b.type, b.bioData) from Biometric_Data s join Biometric_Data b on b.bioData = s.bioData where s.insertEntity.referenceId = ?1 and b.insertEntity.referenceId <> ?1 order by b.insertEntity.referenceId asc")
+	public List<BiometricHashDto> fetchDuplicatesForReferenceId(@Param("referenceId") String referecenId);
 
 	/**
 	 * Fetches duplicates of biometric data for a given reference ID within
@@ -74,10 +91,10 @@ public interface ProxyAbisBioDataRepository extends CrudRepository<BiometricData
 	 * 
 	 * @param referenceId  The reference ID to search for duplicates
 	 * @param referenceIds List of gallery IDs to limit the search within
-	 * @return List of {@link BiometricData} instances representing duplicates
+	 * @return List of {@link BiometricHashDto} projections representing duplicates
 	 */
-	@Query(value = "select distinct(b.*) from Biometric_Data b where b.bio_data in (select bio_data from Biometric_Data where Biometric_Data.reference_id =?1) and b.reference_id <> ?1  and b.reference_id in ?2 order by reference_id asc", nativeQuery = true)
-	public List<BiometricData> fetchDuplicatesForReferenceIdBasedOnGalleryIds(@Param("referenceId") String referecenId,
+	@Query(value = "select distinct new io.mosip.proxy.abis.dto.BiometricHashDto(b.insertEntity.referenceId, b.type, b.bioData) from Biometric_Data s join Biometric_Data b on b.bioData = s.bioData where s.insertEntity.referenceId = ?1 and b.insertEntity.referenceId <> ?1 and b.insertEntity.referenceId in ?2 order by b.insertEntity.referenceId asc")
+	public List<BiometricHashDto> fetchDuplicatesForReferenceIdBasedOnGalleryIds(@Param("referenceId") String referecenId,
 			@Param("referenceIds") List<String> referenceIds);
 
 	/**
@@ -99,12 +116,38 @@ public interface ProxyAbisBioDataRepository extends CrudRepository<BiometricData
 	public List<String> fetchReferenceId(@Param("bioData") String bioData);
 
 	/**
-	 * Fetches all distinct biometric data values.
+	 * Fetches the first page of distinct, non-null biometric data values, in
+	 * ascending order.
+	 * 
+	 * @param pageable The page size; the page number must be 0
+	 * @return List of the first biometric data values
+	 */
+	@Query(value = "select distinct b.bioData from Biometric_Data b where b.bioData is not null order by b.bioData asc")
+	public List<String> fetchFirstBioDataPage(Pageable pageable);
+
+	/**
+	 * Fetches a page of distinct biometric data values, in ascending order. Pages
+	 * are addressed by the last value of the previous page rather than an offset,
+	 * so every page is read from the bio_data index and costs the same however
+	 * deep it is.
+	 * 
+	 * @param after    The last value of the previous page
+	 * @param pageable The page size; the page number must be 0
+	 * @return List of the biometric data values following {@code after}
+	 */
+	@Query(value = "select distinct b.bioData from Biometric_Data b where b.bioData > ?1 order by b.bioData asc")
+	public List<String> fetchBioDataPage(@Param("after") String after, Pageable pageable);
+
+	/**
+	 * Streams all distinct, non-null biometric data values, read from the
+	 * database in batches of 1000 rows. Must be consumed and closed within a
+	 * transaction.
 	 * 
-	 * @return List of all distinct biometric data values
+	 * @return Stream of all distinct biometric data values
 	 */
-	@Query(value = "select distinct(b.bio_data) from Biometric_Data b", nativeQuery = true)
-	public List<String> fetchAllBioData();
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query(value = "select distinct b.bioData from Biometric_Data b where b.bioData is not null")
+	public Stream<String> streamAllBioData();
 
 	/**
 	 * Fetches biometric data by specific biometric data value.
@@ -113,7 +156,7 @@ public interface ProxyAbisBioDataRepository extends CrudRepository<BiometricData
 	 * @return List of biometric data values matching the specified biometric data
 	 *         value
 	 */
-	@Query(value = "select distinct(b.bio_data) from Biometric_Data b where b.bio_data=?1", nativeQuery = true)
+	@Query(value = "select distinct b.bioData from Biometric_Data b where b.bioData = ?1")
 	public List<String> fetchByBioData(@Param("bioData") String bioData);
 
 	/**
@@ -127,4 +170,23 @@ public interface ProxyAbisBioDataRepository extends CrudRepository<BiometricData
 	@Query(value = "select distinct(b.insertEntity.referenceId) from Biometric_Data b where b.bioData=?1 and b.insertEntity.referenceId in ?2")
 	public List<String> fetchByReferenceId(@Param("bioData") String bioData,
 			@Param("referenceIds") List<String> referenceIds);
+
+	/**
+	 * Fetches the reference ID, type and biometric data value of all biometric
+	 * data, used to build the in-memory hash index.
+	 * 
+	 * @return List of {@link BiometricHashDto} projections of all records
+	 */
+	@Query(value = "select new io.mosip.proxy.abis.dto.BiometricHashDto(b.insertEntity.referenceId, b.type, b.bioData) from Biometric_Data b")
+	public List<BiometricHashDto> fetchAllReferenceIdAndBioData();
+
+	/**
+	 * Deletes all biometric data with a single statement, without loading the
+	 * records. Must be called within a transaction.
+	 * 
+	 * @return The number of deleted records
+	 */
+	@Modifying
+	@Query(value = "delete from Biometric_Data b")
+	public int deleteAllBioData();
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.mosip.proxy.abis.dao;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -49,4 +50,34 @@ public interface ProxyAbisInsertRepository extends CrudRepository<InsertEntity,
 	 */
 	@Query(value = "select count(b.reference_id) from INSERT_REQUEST b where b.reference_id in ?1", nativeQuery = true)
 	public int fetchCountForReferenceIdPresentInGallery(@Param("referenceIds") List<String> referenceIds);
+
+	/**
+	 * Custom query to fetch which of the given reference IDs are already stored,
+	 * without loading their biometrics.
+	 * 
+	 * @param referenceIds The list of reference IDs to search for
+	 * @return The reference IDs present in the database
+	 */
+	@Query(value = "select b.reference_id from INSERT_REQUEST b where b.reference_id in ?1", nativeQuery = true)
+	public List<String> fetchExistingReferenceIds(@Param("referenceIds") List<String> referenceIds);
+
+	/**
+	 * Fetches the reference IDs of all insert requests, used to build the
+	 * in-memory hash index with the reference IDs that have no biometric data.
+	 * 
+	 * @return The reference IDs of all insert requests
+	 */
+	@Query(value = "select i.referenceId from InsertRequest i")
+	public List<String> fetchAllReferenceIds();
+
+	/**
+	 * Deletes all insert requests with a single statement, without loading them or
+	 * their biometrics. Must be called within a transaction, after the biometric
+	 * data have been deleted.
+	 * 
+	 * @return The number of deleted insert requests
+	 */
+	@Modifying
+	@Query(value = "delete from InsertRequest i")
+	public int deleteAllInsertRequests();
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package io.mosip.proxy.abis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight projection of a biometric data record, used by the duplicate
+ * search instead of the {@code BiometricData} entity.
+ * <p>
+ * It holds only what an identify response needs: the reference ID the
+ * biometric belongs to, its type (e.g., Finger, Iris) and its bio_data hash.
+ * No entity, and therefore no insert request or biometric list, is loaded.
+ * </p>
+ * 
+ * @author
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BiometricHashDto {
+	private String referenceId;
+	private String type;
+	private String bioData;
+}
\ No newline at end of file
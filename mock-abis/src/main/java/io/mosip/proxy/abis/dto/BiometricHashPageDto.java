@@ -0,0 +1,26 @@
+package io.mosip.proxy.abis.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A page of the distinct cached biometric data hashes, in ascending order.
+ * <p>
+ * {@code next} is the value to pass as {@code after} to read the following
+ * page, the last hash of this one; it is {@code null} once the last page has
+ * been read.
+ * </p>
+ * 
+ * @author
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BiometricHashPageDto {
+	private List<String> hashes;
+	private String next;
+}
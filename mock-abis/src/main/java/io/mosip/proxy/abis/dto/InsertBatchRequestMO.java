@@ -0,0 +1,53 @@
+package io.mosip.proxy.abis.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * InsertBatchRequestMO represents a batch of insert requests to the ABIS
+ * (Automated Biometric Identification System), used to seed a gallery with
+ * many reference IDs at once.
+ * <p>
+ * The envelope carries its own ID ({@code mosip.abis.insert.batch}), version,
+ * request ID and request time; each entry of {@code requests} is a regular
+ * {@link InsertRequestMO} and gets its own response, as if it had been sent
+ * alone.
+ * </p>
+ * 
+ * @author
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InsertBatchRequestMO {
+	/**
+	 * Identifier of the batch insert operation.
+	 */
+	private String id;
+
+	/**
+	 * Version of the request message format.
+	 */
+	private String version;
+
+	/**
+	 * Identifier for the batch request message.
+	 */
+	private String requestId;
+
+	/**
+	 * Timestamp indicating when the batch was created.
+	 */
+	private LocalDateTime requesttime;
+
+	/**
+	 * The insert requests of the batch.
+	 */
+	private List<InsertRequestMO> requests = new ArrayList<>();
+}
\ No newline at end of file
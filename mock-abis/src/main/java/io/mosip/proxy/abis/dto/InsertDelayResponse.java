@@ -0,0 +1,24 @@
+package io.mosip.proxy.abis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * InsertDelayResponse encapsulates the outcome of one insert of a batch.
+ * <p>
+ * {@code failureReason} is {@code null} when the reference ID was stored, and
+ * holds the failure reason constant otherwise. {@code delayResponse} is the
+ * delay in seconds, set by a matching expectation, before the response is sent.
+ * </p>
+ * 
+ * @author
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InsertDelayResponse {
+	private String failureReason;
+	private int delayResponse = 0;
+}
\ No newline at end of file
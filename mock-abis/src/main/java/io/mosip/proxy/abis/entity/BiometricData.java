@@ -1,14 +1,23 @@
 package io.mosip.proxy.abis.entity;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Represents a biometric data entity in the ABIS (Automated Biometric
@@ -50,11 +59,18 @@ import lombok.Data;
 
 @Data
 @Entity(name = "Biometric_Data")
-@Table
+@Table(indexes = { @Index(name = "idx_biometric_data_bio_data", columnList = "bio_data, type, sub_type"),
+		@Index(name = "idx_biometric_data_reference_id", columnList = "reference_id") })
 public class BiometricData {
-	/** The unique identifier for the biometric data record. */
+	/**
+	 * The unique identifier for the biometric data record. Identifiers are
+	 * allocated from the sequence in blocks of 50 so that batch inserts do not
+	 * query the sequence for every row; this is the sequence and increment
+	 * Hibernate already created for the previous {@code AUTO} strategy.
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "biometric_data_seq")
+	@SequenceGenerator(name = "biometric_data_seq", sequenceName = "Biometric_Data_SEQ", allocationSize = 50)
 	private Long id;
 
 	/**
@@ -70,17 +86,22 @@ public class BiometricData {
 	private String subtype;
 
 	/**
-	 * String representation of the actual biometric data.
+	 * SHA-256 hash of the actual biometric data, as a hexadecimal string. It is
+	 * stored as its 32 raw bytes, see {@link HexDigestConverter}.
 	 */
-	@Column(name = "bio_data")
+	@Column(name = "bio_data", length = 32)
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Convert(converter = HexDigestConverter.class)
 	private String bioData;
 
 	/**
-	 * Reference to the InsertEntity this biometric data belongs to (Many-To-One
+	 * Reference to the InsertEntity this biometric data belongs to (lazy Many-To-One
 	 * relationship).
 	 */
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "reference_id")
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private InsertEntity insertEntity;
 
 	/**
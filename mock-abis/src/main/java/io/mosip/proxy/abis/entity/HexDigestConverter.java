@@ -0,0 +1,45 @@
+package io.mosip.proxy.abis.entity;
+
+import java.util.HexFormat;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a SHA-256 digest, handled as a hexadecimal string by the application,
+ * as its 32 raw bytes in the database.
+ * <p>
+ * The binary column is half the size of the hexadecimal one and compares
+ * without collation, which keeps the bio_data index small. Values that are not
+ * the 64 hexadecimal digits of a digest, such as a malformed hash given to the
+ * cache or expectation APIs, are converted to null: the column would pad them
+ * with zeros so that they compare equal to one another, while null matches no
+ * stored digest and is skipped by the duplicate queries.
+ * </p>
+ * 
+ * @author
+ * @since 1.0.0
+ */
+@Converter
+public class HexDigestConverter implements AttributeConverter<String, byte[]> {
+	private static final HexFormat HEX = HexFormat.of();
+
+	/** Length in bytes of a SHA-256 digest. */
+	private static final int DIGEST_LENGTH = 32;
+
+	@Override
+	public byte[] convertToDatabaseColumn(String hex) {
+		if (hex == null || hex.length() != DIGEST_LENGTH * 2)
+			return null;
+		try {
+			return HEX.parseHex(hex);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public String convertToEntityAttribute(byte[] digest) {
+		return digest == null ? null : HEX.formatHex(digest);
+	}
+}
@@ -11,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Represents an insert request entity in the ABIS (Automated Biometric
@@ -25,7 +27,7 @@ import lombok.Data;
  * The {@code InsertEntity} entity includes attributes for tracking the insert
  * request's metadata and a list of associated {@link BiometricData} records.
  * The relationship between insert requests and biometric data is defined as a
- * one-to-many relationship, with cascade and fetch types specified.
+ * lazy one-to-many relationship cascading all operations.
  * </p>
  * <p>
  * This entity is annotated with Lombok's {@code @Data} to automatically
@@ -72,8 +74,13 @@ public class InsertEntity {
 	@Id
 	private String referenceId;
 
-	/** The list of biometric data associated with this insert request. */
-	@OneToMany(cascade = CascadeType.ALL, mappedBy = "insertEntity", fetch = FetchType.EAGER)
+	/**
+	 * The list of biometric data associated with this insert request, loaded on
+	 * first access only; queries needing it up front fetch-join it.
+	 */
+	@OneToMany(cascade = CascadeType.ALL, mappedBy = "insertEntity", fetch = FetchType.LAZY)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private List<BiometricData> biometricList;
 
 	/**
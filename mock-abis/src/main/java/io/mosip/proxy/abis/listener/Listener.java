@@ -3,7 +3,6 @@ package io.mosip.proxy.abis.listener;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -35,6 +35,7 @@ import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.gson.Gson;
 
@@ -42,13 +43,17 @@ import io.mosip.proxy.abis.constant.AbisErrorCode;
 import io.mosip.proxy.abis.controller.ProxyAbisController;
 import io.mosip.proxy.abis.dto.FailureResponse;
 import io.mosip.proxy.abis.dto.IdentityRequest;
+import io.mosip.proxy.abis.dto.InsertBatchRequestMO;
 import io.mosip.proxy.abis.dto.InsertRequestMO;
 import io.mosip.proxy.abis.dto.MockAbisQueueDetails;
 import io.mosip.proxy.abis.dto.RequestMO;
 import io.mosip.proxy.abis.exception.AbisException;
 import io.mosip.proxy.abis.exception.FailureReasonsConstants;
 import io.mosip.proxy.abis.exception.RequestException;
+import io.mosip.proxy.abis.service.AbisMetrics;
+import io.mosip.proxy.abis.service.DelayedResponseScheduler;
 import io.mosip.proxy.abis.utility.Helpers;
+import jakarta.annotation.PreDestroy;
 import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
@@ -73,6 +78,21 @@ public class Listener {
 	@Value("${registration.processor.abis.response.delay:0}")
 	private int delayResponse;
 
+	/**
+	 * Number of consumers, each with its own session, listening on every inbound
+	 * queue.
+	 */
+	@Value("${abis.queue.consumer.concurrency:1}")
+	private int consumerConcurrency;
+
+	/**
+	 * Number of messages the broker pushes ahead to each consumer. Kept low so that
+	 * a burst is spread over all the consumers instead of being buffered by the
+	 * first one.
+	 */
+	@Value("${abis.queue.consumer.prefetch:10}")
+	private int consumerPrefetch;
+
 	/**
 	 * Default UTC pattern.
 	 */
@@ -80,11 +100,30 @@ public class Listener {
 
 	private static final String ABIS_INSERT = "mosip.abis.insert";
 
+	private static final String ABIS_INSERT_BATCH = "mosip.abis.insert.batch";
+
 	private static final String ABIS_IDENTIFY = "mosip.abis.identify";
 
 	private static final String ABIS_DELETE = "mosip.abis.delete";
 
 	private static final String ID = "id";
+
+	/**
+	 * Parses the received requests. Gson is thread-safe, so one instance serves
+	 * every consumer thread.
+	 */
+	private static final Gson GSON = new Gson();
+
+	/**
+	 * Converts the parsed requests to their DTOs. Configured once here and never
+	 * changed afterwards, which keeps it thread-safe.
+	 */
+	private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules()
+			.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+	/** Writes the responses sent to the outbound queue, as compact JSON. */
+	private static final ObjectWriter RESPONSE_WRITER = MAPPER.writer();
+
 	private ActiveMQConnectionFactory activeMQConnectionFactory;
 
 	/** The Constant INBOUNDQUEUENAME. */
@@ -127,8 +166,13 @@ public class Listener {
 	private static final String TAG_REFERENCE_URL = "referenceURL";
 	
 	private Connection connection;
+	/** The session of the producers, used under the lock of the send methods. */
 	private Session session;
 	private Destination destination;
+	/** The producers of the outbound queues, by queue name. */
+	private final Map<String, MessageProducer> producers = new HashMap<>();
+	/** The sessions of the inbound queue consumers, one per consumer. */
+	private final List<Session> consumerSessions = new ArrayList<>();
 
 	/**
 	 * This flag is added for development & debugging locally
@@ -140,20 +184,33 @@ public class Listener {
 
 	private ProxyAbisController proxycontroller;
 
+	private DelayedResponseScheduler responseScheduler;
+
+	private AbisMetrics metrics;
+
 	public String outBoundQueue;
 
 	/**
 	 * Constructor for the Listener class.
 	 *
-	 * @param proxycontroller The ProxyAbisController instance.
+	 * @param proxycontroller   The ProxyAbisController instance.
+	 * @param responseScheduler The scheduler running messages after the response
+	 *                          delay.
+	 * @param metrics           Metrics recording the queue lag and the rejected
+	 *                          messages.
 	 */
 	@Autowired(required = true)
-	public Listener(ProxyAbisController proxycontroller) {
+	public Listener(ProxyAbisController proxycontroller, DelayedResponseScheduler responseScheduler,
+			AbisMetrics metrics) {
 		this.proxycontroller = proxycontroller;
+		this.responseScheduler = responseScheduler;
+		this.metrics = metrics;
 	}
 	
 	/**
-	 * Consumes and processes the received JMS message.
+	 * Consumes and processes the received JMS message. With a response delay the
+	 * message is handed to the response scheduler, so the consumer thread is free
+	 * for the next message while this one waits.
 	 *
 	 * @param message               The received JMS message.
 	 * @param abismiddlewareaddress The address of the ABIS middleware.
@@ -161,11 +218,11 @@ public class Listener {
 	 * @throws InterruptedException If the thread is interrupted.
 	 */
 	public void consumeLogic(jakarta.jms.Message message, String abismiddlewareaddress) throws JMSException, InterruptedException {
-		ResponseEntity<Object> obj = null;
-		Map map = null;
 		Integer textType = 0;
 		String messageData = null;
 		logger.info("Received message {}", message);
+		if (message.getJMSTimestamp() > 0)
+			metrics.recordQueueLag(System.currentTimeMillis() - message.getJMSTimestamp());
 		try {
 			if (message instanceof TextMessage || message instanceof ActiveMQTextMessage) {
 				textType = 1;
@@ -179,27 +236,52 @@ public class Listener {
 				return;
 			}
 			logger.info("Message Data {} ", messageData);
-			map = new Gson().fromJson(messageData, Map.class);
-			final ObjectMapper mapper = new ObjectMapper();
-			mapper.findAndRegisterModules();
-			mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-			
-			logger.info("go on sleep {} ", delayResponse);
-			TimeUnit.SECONDS.sleep(delayResponse);
+		} catch (Exception e) {
+			logger.error("Issue while hitting mock abis API", e);
+			sendErrorResponse(e, null, textType);
+			return;
+		}
+
+		if (delayResponse > 0) {
+			logger.info("Scheduling message after {} seconds", delayResponse);
+			final String delayedMessageData = messageData;
+			final int delayedTextType = textType;
+			responseScheduler.schedule(() -> processMessage(delayedMessageData, delayedTextType), delayResponse,
+					TimeUnit.SECONDS);
+		} else {
+			processMessage(messageData, textType);
+		}
+	}
+
+	/**
+	 * Processes the data of a received JMS message and sends the response, or the
+	 * failure response, to the outbound queue.
+	 *
+	 * @param messageData The JSON request read from the message.
+	 * @param textType    The type of message (text or bytes).
+	 */
+	private void processMessage(String messageData, int textType) {
+		Map map = null;
+		try {
+			map = GSON.fromJson(messageData, Map.class);
 
 			logger.info("Request type is {} ", map.get("id"));
 
 			switch (map.get(ID).toString()) {
 			case ABIS_INSERT:
-				final InsertRequestMO ie = mapper.convertValue(map, InsertRequestMO.class);
+				final InsertRequestMO ie = MAPPER.convertValue(map, InsertRequestMO.class);
 				proxycontroller.saveInsertRequestThroughListner(ie, textType);
 				break;
+			case ABIS_INSERT_BATCH:
+				final InsertBatchRequestMO batch = MAPPER.convertValue(map, InsertBatchRequestMO.class);
+				proxycontroller.saveInsertBatchRequestThroughListner(batch, textType);
+				break;
 			case ABIS_IDENTIFY:
-				final IdentityRequest ir = mapper.convertValue(map, IdentityRequest.class);
+				final IdentityRequest ir = MAPPER.convertValue(map, IdentityRequest.class);
 				proxycontroller.identityRequestThroughListner(ir, textType);
 				break;
 			case ABIS_DELETE:
-				final RequestMO mo = mapper.convertValue(map, RequestMO.class);
+				final RequestMO mo = MAPPER.convertValue(map, RequestMO.class);
 				proxycontroller.deleteRequestThroughListner(mo, textType);
 				break;
 			default:
@@ -208,12 +290,18 @@ public class Listener {
 			}
 		} catch (Exception e) {
 			logger.error("Issue while hitting mock abis API", e);
-			obj = errorRequestThroughListner(e, map, textType);
-			try {
-				proxycontroller.executeAsync(obj, delayResponse, textType);
-			} catch (Exception e1) {
-				logger.error("Issue while hitting mock abis API1", e1);
-			}
+			sendErrorResponse(e, map, textType);
+		}
+	}
+
+	private void sendErrorResponse(Exception e, Map map, int textType) {
+		ResponseEntity<Object> obj = errorRequestThroughListner(e, map, textType);
+		metrics.recordRejectedMessage(
+				obj.getBody() instanceof FailureResponse fr ? fr.getFailureReason() : e.getClass().getSimpleName());
+		try {
+			proxycontroller.executeAsync(obj, delayResponse, textType);
+		} catch (Exception e1) {
+			logger.error("Issue while hitting mock abis API1", e1);
 		}
 	}
 
@@ -278,8 +366,9 @@ public class Listener {
 		logger.info("referenceURL >>{}", referenceURL);
 		logger.info("gallery >>{}", gallery);
 
-		if (Objects.isNull(id) || id.isBlank() || id.isEmpty() || !(id.equalsIgnoreCase(ABIS_INSERT)
-				|| id.equalsIgnoreCase(ABIS_IDENTIFY) || id.equalsIgnoreCase(ABIS_DELETE))) {
+		if (Objects.isNull(id) || id.isBlank() || id.isEmpty()
+				|| !(id.equalsIgnoreCase(ABIS_INSERT) || id.equalsIgnoreCase(ABIS_INSERT_BATCH)
+						|| id.equalsIgnoreCase(ABIS_IDENTIFY) || id.equalsIgnoreCase(ABIS_DELETE))) {
 			/*
 			 * invalid id
 			 */
@@ -319,9 +408,10 @@ public class Listener {
 			return failureReason;
 		}
 
-		if (Objects.isNull(referenceId) || referenceId.isBlank() || referenceId.isEmpty()) {
+		if (!id.equalsIgnoreCase(ABIS_INSERT_BATCH)
+				&& (Objects.isNull(referenceId) || referenceId.isBlank() || referenceId.isEmpty())) {
 			/*
-			 * missing referenceId (in request body)
+			 * missing referenceId (in request body); a batch has one per request
 			 */
 			failureReason = FailureReasonsConstants.MISSING_REFERENCEID;
 			return failureReason;
@@ -350,6 +440,13 @@ public class Listener {
 			failureReason = FailureReasonsConstants.UNABLE_TO_SERVE_THE_REQUEST_INVALID_REQUEST_STRUCTURE;
 			return failureReason;
 		}
+		if (id.equalsIgnoreCase(ABIS_INSERT_BATCH) && isValidInsertBatchRequestDto(map)) {
+			/*
+			 * unable to serve the request - invalid request structure
+			 */
+			failureReason = FailureReasonsConstants.UNABLE_TO_SERVE_THE_REQUEST_INVALID_REQUEST_STRUCTURE;
+			return failureReason;
+		}
 
 		return failureReason;
 	}
@@ -456,6 +553,34 @@ public class Listener {
 		return isOtherKeyPresent;
 	}
 
+	/**
+	 * Validates the structure of a map representing a batch insert request data
+	 * object. This method ensures that the map contains only the keys of the
+	 * batch envelope and its list of insert requests.
+	 *
+	 * @param requestData The map containing batch insert request data (key-value
+	 *                    pairs).
+	 * @return true if the map contains any unauthorized keys, false if the
+	 *         structure is valid (all keys are allowed).
+	 * @throws NullPointerException if the provided requestData map is null.
+	 */
+	public static boolean isValidInsertBatchRequestDto(Map<String, String> map) {
+		Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+		boolean isOtherKeyPresent = false;
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, String> entry = iterator.next();
+			if (!(entry.getKey().equals(TAG_ID) || entry.getKey().equals(TAG_VERSION)
+					|| entry.getKey().equals(TAG_REQUEST_ID) || entry.getKey().equals(TAG_REQUEST_TIME)
+					|| entry.getKey().equals("requests"))) {
+				isOtherKeyPresent = true;
+				break;
+			}
+		}
+
+		return isOtherKeyPresent;
+	}
+
 	/**
 	 * Serializes a provided response object (ResponseEntity) into JSON format and
 	 * sends it to the outbound queue. The method employs different encoding
@@ -468,14 +593,11 @@ public class Listener {
 	 */
 	public void sendToQueue(ResponseEntity<Object> obj, Integer textType)
 			throws JsonProcessingException, UnsupportedEncodingException {
-		final ObjectMapper mapper = new ObjectMapper();
-		mapper.findAndRegisterModules();
-		mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 		logger.info("Response: {} ", obj.getBody());
 		if (textType == 2) {
-			send(mapper.writeValueAsString(obj.getBody()).getBytes(StandardCharsets.UTF_8), outBoundQueue);
+			send(RESPONSE_WRITER.writeValueAsBytes(obj.getBody()), outBoundQueue);
 		} else if (textType == 1) {
-			send(mapper.writeValueAsString(obj.getBody()), outBoundQueue);
+			send(RESPONSE_WRITER.writeValueAsString(obj.getBody()), outBoundQueue);
 		}
 	}
 
@@ -529,10 +651,9 @@ public class Listener {
 		logger.info("getAbisQueueDetails.....{}", registrationProcessorAbis);
 		JSONObject regProcessorAbisJson;
 		MockAbisQueueDetails abisQueueDetails = new MockAbisQueueDetails();
-		Gson g = new Gson();
 
 		try {
-			regProcessorAbisJson = g.fromJson(registrationProcessorAbis, JSONObject.class);
+			regProcessorAbisJson = GSON.fromJson(registrationProcessorAbis, JSONObject.class);
 
 			ArrayList<Map> regProcessorAbisArray = (ArrayList<Map>) regProcessorAbisJson.get(ABIS);
 
@@ -553,6 +674,7 @@ public class Listener {
 				this.activeMQConnectionFactory.setTrustedPackages(Arrays.asList("io.mosip.proxy.abis.*"));
 				this.activeMQConnectionFactory.setUserName(userName);
 				this.activeMQConnectionFactory.setPassword(password);
+				this.activeMQConnectionFactory.getPrefetchPolicy().setQueuePrefetch(consumerPrefetch);
 				
 				abisQueueDetails.setTypeOfQueue(typeOfQueue);
 				abisQueueDetails.setInboundQueueName(inboundQueueName);
@@ -590,29 +712,44 @@ public class Listener {
 	}
 
 	/**
-	 * Establishes a connection to the ActiveMQ server and creates a session if
-	 * necessary. This method attempts to re-establish a connection if it's closed
-	 * or null. A session is created only if the connection is successfully
-	 * established and currently doesn't have an active session.
+	 * Establishes a connection to the ActiveMQ server and creates the producer
+	 * session if necessary. This method attempts to re-establish a connection if
+	 * it's closed or null, in which case the producers cached for the previous
+	 * connection are dropped.
 	 *
 	 * @throws JMSException if an error occurs during connection or session
 	 *                      creation.
 	 */
-	public void setup() {
+	public synchronized void setup() {
 		try {
 			if (connection == null || ((ActiveMQConnection) connection).isClosed()) {
 				connection = activeMQConnectionFactory.createConnection();
-
-				if (session == null) {
-					connection.start();
-					this.session = this.connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-				}
+				connection.start();
+				producers.clear();
+				this.session = this.connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
 			}
 		} catch (JMSException e) {
 			logger.error(e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * Closes the connection to the ActiveMQ server, together with its consumer and
+	 * producer sessions.
+	 */
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (connection == null)
+			return;
+		try {
+			connection.close();
+		} catch (JMSException e) {
+			logger.error("shutdown", e);
+		}
+		consumerSessions.clear();
+		producers.clear();
+	}
+
 	/**
 	 * Starts the processing of messages from the configured ABIS queues. This
 	 * method retrieves the ABIS queue details using `getAbisQueueDetails`. If
@@ -663,10 +800,11 @@ public class Listener {
 	/**
 	 * Consumes messages from a specified JMS queue using a provided message
 	 * listener. This method validates the connection factory and establishes a
-	 * connection/session if necessary using `setup`. It creates a destination
-	 * (queue object) and a message consumer for the provided address. The consumer
-	 * is then assigned the message listener based on the queue name and provided
-	 * object. The method closes the consumer in a finally block.
+	 * connection if necessary using `setup`. It then creates
+	 * `abis.queue.consumer.concurrency` consumers for the provided address, each in
+	 * its own session so that the messages are handled on as many threads. The
+	 * consumers are assigned the message listener based on the queue name and
+	 * provided object.
 	 *
 	 * @param address   The JMS queue address (name) to consume messages from.
 	 * @param object    The `QueueListener` object that will handle received
@@ -684,14 +822,18 @@ public class Listener {
 			throw new AbisException(AbisErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorCode(),
 					AbisErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorMessage());
 		}
-		if (destination == null) {
-			setup();
-		}
-		MessageConsumer consumer;
+		setup();
+		int consumers = Math.max(1, consumerConcurrency);
 		try {
-			destination = session.createQueue(address);
-			consumer = session.createConsumer(destination);
-			consumer.setMessageListener(getListener(queueName, object));
+			for (int i = 0; i < consumers; i++) {
+				Session consumerSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+				MessageConsumer consumer = consumerSession.createConsumer(consumerSession.createQueue(address));
+				consumer.setMessageListener(getListener(queueName, object));
+				synchronized (this) {
+					consumerSessions.add(consumerSession);
+				}
+			}
+			logger.info("Listening on {} with {} consumers", address, consumers);
 		} catch (JMSException e) {
 			logger.error("consume", e);
 		}
@@ -728,74 +870,86 @@ public class Listener {
 	/**
 	 * Sends a byte array message to the specified JMS queue address. This method
 	 * establishes a connection/session if necessary using `initialSetup`. It
-	 * creates a destination (queue object), a message producer, and a
-	 * `BytesMessage` object. The message is written as an object to the
-	 * `BytesMessage`, and then sent using the message producer. The method closes
-	 * the message producer in a finally block.
+	 * writes the message as an object to a `BytesMessage` and sends it with the
+	 * producer cached for the address. Sends are serialized as the producer
+	 * session is shared by the consumer and response scheduler threads.
 	 *
 	 * @param message The byte array representing the message to be sent.
 	 * @param address The JMS queue address (name) to send the message to.
 	 * @return True if the message was sent successfully, false otherwise.
 	 */
-	public Boolean send(byte[] message, String address) {
+	public synchronized Boolean send(byte[] message, String address) {
 		boolean flag = false;
-		MessageProducer messageProducer = null;
 		try {
 			initialSetup();
-			destination = session.createQueue(address);
-			messageProducer = session.createProducer(destination);
 			BytesMessage byteMessage = session.createBytesMessage();
 			byteMessage.writeObject(message);
-			messageProducer.send(byteMessage);
+			getProducer(address).send(byteMessage);
 			flag = true;
 		} catch (Exception e) {
 			logger.error("send", e);
-		} finally {
-			if (!Objects.isNull(messageProducer))
-				try {
-					messageProducer.close();
-				} catch (JMSException e) {
-					logger.error("send", e);
-				}
+			closeProducer(address);
 		}
 		return flag;
 	}
 
 	/**
 	 * Sends a String message to the specified JMS queue address. This method
-	 * establishes a connection/session if necessary using `initialSetup`. It
-	 * creates a destination (queue object), a message producer, and a
-	 * `BytesMessage` object. The message is written as an object to the
-	 * `BytesMessage`, and then sent using the message producer. The method closes
-	 * the message producer in a finally block.
+	 * establishes a connection/session if necessary using `initialSetup`. It sends
+	 * the message as a `TextMessage` with the producer cached for the address.
+	 * Sends are serialized as the producer session is shared by the consumer and
+	 * response scheduler threads.
 	 *
 	 * @param message The String representing the message to be sent.
 	 * @param address The JMS queue address (name) to send the message to.
 	 * @return True if the message was sent successfully, false otherwise.
 	 */
-	public Boolean send(String message, String address) {
+	public synchronized Boolean send(String message, String address) {
 		boolean flag = false;
-		MessageProducer messageProducer = null;
 		try {
 			initialSetup();
-			destination = session.createQueue(address);
-			messageProducer = session.createProducer(destination);
-			messageProducer.send(session.createTextMessage(message));
-
+			getProducer(address).send(session.createTextMessage(message));
 			flag = true;
 		} catch (Exception e) {
 			logger.error("send", e);
-		} finally {
-			if (!Objects.isNull(messageProducer))
-				try {
-					messageProducer.close();
-				} catch (JMSException e) {
-					logger.error("send", e);
-				}
+			closeProducer(address);
 		}
 		return flag;
 	}
 
+	/**
+	 * Retrieves the producer of a queue, creating it on the first send to the
+	 * queue. Callers hold the lock of this listener.
+	 *
+	 * @param address The JMS queue address (name).
+	 * @return The producer sending to the queue.
+	 * @throws JMSException if the producer cannot be created.
+	 */
+	private MessageProducer getProducer(String address) throws JMSException {
+		MessageProducer messageProducer = producers.get(address);
+		if (messageProducer == null) {
+			destination = session.createQueue(address);
+			messageProducer = session.createProducer(destination);
+			producers.put(address, messageProducer);
+		}
+		return messageProducer;
+	}
+
+	/**
+	 * Closes and forgets the producer of a queue after a failed send, so that the
+	 * next send creates a new one. Callers hold the lock of this listener.
+	 *
+	 * @param address The JMS queue address (name).
+	 */
+	private void closeProducer(String address) {
+		MessageProducer messageProducer = producers.remove(address);
+		if (!Objects.isNull(messageProducer))
+			try {
+				messageProducer.close();
+			} catch (JMSException e) {
+				logger.error("send", e);
+			}
+	}
 
 	/**
 	 * Initializes a connection and session to the ActiveMQ server if they are not
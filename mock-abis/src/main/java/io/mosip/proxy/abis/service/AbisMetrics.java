@@ -0,0 +1,79 @@
+package io.mosip.proxy.abis.service;
+
+/**
+ * Records where mock ABIS spends its time, as {@code mock.abis.*} metrics:
+ * the processing of each request, the time its message waited in the inbound
+ * queue, the fetch and decryption of CBEFFs and the duplicate queries of
+ * identify. The configured response delays are not included in any of them;
+ * the responses waiting for their delay are published by the
+ * {@link DelayedResponseScheduler}.
+ */
+public interface AbisMetrics {
+
+	/** Operation of an insert request. */
+	public static final String INSERT = "insert";
+
+	/** Operation of a batch insert request. */
+	public static final String INSERT_BATCH = "insert.batch";
+
+	/** Operation of an identify request. */
+	public static final String IDENTIFY = "identify";
+
+	/** Operation of a delete request. */
+	public static final String DELETE = "delete";
+
+	/**
+	 * Records the processing of a request, from its reception to its response
+	 * being scheduled.
+	 *
+	 * @param operation     The operation, such as {@link #INSERT}.
+	 * @param durationNanos The processing time in nanoseconds.
+	 * @param failureReason The failure reason of the response, or {@code null} if
+	 *                      it succeeded.
+	 */
+	public void recordRequest(String operation, long durationNanos, String failureReason);
+
+	/**
+	 * Records a message that could not be handed to any operation, such as a
+	 * message that is not JSON or has an unknown id.
+	 *
+	 * @param reason The error code of the failure.
+	 */
+	public void recordRejectedMessage(String reason);
+
+	/**
+	 * Records the time a message spent in the inbound queue, from its JMS
+	 * timestamp to its reception.
+	 *
+	 * @param lagMillis The queue lag in milliseconds.
+	 */
+	public void recordQueueLag(long lagMillis);
+
+	/**
+	 * Records the fetch of a CBEFF from Data Share, including its decryption and
+	 * the hashing of its BDBs.
+	 *
+	 * @param durationNanos The fetch time in nanoseconds.
+	 * @param failureReason The failure reason, or {@code null} if the fetch
+	 *                      succeeded.
+	 */
+	public void recordCbeffFetch(long durationNanos, String failureReason);
+
+	/**
+	 * Records the decryption of a CBEFF.
+	 *
+	 * @param durationNanos The decryption time in nanoseconds.
+	 * @param success       Whether the CBEFF could be decrypted.
+	 */
+	public void recordCbeffDecrypt(long durationNanos, boolean success);
+
+	/**
+	 * Records a duplicate query of identify.
+	 *
+	 * @param source        {@code index} or {@code database}, depending on where
+	 *                      the duplicates were looked up.
+	 * @param durationNanos The query time in nanoseconds.
+	 * @param candidates    The number of matching biometrics found.
+	 */
+	public void recordDuplicateQuery(String source, long durationNanos, int candidates);
+}
\ No newline at end of file
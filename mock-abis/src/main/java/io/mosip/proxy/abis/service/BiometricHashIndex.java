@@ -0,0 +1,95 @@
+package io.mosip.proxy.abis.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import io.mosip.proxy.abis.dto.BiometricHashDto;
+import io.mosip.proxy.abis.entity.BiometricData;
+
+/**
+ * In-memory inverted index from the bio_data hash of a biometric to the
+ * reference IDs holding it, used by identify instead of scanning the
+ * Biometric_Data table. The index mirrors the database: it is rebuilt from it
+ * at startup and updated by every insert and delete. Updates requested within a
+ * transaction are applied once it commits.
+ * <p>
+ * Only the inserts and deletes of this instance update the index, so it
+ * assumes a single mock ABIS instance per database. With several replicas
+ * sharing a database, disable it with {@code abis.identify.index.enabled}.
+ * </p>
+ */
+public interface BiometricHashIndex {
+
+	/**
+	 * Checks if identify should use the index, set with
+	 * {@code abis.identify.index.enabled}.
+	 *
+	 * @return A {@link boolean} indicating whether the index is enabled.
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * Replaces the content of the index with the reference IDs and biometrics
+	 * stored in the database, including the reference IDs without biometrics.
+	 */
+	public void rebuild();
+
+	/**
+	 * Adds the biometrics of a newly inserted reference ID.
+	 *
+	 * @param referenceId The reference ID.
+	 * @param biometrics  The biometrics saved for the reference ID.
+	 */
+	public void add(String referenceId, List<BiometricData> biometrics);
+
+	/**
+	 * Removes a deleted reference ID and its biometrics.
+	 *
+	 * @param referenceId The reference ID.
+	 */
+	public void remove(String referenceId);
+
+	/**
+	 * Retrieves the bio_data hashes of a reference ID.
+	 *
+	 * @param referenceId The reference ID.
+	 * @return The hashes, empty if the reference ID is unknown.
+	 */
+	public List<String> getBioData(String referenceId);
+
+	/**
+	 * Retrieves the reference IDs holding a bio_data hash.
+	 *
+	 * @param bioData             The bio_data hash.
+	 * @param galleryReferenceIds The reference IDs to restrict the result to, or
+	 *                            {@code null} for all.
+	 * @return The distinct reference IDs.
+	 */
+	public List<String> getReferenceIds(String bioData, Collection<String> galleryReferenceIds);
+
+	/**
+	 * Counts the distinct reference IDs of the given list that are indexed.
+	 *
+	 * @param referenceIds The reference IDs to look for.
+	 * @return The number of indexed reference IDs.
+	 */
+	public int countReferenceIds(Collection<String> referenceIds);
+
+	/**
+	 * Finds the biometrics of other reference IDs sharing a bio_data hash with
+	 * the given reference ID, ordered by reference ID.
+	 *
+	 * @param referenceId         The reference ID being identified.
+	 * @param galleryReferenceIds The reference IDs to search in, or {@code null}
+	 *                            for all.
+	 * @return The matching biometrics of the candidates.
+	 */
+	public List<BiometricHashDto> findDuplicates(String referenceId, Collection<String> galleryReferenceIds);
+
+	/**
+	 * Retrieves the number of indexed reference IDs.
+	 *
+	 * @return The number of reference IDs.
+	 */
+	public int size();
+}
\ No newline at end of file
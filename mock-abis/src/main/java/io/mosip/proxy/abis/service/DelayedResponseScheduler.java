@@ -0,0 +1,50 @@
+package io.mosip.proxy.abis.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delayed work of mock ABIS, such as sending a response to the
+ * outbound queue after the expectation delay or processing a JMS message after
+ * {@code registration.processor.abis.response.delay}, without holding the
+ * calling thread for the delay.
+ */
+public interface DelayedResponseScheduler {
+
+	/**
+	 * Schedules a task to run once after the given delay. A failing task is
+	 * logged and counted and does not affect other scheduled tasks.
+	 *
+	 * @param task  The task to run.
+	 * @param delay The delay, zero or negative to run as soon as a thread is free.
+	 * @param unit  The unit of the delay.
+	 */
+	public void schedule(Runnable task, long delay, TimeUnit unit);
+
+	/**
+	 * Retrieves the number of tasks waiting for their delay or for a free thread.
+	 *
+	 * @return The queue depth of the scheduler.
+	 */
+	public int getQueueSize();
+
+	/**
+	 * Retrieves the number of tasks being run at the moment.
+	 *
+	 * @return The number of busy scheduler threads.
+	 */
+	public int getActiveCount();
+
+	/**
+	 * Retrieves the number of tasks run so far, including failed ones.
+	 *
+	 * @return The completed task count.
+	 */
+	public long getCompletedTaskCount();
+
+	/**
+	 * Retrieves the number of tasks that ended with an exception.
+	 *
+	 * @return The failed task count.
+	 */
+	public long getFailedTaskCount();
+}
\ No newline at end of file
@@ -1,9 +1,11 @@
 package io.mosip.proxy.abis.service;
 
+import io.mosip.proxy.abis.dto.BiometricHashPageDto;
 import io.mosip.proxy.abis.dto.Expectation;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service interface defining operations for managing ABIS (Automated Biometric
@@ -66,12 +68,24 @@ public interface ProxyAbisConfigService {
 	public void deleteExpectations();
 
 	/**
-	 * Retrieves a list of cached biometric data hashes.
+	 * Retrieves a page of the distinct cached biometric data hashes, in
+	 * ascending order, the same hashes as the full list.
 	 *
-	 * @return A {@link List} of {@link String} representing the hashes of cached
-	 *         biometric data.
+	 * @param after The {@code next} value of the previous page, or {@code null}
+	 *              for the first page.
+	 * @param size  The maximum number of hashes to return.
+	 * @return A {@link BiometricHashPageDto} holding the hashes following
+	 *         {@code after} and the {@code next} value of the following page.
 	 */
-	public List<String> getCachedBiometrics();
+	public BiometricHashPageDto getCachedBiometrics(String after, int size);
+
+	/**
+	 * Passes every cached biometric data hash to the given action, reading them
+	 * from the database in batches rather than loading them all at once.
+	 *
+	 * @param action A {@link Consumer} receiving each hash.
+	 */
+	public void forEachCachedBiometric(Consumer<String> action);
 
 	/**
 	 * Retrieves cached biometric data for a specific hash.
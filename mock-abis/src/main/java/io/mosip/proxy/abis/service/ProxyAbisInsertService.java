@@ -1,9 +1,12 @@
 package io.mosip.proxy.abis.service;
 
+import java.util.List;
+
 import org.springframework.web.multipart.MultipartFile;
 
 import io.mosip.proxy.abis.dto.IdentifyDelayResponse;
 import io.mosip.proxy.abis.dto.IdentityRequest;
+import io.mosip.proxy.abis.dto.InsertDelayResponse;
 import io.mosip.proxy.abis.dto.InsertRequestMO;
 
 /**
@@ -30,6 +33,16 @@ public interface ProxyAbisInsertService {
 	 */
 	public int insertData(InsertRequestMO ie);
 
+	/**
+	 * Inserts a batch of InsertRequestMO objects into the ABIS. The CBEFFs are
+	 * fetched and hashed concurrently and the records are stored with JDBC
+	 * batching; a failing request does not affect the others.
+	 *
+	 * @param insertRequests The insert requests, already validated.
+	 * @return The outcome of each request, in the order of the requests.
+	 */
+	public List<InsertDelayResponse> insertData(List<InsertRequestMO> insertRequests);
+
 	/**
 	 * Searches for potential duplicate biometric data based on the information
 	 * provided in the IdentityRequest object.
@@ -0,0 +1,108 @@
+package io.mosip.proxy.abis.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.proxy.abis.service.AbisMetrics;
+
+/**
+ * Implementation of the {@link AbisMetrics} interface publishing Micrometer
+ * meters to the application {@link MeterRegistry}.
+ * <p>
+ * Timers are tagged with an {@code outcome} of {@code success} or
+ * {@code failure} and, for failures, the failure reason code sent in the
+ * response, so the cost of forced errors and expectations can be told apart
+ * from normal processing. Percentile histograms can be turned on per meter with
+ * {@code management.metrics.distribution.percentiles-histogram.<name>}.
+ * </p>
+ */
+@Component
+public class AbisMetricsImpl implements AbisMetrics {
+	private static final String METRIC_PREFIX = "mock.abis.";
+
+	private static final String OUTCOME = "outcome";
+	private static final String REASON = "reason";
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String NO_REASON = "none";
+
+	private final MeterRegistry registry;
+	private final Timer queueLag;
+	private final Timer decryptSuccess;
+	private final Timer decryptFailure;
+	private final DistributionSummary identifyCandidates;
+
+	/**
+	 * Creates the metrics on the given registry.
+	 *
+	 * @param registry The registry the meters are published to.
+	 */
+	public AbisMetricsImpl(MeterRegistry registry) {
+		this.registry = registry;
+		this.queueLag = Timer.builder(METRIC_PREFIX + "queue.lag")
+				.description("Time the requests waited in the inbound queue before being received").register(registry);
+		this.decryptSuccess = decryptTimer(SUCCESS);
+		this.decryptFailure = decryptTimer(FAILURE);
+		this.identifyCandidates = DistributionSummary.builder(METRIC_PREFIX + "identify.candidates")
+				.description("Matching biometrics found by the duplicate queries of identify").register(registry);
+	}
+
+	@Override
+	public void recordRequest(String operation, long durationNanos, String failureReason) {
+		Timer.builder(METRIC_PREFIX + "request")
+				.description("Time to process a request, without its configured response delay")
+				.tag("operation", operation).tag(OUTCOME, outcome(failureReason)).tag(REASON, reason(failureReason))
+				.register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordRejectedMessage(String reason) {
+		Counter.builder(METRIC_PREFIX + "queue.rejected")
+				.description("Received messages that could not be processed as a request").tag(REASON, reason(reason))
+				.register(registry).increment();
+	}
+
+	@Override
+	public void recordQueueLag(long lagMillis) {
+		queueLag.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void recordCbeffFetch(long durationNanos, String failureReason) {
+		Timer.builder(METRIC_PREFIX + "cbeff.fetch")
+				.description("Time to fetch a CBEFF from Data Share, decrypt it and hash its BDBs")
+				.tag(OUTCOME, outcome(failureReason)).tag(REASON, reason(failureReason)).register(registry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordCbeffDecrypt(long durationNanos, boolean success) {
+		(success ? decryptSuccess : decryptFailure).record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordDuplicateQuery(String source, long durationNanos, int candidates) {
+		Timer.builder(METRIC_PREFIX + "identify.duplicates")
+				.description("Time to look up the duplicates of an identify request").tag("source", source)
+				.register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+		identifyCandidates.record(candidates);
+	}
+
+	private Timer decryptTimer(String outcome) {
+		return Timer.builder(METRIC_PREFIX + "cbeff.decrypt").description("Time to decrypt a CBEFF")
+				.tag(OUTCOME, outcome).register(registry);
+	}
+
+	private static String outcome(String failureReason) {
+		return failureReason == null ? SUCCESS : FAILURE;
+	}
+
+	private static String reason(String failureReason) {
+		return failureReason == null ? NO_REASON : failureReason;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+package io.mosip.proxy.abis.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.proxy.abis.dao.ProxyAbisBioDataRepository;
+import io.mosip.proxy.abis.dao.ProxyAbisInsertRepository;
+import io.mosip.proxy.abis.dto.BiometricHashDto;
+import io.mosip.proxy.abis.entity.BiometricData;
+import io.mosip.proxy.abis.service.BiometricHashIndex;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Implementation of the {@link BiometricHashIndex} interface using
+ * {@link ConcurrentHashMap}s.
+ * <p>
+ * Two maps are kept: bio_data hash to the set of reference IDs holding it, and
+ * reference ID to its biometrics. An identify then costs one lookup per hash of
+ * the sample plus the biometrics of the candidates found, whatever the size of
+ * the gallery. Lookups do not lock; inserts, deletes and rebuilds are
+ * serialized. A rebuild fills new maps and swaps both in at once, so lookups
+ * never see a partially loaded index.
+ * </p>
+ * <p>
+ * Updates made within a transaction are applied once it commits, so the index
+ * never holds rows that were rolled back or that other connections cannot see
+ * yet.
+ * </p>
+ * <p>
+ * The indexed biometrics are {@link BiometricHashDto} projections (reference
+ * ID, type and hash) so the index does not keep the persisted entity graphs
+ * alive.
+ * </p>
+ * <p>
+ * The index is kept in sync by the inserts and deletes of this instance only;
+ * a reference ID inserted or deleted by another instance sharing the database
+ * is not seen until the next rebuild.
+ * </p>
+ */
+@Component
+public class BiometricHashIndexImpl implements BiometricHashIndex {
+	private static final Logger logger = LoggerFactory.getLogger(BiometricHashIndexImpl.class);
+
+	private ProxyAbisBioDataRepository proxyAbisBioDataRepository;
+
+	private ProxyAbisInsertRepository proxyAbisInsertRepository;
+
+	@Value("${abis.identify.index.enabled:true}")
+	private boolean enabled;
+
+	/** The maps of the index, replaced as a whole by a rebuild. */
+	private volatile Maps maps = new Maps();
+
+	public BiometricHashIndexImpl(ProxyAbisBioDataRepository proxyAbisBioDataRepository,
+			ProxyAbisInsertRepository proxyAbisInsertRepository) {
+		this.proxyAbisBioDataRepository = proxyAbisBioDataRepository;
+		this.proxyAbisInsertRepository = proxyAbisInsertRepository;
+	}
+
+	/**
+	 * Loads the index from the database at startup when it is enabled.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled)
+			rebuild();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void rebuild() {
+		afterCommit(this::load);
+	}
+
+	@Override
+	public void add(String referenceId, List<BiometricData> biometrics) {
+		List<BiometricHashDto> copies = new ArrayList<>(biometrics.size());
+		for (BiometricData bio : biometrics)
+			copies.add(new BiometricHashDto(referenceId, bio.getType(), bio.getBioData()));
+		afterCommit(() -> replace(referenceId, copies));
+	}
+
+	@Override
+	public void remove(String referenceId) {
+		afterCommit(() -> delete(referenceId));
+	}
+
+	private synchronized void load() {
+		long startTime = System.currentTimeMillis();
+		Map<String, List<BiometricHashDto>> biometrics = new HashMap<>();
+		for (BiometricHashDto bio : proxyAbisBioDataRepository.fetchAllReferenceIdAndBioData())
+			biometrics.computeIfAbsent(bio.getReferenceId(), k -> new ArrayList<>()).add(bio);
+		// reference IDs inserted without biometrics are indexed as well, as add does
+		for (String referenceId : proxyAbisInsertRepository.fetchAllReferenceIds())
+			biometrics.putIfAbsent(referenceId, new ArrayList<>());
+		Maps loaded = new Maps();
+		biometrics.forEach(loaded::put);
+		maps = loaded;
+		logger.info("Biometric hash index rebuilt with {} reference ids and {} hashes in {} ms",
+				loaded.biometricsByReferenceId.size(), loaded.referenceIdsByBioData.size(),
+				System.currentTimeMillis() - startTime);
+	}
+
+	private synchronized void replace(String referenceId, List<BiometricHashDto> biometrics) {
+		Maps current = maps;
+		current.remove(referenceId);
+		current.put(referenceId, biometrics);
+	}
+
+	private synchronized void delete(String referenceId) {
+		maps.remove(referenceId);
+	}
+
+	@Override
+	public List<String> getBioData(String referenceId) {
+		List<BiometricHashDto> biometrics = maps.biometricsByReferenceId.getOrDefault(referenceId,
+				Collections.emptyList());
+		List<String> bioValues = new ArrayList<>(biometrics.size());
+		for (BiometricHashDto bio : biometrics)
+			bioValues.add(bio.getBioData());
+		return bioValues;
+	}
+
+	@Override
+	public List<String> getReferenceIds(String bioData, Collection<String> galleryReferenceIds) {
+		if (bioData == null)
+			return new ArrayList<>();
+		Set<String> referenceIds = maps.referenceIdsByBioData.getOrDefault(bioData, Collections.emptySet());
+		List<String> result = new ArrayList<>(referenceIds.size());
+		for (String referenceId : referenceIds) {
+			if (galleryReferenceIds == null || galleryReferenceIds.contains(referenceId))
+				result.add(referenceId);
+		}
+		return result;
+	}
+
+	@Override
+	public int countReferenceIds(Collection<String> referenceIds) {
+		Map<String, List<BiometricHashDto>> biometricsByReferenceId = maps.biometricsByReferenceId;
+		int count = 0;
+		for (String referenceId : new HashSet<>(referenceIds)) {
+			if (biometricsByReferenceId.containsKey(referenceId))
+				count++;
+		}
+		return count;
+	}
+
+	@Override
+	public List<BiometricHashDto> findDuplicates(String referenceId, Collection<String> galleryReferenceIds) {
+		Maps current = maps;
+		List<BiometricHashDto> sample = current.biometricsByReferenceId.getOrDefault(referenceId,
+				Collections.emptyList());
+		Set<String> sampleBioData = new HashSet<>();
+		for (BiometricHashDto bio : sample) {
+			if (bio.getBioData() != null)
+				sampleBioData.add(bio.getBioData());
+		}
+
+		Set<String> gallery = galleryReferenceIds == null ? null : new HashSet<>(galleryReferenceIds);
+		Map<String, List<BiometricHashDto>> candidates = new TreeMap<>();
+		for (String bioData : sampleBioData) {
+			for (String candidateId : current.referenceIdsByBioData.getOrDefault(bioData, Collections.emptySet())) {
+				if (candidateId.equals(referenceId) || (gallery != null && !gallery.contains(candidateId))
+						|| candidates.containsKey(candidateId))
+					continue;
+
+				List<BiometricHashDto> matches = new ArrayList<>();
+				for (BiometricHashDto bio : current.biometricsByReferenceId.getOrDefault(candidateId,
+						Collections.emptyList())) {
+					if (sampleBioData.contains(bio.getBioData()))
+						matches.add(bio);
+				}
+				candidates.put(candidateId, matches);
+			}
+		}
+
+		List<BiometricHashDto> duplicates = new ArrayList<>();
+		candidates.values().forEach(duplicates::addAll);
+		return duplicates;
+	}
+
+	@Override
+	public int size() {
+		return maps.biometricsByReferenceId.size();
+	}
+
+	/**
+	 * Runs an update of the index once the current transaction commits, or right
+	 * away outside a transaction. The update is dropped if the transaction rolls
+	 * back.
+	 *
+	 * @param update The update of the index.
+	 */
+	private static void afterCommit(Runnable update) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			update.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				update.run();
+			}
+		});
+	}
+
+	/**
+	 * The two maps of the index, swapped together on rebuild.
+	 */
+	private static final class Maps {
+		/** bio_data hash to the reference IDs holding it. */
+		private final Map<String, Set<String>> referenceIdsByBioData = new ConcurrentHashMap<>();
+
+		/** reference ID to its biometrics. */
+		private final Map<String, List<BiometricHashDto>> biometricsByReferenceId = new ConcurrentHashMap<>();
+
+		private void put(String referenceId, List<BiometricHashDto> biometrics) {
+			biometricsByReferenceId.put(referenceId, Collections.unmodifiableList(biometrics));
+			for (BiometricHashDto bio : biometrics) {
+				if (bio.getBioData() != null)
+					referenceIdsByBioData.computeIfAbsent(bio.getBioData(), k -> ConcurrentHashMap.newKeySet())
+							.add(referenceId);
+			}
+		}
+
+		private void remove(String referenceId) {
+			List<BiometricHashDto> biometrics = biometricsByReferenceId.remove(referenceId);
+			if (biometrics == null)
+				return;
+
+			for (BiometricHashDto bio : biometrics) {
+				if (bio.getBioData() == null)
+					continue;
+				referenceIdsByBioData.computeIfPresent(bio.getBioData(), (bioData, referenceIds) -> {
+					referenceIds.remove(referenceId);
+					return referenceIds.isEmpty() ? null : referenceIds;
+				});
+			}
+		}
+	}
+}
\ No newline at end of file
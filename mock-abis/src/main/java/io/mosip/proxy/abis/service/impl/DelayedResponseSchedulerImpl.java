@@ -0,0 +1,118 @@
+package io.mosip.proxy.abis.service.impl;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.proxy.abis.service.DelayedResponseScheduler;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of the {@link DelayedResponseScheduler} interface using a
+ * {@link ScheduledThreadPoolExecutor}.
+ * <p>
+ * The pool is sized with {@code abis.response.scheduler.pool.size}, so a slow
+ * task only holds one of its threads and the delays of different requests run
+ * concurrently instead of one after another as on a single {@code Timer}. The
+ * queue depth, busy threads and completed and failed task counts are published
+ * as {@code mock.abis.response.scheduler.*} metrics.
+ * </p>
+ */
+@Component
+public class DelayedResponseSchedulerImpl implements DelayedResponseScheduler, MeterBinder {
+	private static final Logger logger = LoggerFactory.getLogger(DelayedResponseSchedulerImpl.class);
+
+	private static final String METRIC_PREFIX = "mock.abis.response.scheduler.";
+
+	private final ScheduledThreadPoolExecutor executor;
+	private final AtomicLong failedTaskCount = new AtomicLong();
+
+	/**
+	 * Creates the scheduler with the configured number of threads.
+	 *
+	 * @param poolSize The number of scheduler threads.
+	 */
+	public DelayedResponseSchedulerImpl(@Value("${abis.response.scheduler.pool.size:8}") int poolSize) {
+		this.executor = new ScheduledThreadPoolExecutor(Math.max(1, poolSize), new SchedulerThreadFactory());
+		this.executor.setRemoveOnCancelPolicy(true);
+		this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		logger.info("Delayed response scheduler started with {} threads", this.executor.getCorePoolSize());
+	}
+
+	@Override
+	public void schedule(Runnable task, long delay, TimeUnit unit) {
+		this.executor.schedule(() -> {
+			try {
+				task.run();
+			} catch (Exception ex) {
+				failedTaskCount.incrementAndGet();
+				logger.error("schedule::task failed ", ex);
+			}
+		}, Math.max(0, delay), unit);
+	}
+
+	@Override
+	public int getQueueSize() {
+		return this.executor.getQueue().size();
+	}
+
+	@Override
+	public int getActiveCount() {
+		return this.executor.getActiveCount();
+	}
+
+	@Override
+	public long getCompletedTaskCount() {
+		return this.executor.getCompletedTaskCount();
+	}
+
+	@Override
+	public long getFailedTaskCount() {
+		return this.failedTaskCount.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(METRIC_PREFIX + "queue.size", this, DelayedResponseScheduler::getQueueSize)
+				.description("Delayed responses waiting for their delay or a free thread").register(registry);
+		Gauge.builder(METRIC_PREFIX + "active", this, DelayedResponseScheduler::getActiveCount)
+				.description("Delayed responses being run").register(registry);
+		Gauge.builder(METRIC_PREFIX + "pool.size", this.executor, ScheduledThreadPoolExecutor::getCorePoolSize)
+				.description("Threads of the delayed response scheduler").register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + "completed", this, DelayedResponseScheduler::getCompletedTaskCount)
+				.description("Delayed responses run").register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + "failed", this, DelayedResponseScheduler::getFailedTaskCount)
+				.description("Delayed responses that ended with an exception").register(registry);
+	}
+
+	/**
+	 * Stops the scheduler; responses still waiting for their delay are dropped.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		logger.info("Delayed response scheduler stopping with {} queued tasks", getQueueSize());
+		this.executor.shutdown();
+	}
+
+	private static class SchedulerThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "abis-response-scheduler-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
\ No newline at end of file
@@ -2,15 +2,21 @@ package io.mosip.proxy.abis.service.impl;
 
 import io.mosip.proxy.abis.dao.ProxyAbisBioDataRepository;
 import io.mosip.proxy.abis.dao.ProxyAbisInsertRepository;
+import io.mosip.proxy.abis.dto.BiometricHashPageDto;
 import io.mosip.proxy.abis.dto.Expectation;
+import io.mosip.proxy.abis.service.BiometricHashIndex;
 import io.mosip.proxy.abis.service.ExpectationCache;
 import io.mosip.proxy.abis.service.ProxyAbisConfigService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link ProxyAbisConfigService} providing configuration and
@@ -35,6 +41,7 @@ public class ProxyAbisConfigServiceImpl implements ProxyAbisConfigService {
 	private ProxyAbisInsertRepository proxyabis;
 	private ProxyAbisBioDataRepository proxyAbisBioDataRepository;
 	private ExpectationCache expectationCache;
+	private BiometricHashIndex biometricHashIndex;
 
 	/**
 	 * Flag to determine if duplicate biometric data should be returned. Default
@@ -58,13 +65,16 @@ public class ProxyAbisConfigServiceImpl implements ProxyAbisConfigService {
 	 *                                   operations.
 	 * @param proxyAbisBioDataRepository The repository for managing biometric data.
 	 * @param expectationCache           The cache for managing expectations.
+	 * @param biometricHashIndex         The in-memory index of the biometric data.
 	 */
 	@Autowired
 	public ProxyAbisConfigServiceImpl(ProxyAbisInsertRepository proxyabis,
-			ProxyAbisBioDataRepository proxyAbisBioDataRepository, ExpectationCache expectationCache) {
+			ProxyAbisBioDataRepository proxyAbisBioDataRepository, ExpectationCache expectationCache,
+			BiometricHashIndex biometricHashIndex) {
 		this.proxyabis = proxyabis;
 		this.proxyAbisBioDataRepository = proxyAbisBioDataRepository;
 		this.expectationCache = expectationCache;
+		this.biometricHashIndex = biometricHashIndex;
 	}
 
 	/**
@@ -133,12 +143,34 @@ public class ProxyAbisConfigServiceImpl implements ProxyAbisConfigService {
 	}
 
 	/**
-	 * Retrieves all cached biometric data.
+	 * Retrieves a page of the distinct cached biometric data, in ascending order.
 	 * 
-	 * @return A list of strings representing all cached biometric data.
+	 * @param after The {@code next} value of the previous page, or {@code null}
+	 *              for the first page.
+	 * @param size  The maximum number of hashes to return.
+	 * @return The hashes following {@code after}, with the {@code next} value of
+	 *         the following page, {@code null} if this page is the last one.
 	 */
-	public List<String> getCachedBiometrics() {
-		return proxyAbisBioDataRepository.fetchAllBioData();
+	public BiometricHashPageDto getCachedBiometrics(String after, int size) {
+		int pageSize = Math.max(1, size);
+		PageRequest page = PageRequest.of(0, pageSize);
+		List<String> hashes = null == after ? proxyAbisBioDataRepository.fetchFirstBioDataPage(page)
+				: proxyAbisBioDataRepository.fetchBioDataPage(after, page);
+		String next = hashes.size() < pageSize ? null : hashes.get(hashes.size() - 1);
+		return new BiometricHashPageDto(hashes, next);
+	}
+
+	/**
+	 * Passes all cached biometric data to the given action, streamed from the
+	 * database within a read-only transaction.
+	 * 
+	 * @param action The action receiving each hash.
+	 */
+	@Transactional(readOnly = true)
+	public void forEachCachedBiometric(Consumer<String> action) {
+		try (Stream<String> bioData = proxyAbisBioDataRepository.streamAllBioData()) {
+			bioData.forEach(action);
+		}
 	}
 
 	/**
@@ -154,10 +186,13 @@ public class ProxyAbisConfigServiceImpl implements ProxyAbisConfigService {
 
 	/**
 	 * Deletes all cached biometric data from both the biometric and insert
-	 * repositories.
+	 * repositories, with one bulk statement each.
 	 */
+	@Transactional
 	public void deleteAllCachedBiometrics() {
-		proxyAbisBioDataRepository.deleteAll();
-		proxyabis.deleteAll();
+		proxyAbisBioDataRepository.deleteAllBioData();
+		proxyabis.deleteAllInsertRequests();
+		if (biometricHashIndex.isEnabled())
+			biometricHashIndex.rebuild();
 	}
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package io.mosip.proxy.abis.service.impl;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -10,13 +14,22 @@ import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.apache.commons.io.IOUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -34,6 +47,8 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,21 +59,31 @@ import io.mosip.kernel.core.cbeffutil.exception.CbeffException;
 import io.mosip.proxy.abis.constant.FailureReasonsConstants;
 import io.mosip.proxy.abis.dao.ProxyAbisBioDataRepository;
 import io.mosip.proxy.abis.dao.ProxyAbisInsertRepository;
+import io.mosip.proxy.abis.dto.BiometricHashDto;
 import io.mosip.proxy.abis.dto.Expectation;
 import io.mosip.proxy.abis.dto.IdentifyDelayResponse;
 import io.mosip.proxy.abis.dto.IdentityRequest;
 import io.mosip.proxy.abis.dto.IdentityResponse;
 import io.mosip.proxy.abis.dto.IdentityResponse.Modalities;
+import io.mosip.proxy.abis.dto.InsertDelayResponse;
 import io.mosip.proxy.abis.dto.InsertRequestMO;
 import io.mosip.proxy.abis.dto.RequestMO;
 import io.mosip.proxy.abis.entity.BiometricData;
 import io.mosip.proxy.abis.entity.InsertEntity;
 import io.mosip.proxy.abis.exception.AbisException;
 import io.mosip.proxy.abis.exception.RequestException;
+import io.mosip.proxy.abis.service.AbisMetrics;
+import io.mosip.proxy.abis.service.BiometricHashIndex;
 import io.mosip.proxy.abis.service.ExpectationCache;
 import io.mosip.proxy.abis.service.ProxyAbisConfigService;
 import io.mosip.proxy.abis.service.ProxyAbisInsertService;
+import io.mosip.proxy.abis.utility.CbeffDigestReader;
+import io.mosip.proxy.abis.utility.CbeffDigestReader.BdbDigest;
 import io.mosip.proxy.abis.utility.CryptoCoreUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * Service implementation for handling biometric data insertion and duplication
@@ -75,6 +100,9 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 
 	private static final String PROPERTIES_FILE_NAME = "partner.properties";
 
+	/** Number of leading whitespace bytes looked through to classify a response. */
+	private static final int CBEFF_PEEK_LIMIT = 8192;
+
 	private ProxyAbisInsertRepository proxyabis;
 	private ProxyAbisBioDataRepository proxyAbisBioDataRepository;
 	private ProxyAbisConfigService proxyAbisConfigService;
@@ -86,8 +114,8 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 	private CryptoCoreUtil cryptoUtil;
 	private Environment env;
 	private ExpectationCache expectationCache;
-
-	private String cbeffURL = null;
+	private BiometricHashIndex biometricHashIndex;
+	private AbisMetrics metrics;
 
 	/**
 	 * Flag for enabling or disabling biometric data encryption.
@@ -95,22 +123,71 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 	@Value("${abis.bio.encryption:true}")
 	private boolean encryption;
 
+	/**
+	 * Flag for hashing the BDBs while the CBEFF is read from the response stream
+	 * instead of fetching it as a String and unmarshalling it.
+	 */
+	@Value("${abis.insert.cbeff.streaming.enabled:true}")
+	private boolean cbeffStreaming;
+
 	/**
 	 * MOSIP host URL.
 	 */
 	@Value("${mosip_host:#{null}}")
 	private String mosipHost;
 
+	/**
+	 * Number of CBEFFs of a batch insert fetched, decrypted and hashed at the same
+	 * time.
+	 */
+	@Value("${abis.insert.batch.parallelism:8}")
+	private int batchParallelism;
+
+	/**
+	 * Number of reference IDs of a batch insert stored per transaction, matching
+	 * {@code hibernate.jdbc.batch_size}.
+	 */
+	@Value("${abis.insert.batch.size:100}")
+	private int batchSize;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private TransactionTemplate transactionTemplate;
+	private ExecutorService batchExecutor;
+
 	@Autowired(required = true)
 	public ProxyAbisInsertServiceImpl(ProxyAbisInsertRepository proxyabis,
 			ProxyAbisBioDataRepository proxyAbisBioDataRepository, ProxyAbisConfigService proxyAbisConfigService,
-			CryptoCoreUtil cryptoUtil, Environment env, ExpectationCache expectationCache) {
+			CryptoCoreUtil cryptoUtil, Environment env, ExpectationCache expectationCache,
+			BiometricHashIndex biometricHashIndex, PlatformTransactionManager transactionManager,
+			AbisMetrics metrics) {
 		this.proxyabis = proxyabis;
 		this.proxyAbisBioDataRepository = proxyAbisBioDataRepository;
 		this.proxyAbisConfigService = proxyAbisConfigService;
 		this.cryptoUtil = cryptoUtil;
 		this.env = env;
 		this.expectationCache = expectationCache;
+		this.biometricHashIndex = biometricHashIndex;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Starts the threads fetching the CBEFFs of batch inserts.
+	 */
+	@PostConstruct
+	public void init() {
+		batchExecutor = Executors.newFixedThreadPool(Math.max(1, batchParallelism),
+				Thread.ofPlatform().name("abis-insert-batch-", 1).daemon().factory());
+	}
+
+	/**
+	 * Stops the batch insert threads.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		batchExecutor.shutdownNow();
 	}
 
 	/**
@@ -125,34 +202,23 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 	public int insertData(InsertRequestMO ire) {
 		int delayResponse = 0;
 		try {
-			java.util.Optional<InsertEntity> op = proxyabis.findById(ire.getReferenceId());
-			if (!op.isEmpty()) {
+			if (proxyabis.existsById(ire.getReferenceId())) {
 				logger.error("Reference Id already exists {}", ire.getReferenceId());
 				RequestMO re = new RequestMO(ire.getId(), ire.getVersion(), ire.getRequestId(), ire.getRequesttime(),
 						ire.getReferenceId());
 				throw new RequestException(re, FailureReasonsConstants.REFERENCEID_ALREADY_EXISTS);
 			}
-			cbeffURL = ire.getReferenceURL();
 			InsertEntity ie = new InsertEntity(ire.getId(), ire.getVersion(), ire.getRequestId(), ire.getRequesttime(),
 					ire.getReferenceId());
-			List<BiometricData> lst = fetchCBEFF(ie);
+			List<BiometricData> lst = fetchCBEFF(ie, ire.getReferenceURL());
 			if (null == lst || lst.isEmpty())
 				throw new RequestException(FailureReasonsConstants.INVALID_CBEFF_FORMAT);
 
-			for (BiometricData bdt : lst) {
-				Expectation exp = expectationCache.get(bdt.getBioData());
-				if (exp.getId() != null && !exp.getId().isEmpty() && exp.getActionToInterfere().equals("Insert")) {
-					logger.info("Expectation found for {}", exp.getId());
-					if (exp.getDelayInExecution() != null && !exp.getDelayInExecution().isEmpty()) {
-						delayResponse = Integer.parseInt(exp.getDelayInExecution());
-					}
-					if (exp.getForcedResponse().equals("Error")) {
-						throw new RequestException(exp.getErrorCode(), delayResponse);
-					}
-				}
-			}
+			delayResponse = applyInsertExpectations(lst);
 			ie.setBiometricList(lst);
 			proxyabis.save(ie);
+			if (biometricHashIndex.isEnabled())
+				biometricHashIndex.add(ie.getReferenceId(), lst);
 			return delayResponse;
 		} catch (CbeffException cbef) {
 			logger.error("CBEFF error While inserting data ", cbef);
@@ -167,114 +233,247 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 	}
 
 	/**
-	 * Fetches CBEFF data from the given URL and parses it.
+	 * Inserts a batch of requests. Reference IDs already stored, or repeated in the
+	 * batch, are rejected up front with one query; the CBEFFs of the others are
+	 * fetched, decrypted and hashed on the batch threads, and the resulting
+	 * records are persisted {@code abis.insert.batch.size} at a time.
 	 *
-	 * @param ie the insertion entity
-	 * @return a list of biometric data
-	 * @throws Exception if an error occurs while fetching or parsing CBEFF data
+	 * @param insertRequests the validated insertion requests
+	 * @return the outcome of each request, in the order of the requests
 	 */
-	@SuppressWarnings({ "java:S1141" })
-	private List<BiometricData> fetchCBEFF(InsertEntity ie) throws Exception {
-		List<BiometricData> lst = new ArrayList();
-		try {
-			logger.info("Fetching CBEFF for reference URL-" + cbeffURL);
-			ResponseEntity<String> cbeffResp = restTemplate.exchange(cbeffURL, HttpMethod.GET, null, String.class);
-			logger.info("CBEFF response-" + cbeffResp);
-			String cbeff = cbeffResp.getBody();
-			logger.info("CBEFF Data-" + cbeff);
+	@Override
+	public List<InsertDelayResponse> insertData(List<InsertRequestMO> insertRequests) {
+		long startTime = System.currentTimeMillis();
+		InsertDelayResponse[] responses = new InsertDelayResponse[insertRequests.size()];
 
-			try {
-				/*
-				 * Data Share response { "id": "mosip.data.share", "version": "1.0",
-				 * "responsetime": "2023-05-23T12:02:53.601Z", "dataShare": null, "errors": [ {
-				 * "errorCode": "DAT-SER-006", "message": "Data share usuage expired" } ] } And
-				 * Errors DATA_ENCRYPTION_FAILURE_EXCEPTION("DAT-SER-001",
-				 * "Data Encryption failed"), API_NOT_ACCESSIBLE_EXCEPTION("DAT-SER-002",
-				 * "API not accessible"), FILE_EXCEPTION("DAT-SER-003",
-				 * "File is not exists or File is empty"), URL_CREATION_EXCEPTION("DAT-SER-004",
-				 * "URL creation exception"), SIGNATURE_EXCEPTION("DAT-SER-005",
-				 * "Failed to generate digital signature"),
-				 * DATA_SHARE_NOT_FOUND_EXCEPTION("DAT-SER-006", "Data share not found"),
-				 * DATA_SHARE_EXPIRED_EXCEPTION("DAT-SER-006", "Data share usuage expired"),
-				 * POLICY_EXCEPTION("DAT-SER-007", "Exception while fetching policy details");
-				 * KER-ATH-401 - Authentication Failed KER-ATH-403 - Forbidden
-				 */
-				JSONParser parser = new JSONParser();
-				JSONObject json = (JSONObject) parser.parse(cbeff);
-				JSONArray errors = (JSONArray) json.get("errors");
-				for (Iterator it = errors.iterator(); it.hasNext();) {
-					JSONObject error = (JSONObject) it.next();
-					String errorCode = ((String) error.get("errorCode")).trim();
-					String message = ((String) error.get("message")).trim();
-					logger.info("ErrorCode {}, ErrorMessage {}", errorCode, message);
-					throw new RequestException(errorCode);
-				}
-			} catch (RequestException ex) {
-				if (ex.getReasonConstant().equalsIgnoreCase("DAT-SER-006"))
-					throw new RequestException(FailureReasonsConstants.DATA_SHARE_URL_EXPIRED);
-				else
-					throw new RequestException(FailureReasonsConstants.UNEXPECTED_ERROR);
-			} catch (Exception ex) {
+		Set<String> existingReferenceIds = fetchExistingReferenceIds(insertRequests);
+		Set<String> batchReferenceIds = new HashSet<>();
+		List<Future<InsertDelayResponse>> futures = new ArrayList<>(insertRequests.size());
+		List<InsertEntity> entities = new ArrayList<>(insertRequests.size());
+		for (int i = 0; i < insertRequests.size(); i++) {
+			InsertRequestMO ire = insertRequests.get(i);
+			InsertEntity ie = new InsertEntity(ire.getId(), ire.getVersion(), ire.getRequestId(), ire.getRequesttime(),
+					ire.getReferenceId());
+			entities.add(ie);
+			if (existingReferenceIds.contains(ire.getReferenceId()) || !batchReferenceIds.add(ire.getReferenceId())) {
+				logger.error("Reference Id already exists {}", ire.getReferenceId());
+				responses[i] = new InsertDelayResponse(FailureReasonsConstants.REFERENCEID_ALREADY_EXISTS, 0);
+				futures.add(null);
+			} else {
+				futures.add(batchExecutor.submit(() -> prepareInsert(ie, ire.getReferenceURL())));
 			}
+		}
 
-			if (encryption) {
-				cbeff = cryptoUtil.decryptCbeff(cbeff);
+		List<Integer> prepared = new ArrayList<>(insertRequests.size());
+		for (int i = 0; i < futures.size(); i++) {
+			if (futures.get(i) == null)
+				continue;
+			try {
+				responses[i] = futures.get(i).get();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				futures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+				throw new RequestException(FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN);
+			} catch (ExecutionException ex) {
+				responses[i] = toInsertFailure(ex.getCause(), 0);
 			}
+			if (responses[i].getFailureReason() == null)
+				prepared.add(i);
+		}
 
-			logger.info("CBEFF Data- {}", cbeff);
-			if (cbeff == null || cbeff.isBlank() || cbeff.isEmpty()) {
-				logger.error("Error while validating CBEFF null of blank");
-				throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
-			}
+		for (int from = 0; from < prepared.size(); from += Math.max(1, batchSize)) {
+			List<Integer> chunk = prepared.subList(from, Math.min(prepared.size(), from + Math.max(1, batchSize)));
+			persistBatch(chunk.stream().map(entities::get).toList(), chunk, responses);
+		}
+		logger.info("Batch insert of {} requests with {} stored done in {} ms", insertRequests.size(), prepared.size(),
+				System.currentTimeMillis() - startTime);
+		return Arrays.asList(responses);
+	}
 
-			BIR birType = null;
-			try {
-				birType = CbeffValidator.getBIRFromXML(IOUtils.toByteArray(cbeff));
-				birType.setBirs(
-						birType.getBirs().stream().filter(b -> b.getBdb() != null).collect(Collectors.toList()));
-			} catch (Exception ex) {
-				logger.error("Error while validating CBEFF", ex);
+	/**
+	 * Fetches which reference IDs of the batch are already stored, querying the
+	 * database {@code abis.insert.batch.size} IDs at a time to bound the size of
+	 * the IN clause.
+	 *
+	 * @param insertRequests the insertion requests
+	 * @return the reference IDs present in the database
+	 */
+	private Set<String> fetchExistingReferenceIds(List<InsertRequestMO> insertRequests) {
+		List<String> referenceIds = insertRequests.stream().map(InsertRequestMO::getReferenceId).distinct().toList();
+		Set<String> existing = new HashSet<>();
+		int step = Math.max(1, batchSize);
+		for (int from = 0; from < referenceIds.size(); from += step)
+			existing.addAll(proxyabis
+					.fetchExistingReferenceIds(referenceIds.subList(from, Math.min(referenceIds.size(), from + step))));
+		return existing;
+	}
+
+	/**
+	 * Fetches and hashes the CBEFF of one request of a batch and applies the
+	 * insert expectations, on a batch thread.
+	 *
+	 * @param ie           the insertion entity, completed with its biometrics
+	 * @param referenceURL the URL of the CBEFF
+	 * @return the outcome of the request, a failure if it must not be stored
+	 */
+	private InsertDelayResponse prepareInsert(InsertEntity ie, String referenceURL) {
+		int delayResponse = 0;
+		try {
+			List<BiometricData> lst = fetchCBEFF(ie, referenceURL);
+			if (null == lst || lst.isEmpty())
 				throw new RequestException(FailureReasonsConstants.INVALID_CBEFF_FORMAT);
-			}
 
-			logger.info("Validating CBEFF data");
-			try {
-				if (!CbeffValidator.validateXML(birType)) {
-					logger.error("Error while validating CBEFF");
-					throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
-				}
+			delayResponse = applyInsertExpectations(lst);
+			ie.setBiometricList(lst);
+			return new InsertDelayResponse(null, delayResponse);
+		} catch (Exception exp) {
+			logger.error("Error While inserting data of reference Id {}", ie.getReferenceId(), exp);
+			return toInsertFailure(exp, delayResponse);
+		}
+	}
 
-				if (birType == null || birType.getBirs().size() == 0)
-					throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
-			} catch (Exception ex) {
-				logger.error("Error while validating CBEFF Data", ex);
-				throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+	/**
+	 * Persists a chunk of a batch in one transaction, so that Hibernate sends the
+	 * inserts as JDBC batches. If the transaction fails, the records of the chunk
+	 * are persisted one by one so only the failing ones are rejected.
+	 *
+	 * @param chunk     the entities to persist, with their biometrics
+	 * @param indexes   the position of each entity in the batch
+	 * @param responses the outcomes of the batch, updated on failure
+	 */
+	private void persistBatch(List<InsertEntity> chunk, List<Integer> indexes, InsertDelayResponse[] responses) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				chunk.forEach(entityManager::persist);
+				entityManager.flush();
+				entityManager.clear();
+			});
+		} catch (Exception ex) {
+			logger.error("Error while inserting a batch of {} reference Ids, retrying one by one", chunk.size(), ex);
+			for (int i = 0; i < chunk.size(); i++) {
+				InsertEntity ie = chunk.get(i);
+				ie.getBiometricList().forEach(bd -> bd.setId(null));
+				try {
+					transactionTemplate.executeWithoutResult(status -> {
+						entityManager.persist(ie);
+						entityManager.flush();
+						entityManager.clear();
+					});
+				} catch (Exception exp) {
+					logger.error("Error While inserting data of reference Id {}", ie.getReferenceId(), exp);
+					responses[indexes.get(i)] = new InsertDelayResponse(
+							proxyabis.existsById(ie.getReferenceId()) ? FailureReasonsConstants.REFERENCEID_ALREADY_EXISTS
+									: FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN,
+							responses[indexes.get(i)].getDelayResponse());
+				}
+			}
+		}
+		if (biometricHashIndex.isEnabled()) {
+			for (int i = 0; i < chunk.size(); i++) {
+				if (responses[indexes.get(i)].getFailureReason() == null)
+					biometricHashIndex.add(chunk.get(i).getReferenceId(), chunk.get(i).getBiometricList());
 			}
+		}
+	}
 
-			logger.info("Valid CBEFF data");
-			logger.info("Inserting biometric details to concerned table {} ", birType.getBirs().size());
+	/**
+	 * Maps an insert failure to its outcome, with the failure reason constant the
+	 * single insert would have responded with.
+	 *
+	 * @param ex            the failure
+	 * @param delayResponse the delay already set by an expectation
+	 * @return the failure outcome
+	 */
+	private static InsertDelayResponse toInsertFailure(Throwable ex, int delayResponse) {
+		if (ex instanceof RequestException rex)
+			return new InsertDelayResponse(
+					null == rex.getReasonConstant() ? FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN
+							: rex.getReasonConstant(),
+					rex.getDelayResponse());
+		if (ex instanceof CbeffException cbef)
+			return new InsertDelayResponse(cbef.getMessage(), delayResponse);
+		return new InsertDelayResponse(FailureReasonsConstants.INTERNAL_ERROR_UNKNOWN, delayResponse);
+	}
 
-			for (BIR bir : birType.getBirs()) {
-				if (bir.getBdb() != null && bir.getBdb().length > 0) {
-					BiometricData bd = new BiometricData();
-					bd.setType(bir.getBdbInfo().getType().iterator().next().value());
-					if (bir.getBdbInfo() == null)
-						throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+	/**
+	 * Applies the insert expectations set for the hashes of the biometrics.
+	 *
+	 * @param lst the biometrics being inserted
+	 * @return the delay response time of the matching expectations
+	 * @throws RequestException if an expectation forces an error response
+	 */
+	private int applyInsertExpectations(List<BiometricData> lst) {
+		int delayResponse = 0;
+		for (BiometricData bdt : lst) {
+			Expectation exp = expectationCache.get(bdt.getBioData());
+			if (exp.getId() != null && !exp.getId().isEmpty() && exp.getActionToInterfere().equals("Insert")) {
+				logger.info("Expectation found for {}", exp.getId());
+				if (exp.getDelayInExecution() != null && !exp.getDelayInExecution().isEmpty()) {
+					delayResponse = Integer.parseInt(exp.getDelayInExecution());
+				}
+				if (exp.getForcedResponse().equals("Error")) {
+					throw new RequestException(exp.getErrorCode(), delayResponse);
+				}
+			}
+		}
+		return delayResponse;
+	}
 
-					if (bir.getBdbInfo().getSubtype() != null && !bir.getBdbInfo().getSubtype().isEmpty())
-						bd.setSubtype(bir.getBdbInfo().getSubtype().toString());
+	/**
+	 * Fetches CBEFF data from the given URL and parses it.
+	 *
+	 * @param ie       the insertion entity
+	 * @param cbeffURL the URL of the CBEFF
+	 * @return a list of biometric data
+	 * @throws Exception if an error occurs while fetching or parsing CBEFF data
+	 */
+	private List<BiometricData> fetchCBEFF(InsertEntity ie, String cbeffURL) throws Exception {
+		long startTime = System.nanoTime();
+		String failureReason = null;
+		try {
+			return fetchAndHashCBEFF(ie, cbeffURL);
+		} catch (RequestException ex) {
+			failureReason = ex.getReasonConstant();
+			throw ex;
+		} catch (Exception ex) {
+			failureReason = ex.getClass().getSimpleName();
+			throw ex;
+		} finally {
+			metrics.recordCbeffFetch(System.nanoTime() - startTime, failureReason);
+		}
+	}
 
-					if ((bir.getBdb() == null || bir.getBdb().length <= 0))
-						throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+	/**
+	 * Fetches the CBEFF data from the given URL and hashes its BDBs.
+	 *
+	 * @param ie       the insertion entity
+	 * @param cbeffURL the URL of the CBEFF
+	 * @return a list of biometric data
+	 * @throws Exception if an error occurs while fetching or parsing CBEFF data
+	 */
+	private List<BiometricData> fetchAndHashCBEFF(InsertEntity ie, String cbeffURL) throws Exception {
+		List<BiometricData> lst = new ArrayList();
+		try {
+			logger.info("Fetching CBEFF for reference URL-" + cbeffURL);
+			List<BdbDigest> digests;
+			if (cbeffStreaming) {
+				digests = restTemplate.execute(cbeffURL, HttpMethod.GET, null,
+						response -> readCBEFF(response.getBody()));
+			} else {
+				ResponseEntity<String> cbeffResp = restTemplate.exchange(cbeffURL, HttpMethod.GET, null, String.class);
+				logger.info("CBEFF response status-" + cbeffResp.getStatusCode());
+				digests = parseCBEFF(cbeffResp.getBody());
+			}
 
-					String hash = getSHAFromBytes(bir.getBdb());
-					bd.setBioData(hash);
-					bd.setInsertEntity(ie);
+			logger.info("Inserting biometric details to concerned table {} ", digests.size());
+			for (BdbDigest digest : digests) {
+				BiometricData bd = new BiometricData();
+				bd.setType(digest.type());
+				bd.setSubtype(digest.subtype());
+				bd.setBioData(digest.hash());
+				bd.setInsertEntity(ie);
 
-					lst.add(bd);
-				} else {
-					throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
-				}
+				lst.add(bd);
 			}
 		} catch (HttpClientErrorException ex) {
 			logger.error("issue with httpclient URL ", ex);
@@ -292,6 +491,209 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 		return lst;
 	}
 
+	/**
+	 * Reads a CBEFF from the Data Share response stream and hashes its BDBs while
+	 * it is being read, with {@link CbeffDigestReader}.
+	 *
+	 * Only a JSON error response is read as a whole. An encrypted CBEFF is
+	 * decoded while it is read and decrypted in one piece, after which its
+	 * decrypted bytes are streamed the same way.
+	 *
+	 * @param body the response body
+	 * @return the digests of the BDBs
+	 * @throws IOException if the response cannot be read
+	 */
+	private List<BdbDigest> readCBEFF(InputStream body) throws IOException {
+		BufferedInputStream cbeff = new BufferedInputStream(body);
+		int first = peek(cbeff);
+		if (first == '{') {
+			byte[] response = cbeff.readAllBytes();
+			checkDataShareErrors(new String(response, StandardCharsets.UTF_8));
+			cbeff = new BufferedInputStream(new ByteArrayInputStream(response));
+		}
+
+		if (first != -1 && encryption) {
+			cbeff = new BufferedInputStream(new ByteArrayInputStream(decryptCbeff(cbeff)));
+			first = peek(cbeff);
+		}
+
+		if (first == -1) {
+			logger.error("Error while validating CBEFF null of blank");
+			throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+		}
+
+		try {
+			return CbeffDigestReader.read(cbeff);
+		} catch (XMLStreamException ex) {
+			logger.error("Error while validating CBEFF", ex);
+			throw new RequestException(FailureReasonsConstants.INVALID_CBEFF_FORMAT);
+		} catch (CbeffException ex) {
+			logger.error("Error while validating CBEFF Data", ex);
+			throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+		}
+	}
+
+	/**
+	 * Decodes and decrypts an encrypted CBEFF read from a stream.
+	 *
+	 * @param cbeff the encrypted CBEFF
+	 * @return the decrypted CBEFF
+	 * @throws IOException if the stream cannot be read
+	 */
+	private byte[] decryptCbeff(InputStream cbeff) throws IOException {
+		long startTime = System.nanoTime();
+		boolean decrypted = false;
+		try {
+			byte[] data = cryptoUtil.decryptCbeff(cbeff);
+			decrypted = true;
+			return data;
+		} finally {
+			metrics.recordCbeffDecrypt(System.nanoTime() - startTime, decrypted);
+		}
+	}
+
+	/**
+	 * Returns the first byte of a stream that is not whitespace, without consuming
+	 * it.
+	 *
+	 * @param in the stream
+	 * @return the first byte that is not whitespace, or -1 if the stream only
+	 *         holds whitespace
+	 * @throws IOException if the stream cannot be read
+	 */
+	private static int peek(BufferedInputStream in) throws IOException {
+		in.mark(CBEFF_PEEK_LIMIT);
+		try {
+			for (int i = 0; i < CBEFF_PEEK_LIMIT; i++) {
+				int b = in.read();
+				if (b == -1 || !Character.isWhitespace(b))
+					return b;
+			}
+			return ' ';
+		} finally {
+			in.reset();
+		}
+	}
+
+	/**
+	 * Parses a CBEFF fetched as a String by unmarshalling it with
+	 * {@link CbeffValidator}, used when {@code abis.insert.cbeff.streaming.enabled}
+	 * is false.
+	 *
+	 * @param cbeff the Data Share response
+	 * @return the digests of the BDBs
+	 * @throws Exception if an error occurs while decrypting or hashing the CBEFF
+	 */
+	private List<BdbDigest> parseCBEFF(String cbeff) throws Exception {
+		checkDataShareErrors(cbeff);
+
+		if (encryption) {
+			long startTime = System.nanoTime();
+			boolean decrypted = false;
+			try {
+				cbeff = cryptoUtil.decryptCbeff(cbeff);
+				decrypted = true;
+			} finally {
+				metrics.recordCbeffDecrypt(System.nanoTime() - startTime, decrypted);
+			}
+		}
+
+		if (cbeff == null || cbeff.isBlank() || cbeff.isEmpty()) {
+			logger.error("Error while validating CBEFF null of blank");
+			throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+		}
+
+		BIR birType = null;
+		try {
+			birType = CbeffValidator.getBIRFromXML(IOUtils.toByteArray(cbeff));
+			birType.setBirs(
+					birType.getBirs().stream().filter(b -> b.getBdb() != null).collect(Collectors.toList()));
+		} catch (Exception ex) {
+			logger.error("Error while validating CBEFF", ex);
+			throw new RequestException(FailureReasonsConstants.INVALID_CBEFF_FORMAT);
+		}
+
+		logger.info("Validating CBEFF data");
+		try {
+			if (!CbeffValidator.validateXML(birType)) {
+				logger.error("Error while validating CBEFF");
+				throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+			}
+
+			if (birType == null || birType.getBirs().size() == 0)
+				throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+		} catch (Exception ex) {
+			logger.error("Error while validating CBEFF Data", ex);
+			throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+		}
+
+		logger.info("Valid CBEFF data");
+		List<BdbDigest> digests = new ArrayList<>();
+		for (BIR bir : birType.getBirs()) {
+			if (bir.getBdb() != null && bir.getBdb().length > 0) {
+				String type = bir.getBdbInfo().getType().iterator().next().value();
+				if (bir.getBdbInfo() == null)
+					throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+
+				String subtype = null;
+				if (bir.getBdbInfo().getSubtype() != null && !bir.getBdbInfo().getSubtype().isEmpty())
+					subtype = bir.getBdbInfo().getSubtype().toString();
+
+				if ((bir.getBdb() == null || bir.getBdb().length <= 0))
+					throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+
+				digests.add(new BdbDigest(type, subtype, getSHAFromBytes(bir.getBdb())));
+			} else {
+				throw new RequestException(FailureReasonsConstants.CBEFF_HAS_NO_DATA);
+			}
+		}
+		return digests;
+	}
+
+	/**
+	 * Checks whether a Data Share response is a JSON error instead of a CBEFF.
+	 *
+	 * @param response the Data Share response
+	 * @throws RequestException with {@code DATA_SHARE_URL_EXPIRED} for an expired
+	 *                          share, or {@code UNEXPECTED_ERROR} for any other
+	 *                          error
+	 */
+	private void checkDataShareErrors(String response) {
+		try {
+			/*
+			 * Data Share response { "id": "mosip.data.share", "version": "1.0",
+			 * "responsetime": "2023-05-23T12:02:53.601Z", "dataShare": null, "errors": [ {
+			 * "errorCode": "DAT-SER-006", "message": "Data share usuage expired" } ] } And
+			 * Errors DATA_ENCRYPTION_FAILURE_EXCEPTION("DAT-SER-001",
+			 * "Data Encryption failed"), API_NOT_ACCESSIBLE_EXCEPTION("DAT-SER-002",
+			 * "API not accessible"), FILE_EXCEPTION("DAT-SER-003",
+			 * "File is not exists or File is empty"), URL_CREATION_EXCEPTION("DAT-SER-004",
+			 * "URL creation exception"), SIGNATURE_EXCEPTION("DAT-SER-005",
+			 * "Failed to generate digital signature"),
+			 * DATA_SHARE_NOT_FOUND_EXCEPTION("DAT-SER-006", "Data share not found"),
+			 * DATA_SHARE_EXPIRED_EXCEPTION("DAT-SER-006", "Data share usuage expired"),
+			 * POLICY_EXCEPTION("DAT-SER-007", "Exception while fetching policy details");
+			 * KER-ATH-401 - Authentication Failed KER-ATH-403 - Forbidden
+			 */
+			JSONParser parser = new JSONParser();
+			JSONObject json = (JSONObject) parser.parse(response);
+			JSONArray errors = (JSONArray) json.get("errors");
+			for (Iterator it = errors.iterator(); it.hasNext();) {
+				JSONObject error = (JSONObject) it.next();
+				String errorCode = ((String) error.get("errorCode")).trim();
+				String message = ((String) error.get("message")).trim();
+				logger.info("ErrorCode {}, ErrorMessage {}", errorCode, message);
+				throw new RequestException(errorCode);
+			}
+		} catch (RequestException ex) {
+			if (ex.getReasonConstant().equalsIgnoreCase("DAT-SER-006"))
+				throw new RequestException(FailureReasonsConstants.DATA_SHARE_URL_EXPIRED);
+			else
+				throw new RequestException(FailureReasonsConstants.UNEXPECTED_ERROR);
+		} catch (Exception ex) {
+		}
+	}
+
 	/**
 	 * Processes BIR information and adds corresponding BiometricData entries to the
 	 * provided list.
@@ -442,6 +844,8 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 		logger.info("Deleting reference Id {}", referenceId);
 		try {
 			proxyabis.deleteById(referenceId);
+			if (biometricHashIndex.isEnabled())
+				biometricHashIndex.remove(referenceId);
 		} catch (Exception e) {
 			logger.error("Error while deleting record with reference Id {}", referenceId);
 			logger.error("deleteData", e);
@@ -532,7 +936,7 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 		try {
 			String refId = ir.getReferenceId();
 			logger.info("Checking for duplication of reference ID {}", refId);
-			List<BiometricData> lst = null;
+			List<BiometricHashDto> lst = null;
 			logger.info("find duplicate property set to {}", proxyAbisConfigService.getDuplicate());
 			logger.info("force duplicate property set to {}", proxyAbisConfigService.isForceDuplicate());
 			if (ir.getGallery() != null && !ir.getGallery().getReferenceIds().isEmpty()
@@ -543,13 +947,15 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 
 				logger.info("checking for duplication of reference Id against {}", referenceIds);
 
-				int galleryRefIdCountInDB = proxyabis.fetchCountForReferenceIdPresentInGallery(referenceIds);
+				int galleryRefIdCountInDB = biometricHashIndex.isEnabled()
+						? biometricHashIndex.countReferenceIds(referenceIds)
+						: proxyabis.fetchCountForReferenceIdPresentInGallery(referenceIds);
 				if (galleryRefIdCountInDB != referenceIds.size()) {
 					logger.info("checking for reference Id Present in DB {}, Gallery reference Id list size {} ",
 							galleryRefIdCountInDB, referenceIds.size());
 					throw new RequestException(FailureReasonsConstants.REFERENCEID_NOT_FOUND);
 				}
-				List<String> bioValues = proxyAbisBioDataRepository.fetchBioDataByRefId(refId);
+				List<String> bioValues = fetchBioDataByRefId(refId);
 				if (!bioValues.isEmpty()) {
 					for (String bioValue : bioValues) {
 						Expectation exp = expectationCache.get(bioValue);
@@ -565,12 +971,11 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 				}
 
 				if (proxyAbisConfigService.isForceDuplicate() || proxyAbisConfigService.getDuplicate()) {
-					lst = proxyAbisBioDataRepository.fetchDuplicatesForReferenceIdBasedOnGalleryIds(refId,
-							referenceIds);
+					lst = findDuplicates(refId, referenceIds);
 				}
 			} else {
 				logger.info("checking for duplication in entire DB of reference ID {}", refId);
-				List<String> bioValues = proxyAbisBioDataRepository.fetchBioDataByRefId(refId);
+				List<String> bioValues = fetchBioDataByRefId(refId);
 				if (!bioValues.isEmpty()) {
 					for (String bioValue : bioValues) {
 						Expectation exp = expectationCache.get(bioValue);
@@ -585,7 +990,7 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 					}
 				}
 				if (proxyAbisConfigService.isForceDuplicate() || proxyAbisConfigService.getDuplicate()) {
-					lst = proxyAbisBioDataRepository.fetchDuplicatesForReferenceId(refId);
+					lst = findDuplicates(refId, null);
 				}
 			}
 			if (lst != null)
@@ -597,6 +1002,43 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 		}
 	}
 
+	/**
+	 * Fetches the biometrics matching those of a reference ID from the hash index,
+	 * or from the database when the index is disabled.
+	 *
+	 * @param referenceId  The reference ID.
+	 * @param referenceIds The gallery reference IDs to look in, or {@code null} to
+	 *                     look in every reference ID.
+	 * @return The matching biometrics.
+	 */
+	private List<BiometricHashDto> findDuplicates(String referenceId, List<String> referenceIds) {
+		long startTime = System.nanoTime();
+		List<BiometricHashDto> lst;
+		if (biometricHashIndex.isEnabled()) {
+			lst = biometricHashIndex.findDuplicates(referenceId, referenceIds);
+		} else if (referenceIds != null) {
+			lst = proxyAbisBioDataRepository.fetchDuplicatesForReferenceIdBasedOnGalleryIds(referenceId, referenceIds);
+		} else {
+			lst = proxyAbisBioDataRepository.fetchDuplicatesForReferenceId(referenceId);
+		}
+		metrics.recordDuplicateQuery(biometricHashIndex.isEnabled() ? "index" : "database",
+				System.nanoTime() - startTime, lst.size());
+		return lst;
+	}
+
+	/**
+	 * Fetches the bio_data hashes of a reference ID from the hash index, or from
+	 * the database when the index is disabled.
+	 *
+	 * @param referenceId The reference ID.
+	 * @return The bio_data hashes of the reference ID.
+	 */
+	private List<String> fetchBioDataByRefId(String referenceId) {
+		if (biometricHashIndex.isEnabled())
+			return biometricHashIndex.getBioData(referenceId);
+		return proxyAbisBioDataRepository.fetchBioDataByRefId(referenceId);
+	}
+
 	/**
 	 * Processes expectations associated with an IdentityRequest.
 	 *
@@ -638,7 +1080,9 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 				for (Expectation.ReferenceIds rd : expectation.getGallery().getReferenceIds()) {
 					logger.info("rd.getReferenceId {}", rd.getReferenceId());
 					List<String> refIds;
-					if (galleryReferenceIds != null) {
+					if (biometricHashIndex.isEnabled()) {
+						refIds = biometricHashIndex.getReferenceIds(rd.getReferenceId(), galleryReferenceIds);
+					} else if (galleryReferenceIds != null) {
 						refIds = proxyAbisBioDataRepository.fetchByReferenceId(rd.getReferenceId(),
 								galleryReferenceIds);
 					} else {
@@ -665,20 +1109,20 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 	 * Constructs an IdentityResponse object containing information about potential
 	 * duplicates.
 	 *
-	 * This method iterates through a list of BiometricData objects and builds a
+	 * This method iterates through a list of BiometricHashDto objects and builds a
 	 * CandidateList for the IdentityResponse. It groups candidates by reference ID
 	 * and creates Candidate objects with modality information for each unique
 	 * reference ID found.
 	 *
 	 * @param identityRequest The IdentityRequest object containing basic
 	 *                        information.
-	 * @param duplicates      A list of BiometricData objects representing potential
-	 *                        duplicates.
+	 * @param duplicates      A list of BiometricHashDto projections representing
+	 *                        potential duplicates.
 	 * @return An IdentityResponse object containing the constructed candidate
 	 *         information.
 	 * @throws AbisException If an error occurs during data processing.
 	 */
-	private IdentityResponse constructIdentityResponse(IdentityRequest ir, List<BiometricData> lst) {
+	private IdentityResponse constructIdentityResponse(IdentityRequest ir, List<BiometricHashDto> lst) {
 		IdentityResponse response = new IdentityResponse();
 		response.setId(ir.getId());
 		response.setRequestId(ir.getRequestId());
@@ -698,12 +1142,12 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 
 				IdentityResponse.Candidates candi = null;
 				List<Modalities> modlst = null;
-				if (mp.containsKey(bio.getInsertEntity().getReferenceId())) {
-					candi = mp.get(bio.getInsertEntity().getReferenceId());
+				if (mp.containsKey(bio.getReferenceId())) {
+					candi = mp.get(bio.getReferenceId());
 					modlst = candi.getModalities();
 				} else {
 					candi = new IdentityResponse.Candidates();
-					candi.setReferenceId(bio.getInsertEntity().getReferenceId());
+					candi.setReferenceId(bio.getReferenceId());
 					candi.setAnalytics(getAnalytics());
 					modlst = new ArrayList<>();
 				}
@@ -713,7 +1157,7 @@ public class ProxyAbisInsertServiceImpl implements ProxyAbisInsertService {
 				md.setAnalytics(getAnalytics());
 				modlst.add(md);
 				candi.setModalities(modlst);
-				mp.put(bio.getInsertEntity().getReferenceId(), candi);
+				mp.put(bio.getReferenceId(), candi);
 
 			});
 			logger.info("Number of duplicates are {}", mp.size());
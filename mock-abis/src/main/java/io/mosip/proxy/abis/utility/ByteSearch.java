@@ -0,0 +1,93 @@
+package io.mosip.proxy.abis.utility;
+
+import java.util.Arrays;
+
+/**
+ * Searches byte arrays for a fixed byte pattern using the Boyer-Moore-Horspool
+ * algorithm.
+ * <p>
+ * The shift table is computed once when the search is created, so an instance
+ * can be kept in a constant and shared between threads. A search reads the
+ * array in place and allocates nothing, and usually skips several bytes per
+ * comparison.
+ * </p>
+ */
+public final class ByteSearch {
+	private static final int ALPHABET_SIZE = 256;
+
+	private final byte[] pattern;
+	private final int[] shifts;
+
+	/**
+	 * Creates a search for the given pattern.
+	 *
+	 * @param pattern The bytes to search for.
+	 * @throws IllegalArgumentException If the pattern is null or empty.
+	 */
+	public ByteSearch(byte[] pattern) {
+		if (pattern == null || pattern.length == 0)
+			throw new IllegalArgumentException("pattern must not be empty");
+
+		this.pattern = pattern.clone();
+		this.shifts = new int[ALPHABET_SIZE];
+		Arrays.fill(this.shifts, pattern.length);
+		for (int i = 0; i < pattern.length - 1; i++)
+			this.shifts[pattern[i] & 0xFF] = pattern.length - 1 - i;
+	}
+
+	/**
+	 * Finds the first occurrence of the pattern in the given data.
+	 *
+	 * @param data The bytes to search in.
+	 * @return The index of the first occurrence, or -1 if there is none.
+	 */
+	public int indexOf(byte[] data) {
+		return indexOf(data, 0);
+	}
+
+	/**
+	 * Finds the first occurrence of the pattern in the given data, starting at
+	 * the given index.
+	 *
+	 * @param data      The bytes to search in.
+	 * @param fromIndex The index to start the search from.
+	 * @return The index of the first occurrence, or -1 if there is none.
+	 */
+	public int indexOf(byte[] data, int fromIndex) {
+		int last = pattern.length - 1;
+		int end = data.length - pattern.length;
+		int index = Math.max(0, fromIndex);
+		while (index <= end) {
+			int j = last;
+			while (data[index + j] == pattern[j]) {
+				if (j == 0)
+					return index;
+				j--;
+			}
+			index += shifts[data[index + last] & 0xFF];
+		}
+		return -1;
+	}
+
+	/**
+	 * Retrieves the length of the pattern.
+	 *
+	 * @return The number of bytes of the pattern.
+	 */
+	public int length() {
+		return pattern.length;
+	}
+
+	/**
+	 * Finds the first occurrence of a pattern in the given data. Callers
+	 * searching for the same pattern repeatedly should keep a {@link ByteSearch}
+	 * instead.
+	 *
+	 * @param data    The bytes to search in.
+	 * @param pattern The bytes to search for.
+	 * @return The index of the first occurrence, or -1 if there is none.
+	 */
+	public static int indexOf(byte[] data, byte[] pattern) {
+		return new ByteSearch(pattern).indexOf(data, 0);
+	}
+}
\ No newline at end of file
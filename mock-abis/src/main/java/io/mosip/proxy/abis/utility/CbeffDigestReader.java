@@ -0,0 +1,337 @@
+package io.mosip.proxy.abis.utility;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.core.cbeffutil.exception.CbeffException;
+
+/**
+ * Reads the BDBs of a CBEFF document with StAX and hashes each of them with
+ * SHA-256 while it is being read.
+ * <p>
+ * The base64 text of a BDB is decoded chunk by chunk straight into a running
+ * digest, so neither the document nor any decoded BDB is held in memory: only
+ * the type, subtype, format type and hash of each BIR are kept. The result is
+ * the same as unmarshalling the document with
+ * {@code CbeffValidator.getBIRFromXML}, dropping the BIRs without BDB and
+ * checking the rest with {@code CbeffValidator.validateXML}: a BDB that is not
+ * valid URL-safe or standard base64 counts as missing, and the subtype is the
+ * string form of its list of values.
+ * </p>
+ * <p>
+ * The reader is stateless and can be shared between threads.
+ * </p>
+ */
+public final class CbeffDigestReader {
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private static final HexFormat HEX = HexFormat.of();
+
+	private static final String BIR = "BIR";
+	private static final String BDB = "BDB";
+	private static final String BDB_INFO = "BDBInfo";
+	private static final String TYPE = "Type";
+	private static final String SUBTYPE = "Subtype";
+	private static final String FORMAT = "Format";
+
+	private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+	/**
+	 * The hash of a BDB with the BDB information it is stored with.
+	 *
+	 * @param type    The biometric type, such as {@code Finger}.
+	 * @param subtype The subtype list, such as {@code [Left, IndexFinger]}, or
+	 *                {@code null} when there is none.
+	 * @param hash    The hexadecimal SHA-256 hash of the decoded BDB.
+	 */
+	public record BdbDigest(String type, String subtype, String hash) {
+	}
+
+	private CbeffDigestReader() {
+		throw new IllegalStateException("CbeffDigestReader class");
+	}
+
+	/**
+	 * Reads a CBEFF document and hashes the BDB of each of its BIRs.
+	 *
+	 * @param cbeff The CBEFF XML; it is read to the end but not closed.
+	 * @return The digests of the BIRs holding a BDB, in document order.
+	 * @throws XMLStreamException If the document is not well-formed XML or has
+	 *                            no BIR.
+	 * @throws CbeffException     If a BIR holding a BDB has no valid BDB
+	 *                            information or there is no such BIR.
+	 */
+	public static List<BdbDigest> read(InputStream cbeff) throws XMLStreamException, CbeffException {
+		List<Bir> birs = new ArrayList<>();
+		boolean hasBirs = false;
+		XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(cbeff);
+		try {
+			int depth = 0;
+			Bir bir = null;
+			String birElement = null;
+			String bdbInfoElement = null;
+			StringBuilder text = null;
+			Base64Digest bdb = null;
+
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					depth++;
+					String name = reader.getLocalName();
+					if (depth == 2 && BIR.equals(name)) {
+						bir = new Bir();
+						hasBirs = true;
+					} else if (bir != null && depth == 3) {
+						birElement = name;
+						if (BDB.equals(name))
+							bdb = new Base64Digest();
+						else if (BDB_INFO.equals(name))
+							bir.resetBdbInfo();
+					} else if (bir != null && depth == 4 && BDB_INFO.equals(birElement)) {
+						bdbInfoElement = name;
+						if (TYPE.equals(name) || SUBTYPE.equals(name))
+							text = new StringBuilder();
+						else if (FORMAT.equals(name))
+							bir.formatType = null;
+					} else if (bir != null && depth == 5 && FORMAT.equals(bdbInfoElement) && TYPE.equals(name)) {
+						text = new StringBuilder();
+					}
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					if (bdb != null && depth == 3)
+						bdb.update(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+					else if (text != null)
+						text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					if (bir != null && depth == 2) {
+						if (bir.hash != null)
+							birs.add(bir);
+						bir = null;
+					} else if (bir != null && depth == 3) {
+						if (bdb != null)
+							bir.hash = bdb.finish();
+						bdb = null;
+						birElement = null;
+					} else if (bir != null && depth == 4 && text != null) {
+						if (TYPE.equals(bdbInfoElement))
+							bir.types = text.toString();
+						else
+							bir.subtypes = text.toString();
+						text = null;
+						bdbInfoElement = null;
+					} else if (bir != null && depth == 5 && text != null) {
+						bir.formatType = text.toString();
+						text = null;
+					}
+					depth--;
+					break;
+				default:
+					break;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		if (!hasBirs)
+			throw new XMLStreamException("CBEFF has no BIR");
+		return validate(birs);
+	}
+
+	/**
+	 * Applies the checks of {@code CbeffValidator.validateXML} to the BIRs holding
+	 * a BDB and converts them.
+	 */
+	private static List<BdbDigest> validate(List<Bir> birs) throws CbeffException {
+		List<BdbDigest> digests = new ArrayList<>(birs.size());
+		for (Bir bir : birs) {
+			if (!bir.hasBdbInfo)
+				throw new CbeffException("BDB information can't be empty");
+			List<BiometricType> types = tokens(bir.types).stream().map(CbeffDigestReader::toBiometricType).toList();
+			if (types.isEmpty())
+				throw new CbeffException("Type value needs to be provided");
+			if (types.get(0) == null || !isValidFormatType(bir.formatType, types.get(0)))
+				throw new CbeffException("Patron Format type is invalid");
+
+			List<String> subtypes = tokens(bir.subtypes);
+			digests.add(new BdbDigest(types.get(0).value(), subtypes.isEmpty() ? null : subtypes.toString(), bir.hash));
+		}
+		if (digests.isEmpty())
+			throw new CbeffException("BIR value is null");
+		return digests;
+	}
+
+	private static boolean isValidFormatType(String formatType, BiometricType biometricType) {
+		long type;
+		try {
+			type = Long.parseLong(formatType);
+		} catch (NumberFormatException ex) {
+			return false;
+		}
+		switch (biometricType) {
+		case FINGER:
+			return type == 7L || type == 2L;
+		case IRIS:
+			return type == 9L;
+		case EXCEPTION_PHOTO, FACE, HAND_GEOMETRY:
+			return type == 8L;
+		default:
+			return false;
+		}
+	}
+
+	private static BiometricType toBiometricType(String value) {
+		for (BiometricType type : BiometricType.values()) {
+			if (type.value().equals(value))
+				return type;
+		}
+		return null;
+	}
+
+	private static List<String> tokens(String list) {
+		List<String> tokens = new ArrayList<>();
+		if (list == null)
+			return tokens;
+		for (String token : list.trim().split("\\s+")) {
+			if (!token.isEmpty())
+				tokens.add(token);
+		}
+		return tokens;
+	}
+
+	private static XMLInputFactory createXmlInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/** The parts of a BIR that are kept while the document is read. */
+	private static class Bir {
+		private boolean hasBdbInfo;
+		private String types;
+		private String subtypes;
+		private String formatType;
+		private String hash;
+
+		private void resetBdbInfo() {
+			hasBdbInfo = true;
+			types = null;
+			subtypes = null;
+			formatType = null;
+		}
+	}
+
+	/**
+	 * Decodes base64 text fed in chunks into a SHA-256 digest, accepting the same
+	 * input as {@code CryptoUtil.decodeBase64}: the URL-safe or the standard
+	 * alphabet, with optional padding and no other characters.
+	 */
+	private static class Base64Digest {
+		private static final int[] VALUES = new int[256];
+		private static final int PADDING = -2;
+
+		static {
+			Arrays.fill(VALUES, -1);
+			String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+			for (int i = 0; i < alphabet.length(); i++)
+				VALUES[alphabet.charAt(i)] = i;
+			VALUES['+'] = VALUES['-'] = 62;
+			VALUES['/'] = VALUES['_'] = 63;
+			VALUES['='] = PADDING;
+		}
+
+		private final MessageDigest digest = newDigest();
+		private final byte[] buffer = new byte[3 * 1024];
+		private int length;
+		private int bits;
+		private int shift = 18;
+		private boolean urlSafe;
+		private boolean standard;
+		private boolean awaitingPadding;
+		private boolean ended;
+		private boolean invalid;
+		private boolean blank = true;
+
+		private void update(char[] text, int start, int count) {
+			for (int i = start; i < start + count && !invalid; i++) {
+				char ch = text[i];
+				if (blank && ch > ' ')
+					blank = false;
+				int value = ch < VALUES.length ? VALUES[ch] : -1;
+				if (ended || value == -1) {
+					invalid = true;
+				} else if (awaitingPadding) {
+					awaitingPadding = false;
+					ended = true;
+					invalid = value != PADDING;
+				} else if (value == PADDING) {
+					if (shift == 18)
+						invalid = true;
+					else if (shift == 6)
+						awaitingPadding = true;
+					else
+						ended = true;
+				} else {
+					urlSafe |= ch == '-' || ch == '_';
+					standard |= ch == '+' || ch == '/';
+					bits |= value << shift;
+					shift -= 6;
+					if (shift < 0) {
+						write(bits >> 16);
+						write(bits >> 8);
+						write(bits);
+						bits = 0;
+						shift = 18;
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return The hexadecimal hash of the decoded bytes, or {@code null} if the
+		 *         text is blank or not valid base64.
+		 */
+		private String finish() {
+			if (blank || invalid || awaitingPadding || shift == 12 || (urlSafe && standard))
+				return null;
+			if (shift == 6) {
+				write(bits >> 16);
+			} else if (shift == 0) {
+				write(bits >> 16);
+				write(bits >> 8);
+			}
+			digest.update(buffer, 0, length);
+			return HEX.formatHex(digest.digest());
+		}
+
+		private void write(int value) {
+			if (length == buffer.length) {
+				digest.update(buffer, 0, length);
+				length = 0;
+			}
+			buffer[length++] = (byte) value;
+		}
+
+		private static MessageDigest newDigest() {
+			try {
+				return MessageDigest.getInstance(DIGEST_ALGORITHM);
+			} catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.mosip.proxy.abis.utility;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.KeyStore;
@@ -15,6 +16,7 @@ import java.security.cert.CertificateException;
 import java.security.spec.MGF1ParameterSpec;
 import java.util.Arrays;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -27,6 +29,7 @@ import javax.crypto.spec.PSource;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +60,8 @@ import io.mosip.proxy.abis.exception.AbisException;
  * <ul>
  * <li>{@link #decryptCbeff(String)}: Decrypts Base64-encoded CBEFF data using
  * the configured private key.</li>
+ * <li>{@link #decryptCbeff(InputStream)}: Decrypts Base64-encoded CBEFF data
+ * read from a stream, such as an HTTP response body.</li>
  * <li>{@link #setCertificateValues(String, String, String, String)}: Sets
  * custom certificate values if not loaded from properties.</li>
  * </ul>
@@ -83,6 +88,13 @@ import io.mosip.proxy.abis.exception.AbisException;
  * accessing shared environment properties.
  * </p>
  *
+ * <p>
+ * <strong>Caching:</strong> The private key entry is loaded from the keystore
+ * once and kept until {@link #setCertificateValues(String, String, String, String)}
+ * configures another keystore. RSA and AES {@link Cipher} instances are kept per
+ * thread and initialized again for every decryption.
+ * </p>
+ *
  * @version 1.0.0
  * @since 1.0.0
  */
@@ -106,6 +118,8 @@ public class CryptoCoreUtil {
 
 	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
 
+	private static final ByteSearch KEY_SPLITTER_SEARCH = new ByteSearch(KEY_SPLITTER.getBytes());
+
 	private static String certiPassword;
 
 	private static String alias;
@@ -122,6 +136,23 @@ public class CryptoCoreUtil {
 
 	protected static final byte[] VERSION_RSA_2048 = "VER_R2".getBytes();
 
+	private static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec("SHA-256", "MGF1",
+			MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+	private static final ThreadLocal<Cipher> RSA_CIPHERS = ThreadLocal
+			.withInitial(() -> newCipher(RSA_ECB_OAEP_PADDING));
+
+	private static final ThreadLocal<Cipher> SYMMETRIC_CIPHERS = ThreadLocal
+			.withInitial(() -> newCipher(SYMMETRIC_ALGORITHM));
+
+	/**
+	 * Incremented whenever the certificate values change, so that the cached key
+	 * material is loaded again.
+	 */
+	private static final AtomicLong certificateVersion = new AtomicLong();
+
+	private volatile KeyMaterial keyMaterial;
+
 	/**
 	 * Loads certificate and keystore properties from the partner.properties file.
 	 * Invoked once during initialization to set static configuration values.
@@ -135,6 +166,7 @@ public class CryptoCoreUtil {
 			alias = prop.getProperty("certificate.alias");
 			keystore = prop.getProperty("certificate.keystore");
 			filePath = prop.getProperty("certificate.filename");
+			certificateVersion.incrementAndGet();
 		} catch (IOException e) {
 			logger.error("setPropertyValues", e);
 		}
@@ -151,12 +183,35 @@ public class CryptoCoreUtil {
 	 */
 	@SuppressWarnings({ "java:S112" })
 	public String decryptCbeff(String responseData) throws Exception {
-		KeyStore.PrivateKeyEntry privateKey = getPrivateKeyEntryFromP12();
 		byte[] responseBytes = Base64.decodeBase64(responseData);
-		byte[] deryptedCbeffData = decryptCbeffData(responseBytes, privateKey);
+		byte[] deryptedCbeffData = decryptCbeffData(responseBytes, getKeyMaterial());
 		return new String(deryptedCbeffData);
 	}
 
+	/**
+	 * Decrypts Base64-encoded CBEFF data read from a stream using the configured
+	 * private key. The Base64 text is decoded while it is read, so it is never
+	 * held as a String.
+	 *
+	 * @param responseData Stream of the Base64-encoded CBEFF data to decrypt; it
+	 *                     is read to the end but not closed
+	 * @return Decrypted CBEFF data
+	 * @throws IOException   if the stream cannot be read
+	 * @throws AbisException if the key cannot be loaded or decryption fails
+	 */
+	public byte[] decryptCbeff(InputStream responseData) throws IOException {
+		byte[] responseBytes = new Base64InputStream(responseData).readAllBytes();
+		KeyMaterial currentKeyMaterial;
+		try {
+			currentKeyMaterial = getKeyMaterial();
+		} catch (GeneralSecurityException e) {
+			logger.error("decryptCbeff unable to load key", e);
+			throw new AbisException(AbisErrorCode.INVALID_DECRYPTION_EXCEPTION.getErrorCode(),
+					AbisErrorCode.INVALID_DECRYPTION_EXCEPTION.getErrorMessage());
+		}
+		return decryptCbeffData(responseBytes, currentKeyMaterial);
+	}
+
 	/**
 	 * Sets custom certificate and keystore values programmatically. Typically used
 	 * for testing or alternate runtime configurations.
@@ -172,6 +227,44 @@ public class CryptoCoreUtil {
 		filePath = filePathVal;
 		keystore = keystoreVal;
 		certiPassword = passwordVal;
+		certificateVersion.incrementAndGet();
+	}
+
+	/**
+	 * Retrieves the cached key material, loading it from the keystore on first use
+	 * and after the certificate values have changed.
+	 *
+	 * @return The private key entry and the thumbprint of its certificate
+	 * @throws KeyStoreException           if there is an issue accessing the
+	 *                                     keystore
+	 * @throws NoSuchAlgorithmException    if the algorithm required for keystore
+	 *                                     type or key entry is not available
+	 * @throws CertificateException        if there is an issue with the certificate
+	 * @throws IOException                 if there is an I/O issue with reading the
+	 *                                     keystore file
+	 * @throws UnrecoverableEntryException if the private key cannot be recovered
+	 *                                     from the keystore
+	 */
+	private KeyMaterial getKeyMaterial() throws KeyStoreException, NoSuchAlgorithmException, CertificateException,
+			IOException, UnrecoverableEntryException {
+		KeyMaterial current = keyMaterial;
+		if (current != null && current.version() == certificateVersion.get())
+			return current;
+
+		synchronized (this) {
+			if (null == certiPassword || certiPassword.isEmpty())
+				setPropertyValues();
+			long version = certificateVersion.get();
+			current = keyMaterial;
+			if (current == null || current.version() != version) {
+				KeyStore.PrivateKeyEntry privateKeyEntry = getPrivateKeyEntryFromP12();
+				current = new KeyMaterial(privateKeyEntry, getCertificateThumbprint(privateKeyEntry.getCertificate()),
+						version);
+				keyMaterial = current;
+				logger.info("Loaded private key entry {} from keystore", alias);
+			}
+			return current;
+		}
 	}
 
 	/**
@@ -219,16 +312,16 @@ public class CryptoCoreUtil {
 	 * </p>
 	 *
 	 * @param responseData Base64-decoded byte array of the encrypted CBEFF data
-	 * @param privateKey   PrivateKeyEntry containing the private key and associated
-	 *                     certificate
+	 * @param keyMaterial  Private key entry and thumbprint of its certificate
 	 * @return Decrypted CBEFF data as a byte array
 	 * @throws AbisException if decryption fails due to invalid data or
 	 *                       cryptographic errors
 	 */
-	private byte[] decryptCbeffData(byte[] responseData, KeyStore.PrivateKeyEntry privateKey) throws AbisException {
+	private byte[] decryptCbeffData(byte[] responseData, KeyMaterial keyMaterial) throws AbisException {
+		KeyStore.PrivateKeyEntry privateKey = keyMaterial.privateKeyEntry();
 		int cipherKeyandDataLength = responseData.length;
 		int keySplitterLength = KEY_SPLITTER.length();
-		int keyDemiliterIndex = getSplitterIndex(responseData, 0, KEY_SPLITTER);
+		int keyDemiliterIndex = getSplitterIndex(responseData, 0);
 		try {
 			byte[] copiedBytes = Arrays.copyOfRange(responseData, 0, keyDemiliterIndex);
 			byte[] encryptedCbeffData = Arrays.copyOfRange(responseData, keyDemiliterIndex + keySplitterLength,
@@ -251,7 +344,7 @@ public class CryptoCoreUtil {
 			} else {
 				encryptedSymmetricKey = copiedBytes;
 			}
-			byte[] certThumbprint = getCertificateThumbprint(privateKey.getCertificate());
+			byte[] certThumbprint = keyMaterial.certThumbprint();
 			byte[] decryptedSymmetricKey = decryptRandomSymKey(privateKey.getPrivateKey(), encryptedSymmetricKey);
 			SecretKey symmetricKey = new SecretKeySpec(decryptedSymmetricKey, 0, decryptedSymmetricKey.length, "AES");
 			return decryptCbeffData(symmetricKey, encryptedCbeffData);
@@ -263,37 +356,25 @@ public class CryptoCoreUtil {
 	}
 
 	/**
-	 * Finds the index of the first occurrence of the specified key splitter
-	 * sequence in the encrypted data array, starting from the given index.
+	 * Finds the index of the first occurrence of the key splitter sequence in the
+	 * encrypted data array, starting from the given index.
 	 *
 	 * <p>
-	 * This method iterates through the byte array {@code encryptedData} to locate
-	 * the first byte matching {@code keySplitterFirstByte}. It then checks if the
-	 * subsequent substring matches the {@code keySplitter} string. If found, it
-	 * returns the index of the key splitter; otherwise, it continues iterating.
+	 * The search runs over the raw bytes with a precomputed
+	 * {@link ByteSearch}, without copying the array or allocating per candidate
+	 * position.
 	 * </p>
 	 *
 	 * @param encryptedData     Byte array containing encrypted data where the
 	 *                          splitter needs to be found
 	 * @param keyDemiliterIndex Starting index within the encrypted data to begin
 	 *                          searching for the splitter
-	 * @param keySplitter       String representing the splitter sequence to locate
 	 * @return Index of the first occurrence of the key splitter within the
-	 *         encrypted data array
+	 *         encrypted data array, or the length of the array if there is none
 	 */
-	private static int getSplitterIndex(byte[] encryptedData, int keyDemiliterIndex, String keySplitter) {
-		byte keySplitterFirstByte = keySplitter.getBytes()[0];
-		int keySplitterLength = keySplitter.length();
-		for (byte data : encryptedData) {
-			if (data == keySplitterFirstByte) {
-				String keySplit = new String(
-						Arrays.copyOfRange(encryptedData, keyDemiliterIndex, keyDemiliterIndex + keySplitterLength));
-				if (keySplitter.equals(keySplit))
-					break;
-			}
-			keyDemiliterIndex++;
-		}
-		return keyDemiliterIndex;
+	private static int getSplitterIndex(byte[] encryptedData, int keyDemiliterIndex) {
+		int index = KEY_SPLITTER_SEARCH.indexOf(encryptedData, keyDemiliterIndex);
+		return index < 0 ? encryptedData.length : index;
 	}
 
 	/**
@@ -301,9 +382,10 @@ public class CryptoCoreUtil {
 	 * key.
 	 *
 	 * <p>
-	 * This method initializes a Cipher instance using RSA with OAEP padding and
-	 * decrypts the encrypted random symmetric key {@code encRandomSymKey}. It
-	 * expects the private key to be RSA and uses OAEP parameters for decryption.
+	 * This method initializes the thread's Cipher instance using RSA with OAEP
+	 * padding and decrypts the encrypted random symmetric key
+	 * {@code encRandomSymKey}. It expects the private key to be RSA and uses OAEP
+	 * parameters for decryption.
 	 * </p>
 	 *
 	 * @param privateKey      PrivateKey instance used for decrypting the encrypted
@@ -314,26 +396,17 @@ public class CryptoCoreUtil {
 	 *                                            encryption is incorrect
 	 * @throws BadPaddingException                if the padding of the encryption
 	 *                                            is incorrect
-	 * @throws NoSuchAlgorithmException           if RSA algorithm is not available
-	 * @throws NoSuchPaddingException             if OAEP padding scheme is not
-	 *                                            available
 	 * @throws InvalidKeyException                if the private key is invalid for
 	 *                                            decryption
 	 * @throws InvalidAlgorithmParameterException if the OAEP parameters are invalid
 	 */
 	private byte[] decryptRandomSymKey(PrivateKey privateKey, byte[] encRandomSymKey)
-			throws IllegalBlockSizeException, BadPaddingException, NoSuchAlgorithmException, NoSuchPaddingException,
-			InvalidAlgorithmParameterException, InvalidKeyException {
+			throws IllegalBlockSizeException, BadPaddingException, InvalidAlgorithmParameterException,
+			InvalidKeyException {
 		try {
-			Cipher cipher = Cipher.getInstance(RSA_ECB_OAEP_PADDING);
-			OAEPParameterSpec oaepParams = new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256,
-					PSource.PSpecified.DEFAULT);
-			cipher.init(2, privateKey, oaepParams);
+			Cipher cipher = RSA_CIPHERS.get();
+			cipher.init(2, privateKey, OAEP_PARAMS);
 			return cipher.doFinal(encRandomSymKey);
-		} catch (NoSuchAlgorithmException e) {
-			throw new NoSuchAlgorithmException(e);
-		} catch (NoSuchPaddingException e) {
-			throw new NoSuchPaddingException(e.getMessage());
 		} catch (InvalidKeyException e) {
 			throw new InvalidKeyException(e);
 		} catch (InvalidAlgorithmParameterException e) {
@@ -364,7 +437,7 @@ public class CryptoCoreUtil {
 	@SuppressWarnings({ "java:S2139" })
 	private byte[] decryptCbeffData(SecretKey key, byte[] data) throws AbisException {
 		try {
-			Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+			Cipher cipher = SYMMETRIC_CIPHERS.get();
 			byte[] randomIV = Arrays.copyOfRange(data, data.length - cipher.getBlockSize(), data.length);
 			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, randomIV);
 			cipher.init(2, key, gcmParameterSpec);
@@ -399,7 +472,7 @@ public class CryptoCoreUtil {
 	@SuppressWarnings({ "java:S2139" })
 	private byte[] decryptCbeffData(SecretKey key, byte[] data, byte[] nonce, byte[] aad) throws AbisException {
 		try {
-			Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+			Cipher cipher = SYMMETRIC_CIPHERS.get();
 			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), "AES");
 			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, nonce);
 			cipher.init(2, keySpec, gcmParameterSpec);
@@ -458,4 +531,25 @@ public class CryptoCoreUtil {
 			return new byte[0];
 		return versionHeaderBytes;
 	}
+
+	/**
+	 * Creates a {@link Cipher} for the per-thread pools.
+	 *
+	 * @param transformation The cipher transformation
+	 * @return A new Cipher instance
+	 */
+	private static Cipher newCipher(String transformation) {
+		try {
+			return Cipher.getInstance(transformation);
+		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new IllegalStateException("Cipher " + transformation + " not available", e);
+		}
+	}
+
+	/**
+	 * Private key entry loaded from the keystore together with the thumbprint of
+	 * its certificate and the certificate version it was loaded for.
+	 */
+	private record KeyMaterial(KeyStore.PrivateKeyEntry privateKeyEntry, byte[] certThumbprint, long version) {
+	}
 }
\ No newline at end of file
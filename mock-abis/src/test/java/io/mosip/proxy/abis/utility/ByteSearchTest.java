@@ -0,0 +1,76 @@
+package io.mosip.proxy.abis.utility;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteSearchTest {
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Test
+	public void indexOf_patternAtStart() {
+		Assert.assertEquals(0, new ByteSearch(bytes("<BDB>")).indexOf(bytes("<BDB>abc</BDB>")));
+	}
+
+	@Test
+	public void indexOf_patternAtEnd() {
+		Assert.assertEquals(8, new ByteSearch(bytes("</BDB>")).indexOf(bytes("<BDB>abc</BDB>")));
+	}
+
+	@Test
+	public void indexOf_patternFillsData() {
+		Assert.assertEquals(0, new ByteSearch(bytes("abc")).indexOf(bytes("abc")));
+	}
+
+	@Test
+	public void indexOf_noMatch() {
+		Assert.assertEquals(-1, new ByteSearch(bytes("xyz")).indexOf(bytes("<BDB>abc</BDB>")));
+	}
+
+	@Test
+	public void indexOf_patternLongerThanData() {
+		Assert.assertEquals(-1, new ByteSearch(bytes("<BDB>abc</BDB>")).indexOf(bytes("<BDB>")));
+		Assert.assertEquals(-1, new ByteSearch(bytes("a")).indexOf(new byte[0]));
+	}
+
+	@Test
+	public void indexOf_repeatedPrefix() {
+		Assert.assertEquals(3, new ByteSearch(bytes("aab")).indexOf(bytes("aaaaab")));
+		Assert.assertEquals(3, new ByteSearch(bytes("abab")).indexOf(bytes("abaabab")));
+		Assert.assertEquals(-1, new ByteSearch(bytes("aaab")).indexOf(bytes("aaaaaaa")));
+	}
+
+	@Test
+	public void indexOf_fromIndex() {
+		ByteSearch search = new ByteSearch(bytes("ab"));
+		byte[] data = bytes("ab-ab-ab");
+		Assert.assertEquals(0, search.indexOf(data, 0));
+		Assert.assertEquals(3, search.indexOf(data, 1));
+		Assert.assertEquals(3, search.indexOf(data, 3));
+		Assert.assertEquals(6, search.indexOf(data, 4));
+		Assert.assertEquals(-1, search.indexOf(data, 7));
+		Assert.assertEquals(-1, search.indexOf(data, data.length + 1));
+		Assert.assertEquals(0, search.indexOf(data, -1));
+	}
+
+	@Test
+	public void indexOf_nonAsciiBytes() {
+		byte[] data = { 0x01, (byte) 0xFF, (byte) 0x80, 0x7F, (byte) 0xFF, (byte) 0x80 };
+		Assert.assertEquals(1, new ByteSearch(new byte[] { (byte) 0xFF, (byte) 0x80 }).indexOf(data));
+		Assert.assertEquals(4, new ByteSearch(new byte[] { (byte) 0xFF, (byte) 0x80 }).indexOf(data, 2));
+	}
+
+	@Test
+	public void indexOf_static() {
+		Assert.assertEquals(5, ByteSearch.indexOf(bytes("<BDB>abc</BDB>"), bytes("abc")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_rejectsEmptyPattern() {
+		new ByteSearch(new byte[0]);
+	}
+}
@@ -2,19 +2,14 @@ package io.mosip.mock.mv.queue;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.activemq.ActiveMQConnection;
-import org.apache.activemq.ActiveMQConnectionFactory;
 import org.apache.activemq.command.ActiveMQBytesMessage;
 import org.apache.activemq.command.ActiveMQTextMessage;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +20,8 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.mosip.mock.mv.constant.MVErrorCode;
@@ -36,16 +33,15 @@ import io.mosip.mock.mv.dto.ManualAdjudicationRequestDTO;
 import io.mosip.mock.mv.dto.ManualAdjudicationResponseDTO;
 import io.mosip.mock.mv.dto.ReferenceIds;
 import io.mosip.mock.mv.exception.MVException;
+import io.mosip.mock.mv.service.DelayedResponseScheduler;
 import io.mosip.mock.mv.service.ExpectationCache;
+import io.mosip.mock.mv.service.MvMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.jms.BytesMessage;
-import jakarta.jms.Connection;
-import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
-import jakarta.jms.MessageConsumer;
 import jakarta.jms.MessageListener;
-import jakarta.jms.MessageProducer;
-import jakarta.jms.Session;
 import jakarta.jms.TextMessage;
 
 /**
@@ -53,10 +49,12 @@ import jakarta.jms.TextMessage;
  * processes them, and sends back appropriate responses asynchronously.
  * <p>
  * This component connects to ActiveMQ brokers based on configuration properties
- * and consumes messages from specified queues. Depending on the message type
- * and content, it determines the response to be sent back. Responses are
- * processed asynchronously using timers, allowing configurable delays before
- * sending them back to the appropriate queue.
+ * and consumes messages from specified queues. The manual adjudication and
+ * verification queues each have their own {@link QueueConnection}, consumers
+ * and producers, so a burst on one does not hold up the other. Depending on the
+ * message type and content, it determines the response to be sent back.
+ * Responses are handed to the {@link DelayedResponseScheduler}, allowing
+ * configurable delays before sending them back to the appropriate queue.
  * <p>
  * Uses {@link ExpectationCache} to retrieve mock decision configurations and
  * {@link ObjectMapper} for JSON serialization and deserialization.
@@ -128,19 +126,68 @@ public class Listener {
 	@SuppressWarnings({ "java:S6813" })
 	private ExpectationCache expectationCache;
 
-	private ActiveMQConnectionFactory activeMQConnectionFactory;
+	@Autowired
+	@SuppressWarnings({ "java:S6813" })
+	private MvMetrics metrics;
 
-	/** The Constant FAIL_OVER. */
-	private static final String FAIL_OVER = "failover:(";
+	@Autowired
+	@SuppressWarnings({ "java:S6813" })
+	private DelayedResponseScheduler responseScheduler;
 
-	/** The Constant RANDOMIZE_FALSE. */
-	private static final String RANDOMIZE_FALSE = ")?randomize=false";
+	/**
+	 * Number of consumers, each with its own session, listening on the manual
+	 * adjudication request queue. Defaults to the shared
+	 * mock.mv.queue.consumer.concurrency.
+	 */
+	@Value("${mock.mv.queue.adjudication.consumer.concurrency:${mock.mv.queue.consumer.concurrency:1}}")
+	private int adjudicationConsumerConcurrency;
+
+	/**
+	 * Number of consumers, each with its own session, listening on the
+	 * verification request queue. Defaults to the shared
+	 * mock.mv.queue.consumer.concurrency.
+	 */
+	@Value("${mock.mv.queue.verification.consumer.concurrency:${mock.mv.queue.consumer.concurrency:1}}")
+	private int verificationConsumerConcurrency;
+
+	/**
+	 * Number of messages the broker pushes ahead to each consumer. Kept low so that
+	 * a burst is spread over all the consumers instead of being buffered by the
+	 * first one.
+	 */
+	@Value("${mock.mv.queue.consumer.prefetch:10}")
+	private int consumerPrefetch;
+
+	/**
+	 * Maximum number of producer sessions sending the manual adjudication
+	 * responses. Defaults to the shared mock.mv.queue.producer.pool.size.
+	 */
+	@Value("${mock.mv.queue.adjudication.producer.pool.size:${mock.mv.queue.producer.pool.size:4}}")
+	private int adjudicationProducerPoolSize;
+
+	/**
+	 * Maximum number of producer sessions sending the verification responses.
+	 * Defaults to the shared mock.mv.queue.producer.pool.size.
+	 */
+	@Value("${mock.mv.queue.verification.producer.pool.size:${mock.mv.queue.producer.pool.size:4}}")
+	private int verificationProducerPoolSize;
+
+	private QueueConnection adjudicationConnection;
+	private QueueConnection verificationConnection;
+
+	/**
+	 * Shared by every consumer and timer thread. It is configured here once and
+	 * never changed afterwards, which keeps it thread-safe.
+	 */
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-	private Connection connection;
-	private Session session;
-	private Destination destination;
+	/** Reads the manual adjudication and verification requests. */
+	private static final ObjectReader REQUEST_READER = MAPPER.readerFor(ManualAdjudicationRequestDTO.class);
 
-	private Timer timer = new Timer();
+	/** Writes the responses and logged objects as compact JSON. */
+	private static final ObjectWriter JSON_WRITER = MAPPER.writer()
+			.without(SerializationFeature.FAIL_ON_EMPTY_BEANS);
 
 	/**
 	 * Processes the incoming JMS message, determines the appropriate response based
@@ -155,19 +202,24 @@ public class Listener {
 	 */
 	@SuppressWarnings({ "java:S3776" })
 	public boolean consumeLogic(jakarta.jms.Message message, String mvAddress) {
+		long startTime = System.nanoTime();
+		String operation = operation(mvAddress);
+		String failureReason = null;
 		boolean isrequestAddedtoQueue = false;
 		int textType = 0;
 		StringBuilder messageData = new StringBuilder();
 		try {
+			if (message.getJMSTimestamp() > 0)
+				metrics.recordQueueLag(operation, System.currentTimeMillis() - message.getJMSTimestamp());
 			textType = checkConsumeInfo(message, messageData);
 			if (textType == 0) {
 				logger.error("Received message is neither text nor byte");
+				metrics.recordRequest(operation, System.nanoTime() - startTime, "UnsupportedMessageType");
 				return false;
 			}
 			logger.info("Message Data {}", messageData);
 
-			ManualAdjudicationRequestDTO requestDTO = objectMapper().readValue(messageData.toString(),
-					ManualAdjudicationRequestDTO.class);
+			ManualAdjudicationRequestDTO requestDTO = REQUEST_READER.readValue(messageData.toString());
 			ManualAdjudicationResponseDTO decisionDto = new ManualAdjudicationResponseDTO();
 			decisionDto.setId(env.getProperty(DECISION_SERVICE_ID));
 			decisionDto.setRequestId(requestDTO.getRequestId());
@@ -205,11 +257,24 @@ public class Listener {
 			isrequestAddedtoQueue = executeAsync(response, delayResponse, textType, mvAddress);
 		} catch (Exception e) {
 			logger.error("Could not process mv request", e);
+			failureReason = e.getClass().getSimpleName();
 		}
+		metrics.recordRequest(operation, System.nanoTime() - startTime, failureReason);
 		logger.info("Is response sent is {}", isrequestAddedtoQueue);
 		return isrequestAddedtoQueue;
 	}
 
+	/**
+	 * Returns the operation of the requests answered on the given response address.
+	 *
+	 * @param mvAddress the response address.
+	 * @return {@link MvMetrics#VERIFICATION} or {@link MvMetrics#ADJUDICATION}.
+	 */
+	private String operation(String mvAddress) {
+		return mvAddress.equalsIgnoreCase(verificationResponseAddress) ? MvMetrics.VERIFICATION
+				: MvMetrics.ADJUDICATION;
+	}
+
 	private int checkConsumeInfo(jakarta.jms.Message message, StringBuilder messageData) throws JMSException {
 		int textType = 0;
 		if (message instanceof TextMessage || message instanceof ActiveMQTextMessage) {
@@ -224,25 +289,26 @@ public class Listener {
 	}
 
 	/**
-	 * Sets up the JMS connection and session if they are not already initialized.
+	 * Creates the connections of the manual adjudication and verification queues;
+	 * they are opened when the queues are run.
 	 */
-	public void setup() {
-		logger.info("Inside setup.");
-		try {
-			if (connection == null || ((ActiveMQConnection) connection).isClosed()) {
-				logger.info("Creating new connection.");
-				connection = activeMQConnectionFactory.createConnection();
-
-				if (session == null) {
-					logger.info("Starting new Session.");
-					connection.start();
-					this.session = this.connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-				}
-			}
-		} catch (JMSException e) {
-			logger.error(ExceptionUtils.getStackTrace(e), e);
-		}
-		logger.info("Setup Completed.");
+	@PostConstruct
+	public void init() {
+		adjudicationConnection = new QueueConnection(MvMetrics.ADJUDICATION, mabrokerUrl, mausername, mapassword,
+				consumerPrefetch, adjudicationProducerPoolSize);
+		verificationConnection = new QueueConnection(MvMetrics.VERIFICATION, vbrokerUrl, vusername, vpassword,
+				consumerPrefetch, verificationProducerPoolSize);
+	}
+
+	/**
+	 * Closes the connections of the manual adjudication and verification queues.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (adjudicationConnection != null)
+			adjudicationConnection.close();
+		if (verificationConnection != null)
+			verificationConnection.close();
 	}
 
 	/**
@@ -259,7 +325,7 @@ public class Listener {
 
 				}
 			};
-			consume(mvRequestAddress, listener, mabrokerUrl, mausername, mapassword);
+			consume(mvRequestAddress, listener, adjudicationConnection, adjudicationConsumerConcurrency);
 
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
@@ -279,7 +345,7 @@ public class Listener {
 					consumeLogic(message, verificationResponseAddress);
 				}
 			};
-			consume(verificationRequestAddress, listener, vbrokerUrl, vusername, vpassword);
+			consume(verificationRequestAddress, listener, verificationConnection, verificationConsumerConcurrency);
 
 		} catch (Exception e) {
 			logger.error(e.getMessage(), e);
@@ -287,44 +353,27 @@ public class Listener {
 	}
 
 	/**
-	 * Consumes messages from the specified JMS queue address asynchronously.
+	 * Consumes messages from the specified JMS queue address asynchronously with
+	 * the given number of consumers, each in its own session so that the messages
+	 * are handled on as many threads.
 	 *
-	 * @param address   The JMS queue address to consume messages from.
-	 * @param object    The QueueListener object that handles the message
-	 *                  consumption logic.
-	 * @param brokerUrl The URL of the broker for the JMS connection.
-	 * @param username  The username for authenticating the JMS connection.
-	 * @param password  The password for authenticating the JMS connection.
+	 * @param address         The JMS queue address to consume messages from.
+	 * @param object          The QueueListener object that handles the message
+	 *                        consumption logic.
+	 * @param queueConnection The connection of the queue pair.
+	 * @param consumers       The number of consumers of the queue.
 	 * @return An empty byte array indicating successful consumption.
-	 * @throws MVException If an invalid connection configuration prevents
-	 *                     connection creation.
+	 * @throws MVException If the queue connection has not been created.
 	 */
-	@SuppressWarnings({ "unused" })
-	public byte[] consume(String address, QueueListener object, String brokerUrl, String userName, String password) {
-		if (Objects.isNull(this.activeMQConnectionFactory)) {
-			logger.info("Creating new connection.");
-			String failOverBrokerUrl = FAIL_OVER + brokerUrl + "," + brokerUrl + RANDOMIZE_FALSE;
-			logger.info("Broker url : {}", failOverBrokerUrl);
-			this.activeMQConnectionFactory = new ActiveMQConnectionFactory(failOverBrokerUrl);
-			this.activeMQConnectionFactory.setTrustedPackages(Arrays.asList("io.mosip.mock.mv.*"));
-			this.activeMQConnectionFactory.setUserName(userName);
-			this.activeMQConnectionFactory.setPassword(password);
-		}
-
-		if (Objects.isNull(this.activeMQConnectionFactory)) {
+	public byte[] consume(String address, QueueListener object, QueueConnection queueConnection, int consumers) {
+		if (Objects.isNull(queueConnection)) {
 			logger.error("Could not create connection. Invalid connection configuration.");
 			throw new MVException(MVErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorCode(),
 					MVErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorMessage());
 		}
 
-		if (Objects.isNull(destination))
-			setup();
-
-		MessageConsumer messageConsumer;
 		try {
-			destination = session.createQueue(address);
-			messageConsumer = session.createConsumer(destination);
-			messageConsumer.setMessageListener(getListener(object));
+			queueConnection.consume(address, getListener(object), consumers);
 		} catch (Exception e) {
 			logger.error("consume", e);
 		}
@@ -341,7 +390,8 @@ public class Listener {
 }
 
 	/**
-	 * Creates and sends a byte array message to the specified JMS queue address.
+	 * Creates and sends a byte array message to the specified JMS queue address,
+	 * with a pooled producer of the queue pair the address belongs to.
 	 *
 	 * @param message The byte array message to send.
 	 * @param address The JMS queue address to send the message to.
@@ -349,15 +399,16 @@ public class Listener {
 	 */
 	public Boolean send(byte[] message, String address) {
 		boolean flag = false;
-		MessageProducer messageProducer = null;
 		try {
-			initialSetup();
-			destination = session.createQueue(address);
-			messageProducer = session.createProducer(destination);
-			BytesMessage byteMessage = session.createBytesMessage();
-			byteMessage.writeObject(message);
-			messageProducer.send(byteMessage);
+			queueConnection(address).send(address, producerSession -> {
+				BytesMessage byteMessage = producerSession.createBytesMessage();
+				byteMessage.writeObject(message);
+				return byteMessage;
+			});
 			flag = true;
+		} catch (InterruptedException e) {
+			logger.error("send", e);
+			Thread.currentThread().interrupt();
 		} catch (Exception e) {
 			logger.error("send", e);
 		}
@@ -365,7 +416,8 @@ public class Listener {
 	}
 
 	/**
-	 * Creates and sends a text message to the specified JMS queue address.
+	 * Creates and sends a text message to the specified JMS queue address, with a
+	 * pooled producer of the queue pair the address belongs to.
 	 *
 	 * @param message The text message to send.
 	 * @param address The JMS queue address to send the message to.
@@ -373,14 +425,12 @@ public class Listener {
 	 */
 	public Boolean send(String message, String address) {
 		boolean flag = false;
-		MessageProducer messageProducer = null;
 		try {
-			initialSetup();
-			destination = session.createQueue(address);
-			messageProducer = session.createProducer(destination);
-			messageProducer.send(session.createTextMessage(message));
-
+			queueConnection(address).send(address, producerSession -> producerSession.createTextMessage(message));
 			flag = true;
+		} catch (InterruptedException e) {
+			logger.error("send", e);
+			Thread.currentThread().interrupt();
 		} catch (Exception e) {
 			logger.error("send", e);
 		}
@@ -389,46 +439,45 @@ public class Listener {
 	}
 
 	/**
-	 * Performs initial setup operations before executing the main functionality.
-	 * This method checks the validity of the ActiveMQ connection factory and throws
-	 * an MVException if the connection factory is null.
+	 * Returns the connection of the queue pair a response address belongs to.
 	 *
-	 * @throws MVException if the ActiveMQ connection factory is null, indicating an
-	 *                     invalid connection scenario.
+	 * @param address The response address.
+	 * @return The verification connection for the verification response queue,
+	 *         the manual adjudication connection otherwise.
+	 * @throws MVException if the connections have not been created.
 	 */
-	private void initialSetup() throws MVException {
-		if (Objects.isNull(this.activeMQConnectionFactory)) {
-			logger.error("Inside initialSetup method. Invalid connection.");
+	private QueueConnection queueConnection(String address) throws MVException {
+		QueueConnection queueConnection = address.equalsIgnoreCase(verificationResponseAddress)
+				? verificationConnection
+				: adjudicationConnection;
+		if (Objects.isNull(queueConnection)) {
+			logger.error("Inside queueConnection method. Invalid connection.");
 			throw new MVException(MVErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorCode(),
 					MVErrorCode.INVALID_CONNECTION_EXCEPTION.getErrorMessage());
 		}
-		setup();
+		return queueConnection;
 	}
 
 	/**
-	 * Returns a pre-configured ObjectMapper instance configured to ignore unknown
-	 * properties.
+	 * Returns the shared ObjectMapper, configured to ignore unknown properties.
+	 * Callers must not change its configuration; use
+	 * {@link ObjectMapper#copy()} for a differently configured mapper.
 	 *
 	 * @return ObjectMapper instance with configured settings.
 	 */
 	public static ObjectMapper objectMapper() {
-		return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		return MAPPER;
 	}
 
 	/**
-	 * Converts a Java object to its JSON representation as a String.
+	 * Converts a Java object to its compact JSON representation as a String.
 	 *
 	 * @param className The object to convert to JSON.
 	 * @return JSON representation of the object as a String.
 	 * @throws JsonProcessingException If there's an error during JSON processing.
 	 */
 	public static String javaObjectToJsonString(Object className) throws JsonProcessingException {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-		objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-		String outputJson = null;
-		outputJson = objectMapper.writeValueAsString(className);
-		return outputJson;
+		return JSON_WRITER.writeValueAsString(className);
 	}
 
 	/**
@@ -459,7 +508,8 @@ public class Listener {
 
 	/**
 	 * Executes a task asynchronously after a specified delay, sending a response to
-	 * a message broker.
+	 * a message broker. The task runs on the {@link DelayedResponseScheduler}, so
+	 * responses with different delays are sent independently of each other.
 	 *
 	 * @param response      The response to send, either as a byte array or a String
 	 *                      depending on textType.
@@ -470,24 +520,27 @@ public class Listener {
 	 * @return true if the task was scheduled successfully, false otherwise.
 	 */
 	public boolean executeAsync(String response, int delayResponse, Integer textType, String mvAddress) {
-		TimerTask task = new TimerTask() {
-			public void run() {
-				try {
-					if (textType == 2) {
-						send(response.getBytes(), mvAddress);
-					} else if (textType == 1) {
-
-						send(response, mvAddress);
-					}
-					logger.info("Scheduled job completed: MsgType {} ", textType);
-				} catch (Exception e) {
-					logger.error("executeAsync", e);
+		String operation = operation(mvAddress);
+		Runnable task = () -> {
+			long startTime = System.nanoTime();
+			boolean sent = false;
+			try {
+				if (textType == 2) {
+					sent = send(response.getBytes(), mvAddress);
+				} else if (textType == 1) {
+
+					sent = send(response, mvAddress);
 				}
+				logger.info("Scheduled job completed: MsgType {} ", textType);
+			} catch (Exception e) {
+				logger.error("executeAsync", e);
+			} finally {
+				metrics.recordResponseSent(operation, System.nanoTime() - startTime, sent);
 			}
 		};
 
-		logger.info("Adding timed task with timer as {} seconds", delayResponse);
-		timer.schedule(task, (long) delayResponse * 1000);
+		logger.info("Scheduling response after {} seconds", delayResponse);
+		responseScheduler.schedule(task, delayResponse, TimeUnit.SECONDS);
 		return true;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,220 @@
+package io.mosip.mock.mv.queue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.apache.activemq.ActiveMQConnection;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+/**
+ * Connection to the broker of one queue pair of mock MV, manual adjudication or
+ * verification, with its own consumers and producers.
+ * <p>
+ * The request queue is read by a number of consumers, each in its own session
+ * so that the messages are handled on as many threads. Responses are sent with
+ * a bounded pool of producer sessions: a send borrows an idle session, creating
+ * it if the pool is not full yet, and returns it afterwards, so concurrent
+ * responses do not wait on one another and no producer is created per message.
+ * A session that fails to send, or that belongs to a connection that has since
+ * been replaced, is closed instead of being returned to the pool.
+ * </p>
+ * <p>
+ * Each queue pair having its own connection, consumers and producers, traffic on
+ * one of them does not delay the other.
+ * </p>
+ */
+public class QueueConnection {
+	private static final Logger logger = LoggerFactory.getLogger(QueueConnection.class);
+
+	/** The Constant FAIL_OVER. */
+	private static final String FAIL_OVER = "failover:(";
+
+	/** The Constant RANDOMIZE_FALSE. */
+	private static final String RANDOMIZE_FALSE = ")?randomize=false";
+
+	/**
+	 * Creates a JMS message in the session of a producer.
+	 */
+	@FunctionalInterface
+	public interface MessageCreator {
+
+		/**
+		 * Creates the message to send.
+		 *
+		 * @param session the session of the producer sending the message.
+		 * @return the message.
+		 * @throws JMSException if the message cannot be created.
+		 */
+		public Message create(Session session) throws JMSException;
+	}
+
+	private final String name;
+	private final ActiveMQConnectionFactory connectionFactory;
+	private final BlockingQueue<ProducerSession> idleProducers = new LinkedBlockingQueue<>();
+	private final Semaphore producerPermits;
+	private final List<Session> consumerSessions = new ArrayList<>();
+
+	private Connection connection;
+
+	/**
+	 * Creates the connection to a broker; it is opened on the first consume or
+	 * send.
+	 *
+	 * @param name             the name of the queue pair, used in logs.
+	 * @param brokerUrl        the URL of the broker.
+	 * @param userName         the user name of the broker.
+	 * @param password         the password of the broker.
+	 * @param prefetch         the number of messages the broker pushes ahead to
+	 *                         each consumer.
+	 * @param producerPoolSize the maximum number of producer sessions.
+	 */
+	public QueueConnection(String name, String brokerUrl, String userName, String password, int prefetch,
+			int producerPoolSize) {
+		this.name = name;
+		String failOverBrokerUrl = FAIL_OVER + brokerUrl + "," + brokerUrl + RANDOMIZE_FALSE;
+		logger.info("Broker url of {} : {}", name, failOverBrokerUrl);
+		this.connectionFactory = new ActiveMQConnectionFactory(failOverBrokerUrl);
+		this.connectionFactory.setTrustedPackages(Arrays.asList("io.mosip.mock.mv.*"));
+		this.connectionFactory.setUserName(userName);
+		this.connectionFactory.setPassword(password);
+		this.connectionFactory.getPrefetchPolicy().setQueuePrefetch(Math.max(1, prefetch));
+		this.producerPermits = new Semaphore(Math.max(1, producerPoolSize));
+	}
+
+	/**
+	 * Retrieves the started connection to the broker, creating it if there is none
+	 * or it has been closed.
+	 *
+	 * @return the connection.
+	 * @throws JMSException if the connection cannot be created.
+	 */
+	private synchronized Connection connection() throws JMSException {
+		if (connection == null || ((ActiveMQConnection) connection).isClosed()) {
+			logger.info("Creating new connection for {}.", name);
+			connection = connectionFactory.createConnection();
+			connection.start();
+		}
+		return connection;
+	}
+
+	/**
+	 * Starts consumers on a queue, each in its own session.
+	 *
+	 * @param address   the JMS queue address to consume messages from.
+	 * @param listener  the listener handling the messages.
+	 * @param consumers the number of consumers.
+	 * @throws JMSException if a consumer cannot be created.
+	 */
+	public void consume(String address, MessageListener listener, int consumers) throws JMSException {
+		Connection current = connection();
+		for (int i = 0; i < Math.max(1, consumers); i++) {
+			Session consumerSession = current.createSession(false, Session.AUTO_ACKNOWLEDGE);
+			MessageConsumer consumer = consumerSession.createConsumer(consumerSession.createQueue(address));
+			consumer.setMessageListener(listener);
+			synchronized (this) {
+				consumerSessions.add(consumerSession);
+			}
+		}
+		logger.info("Listening on {} with {} consumers", address, Math.max(1, consumers));
+	}
+
+	/**
+	 * Sends a message to a queue with a producer session borrowed from the pool,
+	 * waiting for one to be returned if they are all busy.
+	 *
+	 * @param address the JMS queue address to send the message to.
+	 * @param creator creates the message in the session of the producer.
+	 * @throws JMSException         if the message cannot be sent.
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 *                              for a producer.
+	 */
+	public void send(String address, MessageCreator creator) throws JMSException, InterruptedException {
+		producerPermits.acquire();
+		ProducerSession producerSession = null;
+		boolean sent = false;
+		try {
+			Connection current = connection();
+			producerSession = idleProducers.poll();
+			if (producerSession != null && producerSession.connection != current) {
+				producerSession.close();
+				producerSession = null;
+			}
+			if (producerSession == null)
+				producerSession = new ProducerSession(current);
+			producerSession.producer(address).send(creator.create(producerSession.session));
+			sent = true;
+		} finally {
+			if (producerSession != null) {
+				if (sent)
+					idleProducers.offer(producerSession);
+				else
+					producerSession.close();
+			}
+			producerPermits.release();
+		}
+	}
+
+	/**
+	 * Closes the connection, together with its consumer and producer sessions.
+	 */
+	public synchronized void close() {
+		idleProducers.clear();
+		consumerSessions.clear();
+		if (connection == null)
+			return;
+		try {
+			connection.close();
+		} catch (JMSException e) {
+			logger.error("close", e);
+		}
+		connection = null;
+	}
+
+	/**
+	 * A producer session of the pool with its producers, by queue address. It is
+	 * only used by the thread that borrowed it.
+	 */
+	private static class ProducerSession {
+		private final Connection connection;
+		private final Session session;
+		private final Map<String, MessageProducer> producers = new HashMap<>();
+
+		private ProducerSession(Connection connection) throws JMSException {
+			this.connection = connection;
+			this.session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		}
+
+		private MessageProducer producer(String address) throws JMSException {
+			MessageProducer producer = producers.get(address);
+			if (producer == null) {
+				producer = session.createProducer(session.createQueue(address));
+				producers.put(address, producer);
+			}
+			return producer;
+		}
+
+		private void close() {
+			try {
+				session.close();
+			} catch (JMSException e) {
+				logger.error("close", e);
+			}
+		}
+	}
+}
\ No newline at end of file
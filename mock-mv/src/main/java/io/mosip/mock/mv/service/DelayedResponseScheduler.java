@@ -0,0 +1,49 @@
+package io.mosip.mock.mv.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interface for sending the decisions of mock MV after their delay, such as the
+ * {@code delayResponse} of an {@link io.mosip.mock.mv.dto.Expectation}, without
+ * holding the consumer thread for the delay.
+ */
+public interface DelayedResponseScheduler {
+
+	/**
+	 * Schedules a task to run once after the given delay. A failing task is
+	 * logged and counted and does not affect other scheduled tasks.
+	 * 
+	 * @param task  the task to run.
+	 * @param delay the delay, zero or negative to run as soon as a thread is free.
+	 * @param unit  the unit of the delay.
+	 */
+	public void schedule(Runnable task, long delay, TimeUnit unit);
+
+	/**
+	 * Retrieves the number of tasks waiting for their delay or for a free thread.
+	 * 
+	 * @return the queue depth of the scheduler.
+	 */
+	public int getQueueSize();
+
+	/**
+	 * Retrieves the number of tasks being run at the moment.
+	 * 
+	 * @return the number of busy scheduler threads.
+	 */
+	public int getActiveCount();
+
+	/**
+	 * Retrieves the number of tasks run so far, including failed ones.
+	 * 
+	 * @return the completed task count.
+	 */
+	public long getCompletedTaskCount();
+
+	/**
+	 * Retrieves the number of tasks that ended with an exception.
+	 * 
+	 * @return the failed task count.
+	 */
+	public long getFailedTaskCount();
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package io.mosip.mock.mv.service;
+
+/**
+ * Interface for recording where mock MV spends its time, as {@code mock.mv.*}
+ * metrics.
+ * <p>
+ * The processing of each request, the time its message waited in the queue and
+ * the sending of its response are recorded separately, so the configured
+ * response delays are not included in any of the timings.
+ * </p>
+ */
+public interface MvMetrics {
+
+	/** Operation of a manual adjudication request. */
+	public static final String ADJUDICATION = "adjudication";
+
+	/** Operation of a verification request. */
+	public static final String VERIFICATION = "verification";
+
+	/**
+	 * Records the processing of a request, from its reception to its response
+	 * being scheduled.
+	 *
+	 * @param operation     the operation, such as {@link #ADJUDICATION}.
+	 * @param durationNanos the processing time in nanoseconds.
+	 * @param failureReason the reason the request could not be processed, or
+	 *                      {@code null} if it succeeded.
+	 */
+	public void recordRequest(String operation, long durationNanos, String failureReason);
+
+	/**
+	 * Records the time a message spent in the queue, from its JMS timestamp to its
+	 * reception.
+	 *
+	 * @param operation the operation of the queue.
+	 * @param lagMillis the queue lag in milliseconds.
+	 */
+	public void recordQueueLag(String operation, long lagMillis);
+
+	/**
+	 * Records the sending of a scheduled response.
+	 *
+	 * @param operation     the operation of the response.
+	 * @param durationNanos the sending time in nanoseconds.
+	 * @param success       {@code true} if the response was sent.
+	 */
+	public void recordResponseSent(String operation, long durationNanos, boolean success);
+}
\ No newline at end of file
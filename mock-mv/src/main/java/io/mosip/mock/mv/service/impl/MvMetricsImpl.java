@@ -0,0 +1,65 @@
+package io.mosip.mock.mv.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.mosip.mock.mv.service.MvMetrics;
+
+/**
+ * Implementation of the {@link MvMetrics} interface publishing Micrometer
+ * meters to the application {@link MeterRegistry}.
+ * <p>
+ * Timers are tagged with an {@code outcome} of {@code success} or
+ * {@code failure} and, for failed requests, the reason they could not be
+ * processed.
+ * </p>
+ * 
+ * @see MvMetrics
+ */
+@Component
+public class MvMetricsImpl implements MvMetrics {
+	private static final String METRIC_PREFIX = "mock.mv.";
+
+	private static final String OPERATION = "operation";
+	private static final String OUTCOME = "outcome";
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String NO_REASON = "none";
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Creates the metrics on the given registry.
+	 * 
+	 * @param registry the registry the meters are published to.
+	 */
+	public MvMetricsImpl(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordRequest(String operation, long durationNanos, String failureReason) {
+		Timer.builder(METRIC_PREFIX + "request")
+				.description("Time to process a request, without its configured response delay")
+				.tag(OPERATION, operation).tag(OUTCOME, failureReason == null ? SUCCESS : FAILURE)
+				.tag("reason", failureReason == null ? NO_REASON : failureReason).register(registry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordQueueLag(String operation, long lagMillis) {
+		Timer.builder(METRIC_PREFIX + "queue.lag")
+				.description("Time the requests waited in the queue before being received").tag(OPERATION, operation)
+				.register(registry).record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void recordResponseSent(String operation, long durationNanos, boolean success) {
+		Timer.builder(METRIC_PREFIX + "response.send").description("Time to send a response to its queue")
+				.tag(OPERATION, operation).tag(OUTCOME, success ? SUCCESS : FAILURE).register(registry)
+				.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+}
\ No newline at end of file
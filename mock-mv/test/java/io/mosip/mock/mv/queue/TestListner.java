@@ -1,7 +1,9 @@
 package io.mosip.mock.mv.queue;
 
 import io.mosip.mock.mv.dto.Expectation;
+import io.mosip.mock.mv.service.DelayedResponseScheduler;
 import io.mosip.mock.mv.service.ExpectationCache;
+import io.mosip.mock.mv.service.MvMetrics;
 
 import org.apache.activemq.ActiveMQConnectionFactory;
 import org.apache.activemq.command.ActiveMQTextMessage;
@@ -29,6 +31,12 @@ public class TestListner {
 	@Mock
 	private ExpectationCache expectationCache;
 
+	@Mock
+	private MvMetrics metrics;
+
+	@Mock
+	private DelayedResponseScheduler responseScheduler;
+
 	@Mock
 	private ActiveMQConnectionFactory activeMQConnectionFactory;
 
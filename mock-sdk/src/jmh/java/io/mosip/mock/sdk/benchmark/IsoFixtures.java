@@ -0,0 +1,208 @@
+package io.mosip.mock.sdk.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import io.mosip.biometrics.util.ConvertRequestDto;
+import io.mosip.biometrics.util.face.FaceEncoder;
+import io.mosip.biometrics.util.finger.FingerEncoder;
+import io.mosip.biometrics.util.iris.IrisEncoder;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.constant.PurposeType;
+import io.mosip.kernel.biometrics.constant.QualityType;
+import io.mosip.kernel.biometrics.entities.BDBInfo;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biometrics.entities.BIRInfo;
+import io.mosip.kernel.biometrics.entities.BiometricRecord;
+import io.mosip.kernel.biometrics.entities.RegistryIDType;
+import io.mosip.kernel.biometrics.entities.VersionType;
+
+/**
+ * Synthetic ISO 19794 records for the benchmarks, generated locally so that no
+ * real biometric data is needed: a grey-scale pattern encoded as JPEG 2000 and
+ * wrapped by the biometrics-util encoders, as a device would. Each variant has
+ * its own pattern and so its own BDB digests; records built from the same
+ * variant match each other and records of other variants do not.
+ */
+final class IsoFixtures {
+	static final String FINGER_ISO_FORMAT = "ISO19794_4_2011";
+	static final String FACE_ISO_FORMAT = "ISO19794_5_2011";
+	static final String IRIS_ISO_FORMAT = "ISO19794_6_2011";
+
+	static final List<String> FINGER_SUBTYPES = List.of("Left IndexFinger", "Left MiddleFinger", "Left RingFinger",
+			"Left LittleFinger", "Left Thumb", "Right IndexFinger", "Right MiddleFinger", "Right RingFinger",
+			"Right LittleFinger", "Right Thumb");
+	static final List<String> IRIS_SUBTYPES = List.of("Left", "Right");
+	static final List<String> FACE_SUBTYPES = List.of("");
+
+	private static final long QUALITY_SCORE = 80;
+
+	private IsoFixtures() {
+	}
+
+	/**
+	 * The BDBs of one variant, by modality and then by subtype, in the order of
+	 * the subtype lists.
+	 */
+	static final class Variant {
+		private final Map<BiometricType, List<byte[]>> bdbs = new EnumMap<>(BiometricType.class);
+
+		Variant(int seed) throws IOException {
+			bdbs.put(BiometricType.FINGER, encode(BiometricType.FINGER, FINGER_SUBTYPES, seed, 120, 150));
+			bdbs.put(BiometricType.IRIS, encode(BiometricType.IRIS, IRIS_SUBTYPES, seed, 160, 120));
+			bdbs.put(BiometricType.FACE, encode(BiometricType.FACE, FACE_SUBTYPES, seed, 120, 160));
+		}
+
+		/**
+		 * Retrieves the ISO BDB of a modality.
+		 *
+		 * @param modality The modality.
+		 * @param index    The index of the subtype in the subtype list.
+		 * @return The ISO record, shared and not to be modified.
+		 */
+		byte[] bdb(BiometricType modality, int index) {
+			return bdbs.get(modality).get(index);
+		}
+
+		/**
+		 * Builds a biometric record with a segment per subtype of the modalities.
+		 * The segments share the BDBs of the variant, so records are cheap to build.
+		 *
+		 * @param modalities The modalities of the record.
+		 * @return The record.
+		 */
+		BiometricRecord record(List<BiometricType> modalities) {
+			List<BIR> segments = new ArrayList<>();
+			for (BiometricType modality : modalities) {
+				List<String> subtypes = subtypes(modality);
+				for (int index = 0; index < subtypes.size(); index++)
+					segments.add(bir(modality, subtypes.get(index), bdb(modality, index)));
+			}
+			BiometricRecord biometricRecord = new BiometricRecord();
+			biometricRecord.setSegments(segments);
+			return biometricRecord;
+		}
+	}
+
+	/**
+	 * Generates the variants, with seeds 0 to {@code count - 1}.
+	 *
+	 * @param count The number of variants.
+	 * @return The variants.
+	 * @throws IOException If an image cannot be encoded.
+	 */
+	static List<Variant> variants(int count) throws IOException {
+		List<Variant> variants = new ArrayList<>();
+		for (int seed = 0; seed < count; seed++)
+			variants.add(new Variant(seed));
+		return variants;
+	}
+
+	/**
+	 * Parses a modality parameter of the benchmarks, {@code ALL} standing for all
+	 * of them.
+	 *
+	 * @param modality The parameter.
+	 * @return The modalities.
+	 */
+	static List<BiometricType> modalities(String modality) {
+		if ("ALL".equals(modality))
+			return Arrays.asList(BiometricType.FINGER, BiometricType.IRIS, BiometricType.FACE);
+		return Arrays.asList(BiometricType.valueOf(modality));
+	}
+
+	static List<String> subtypes(BiometricType modality) {
+		switch (modality) {
+		case FINGER:
+			return FINGER_SUBTYPES;
+		case IRIS:
+			return IRIS_SUBTYPES;
+		case FACE:
+			return FACE_SUBTYPES;
+		default:
+			throw new IllegalArgumentException("Modality " + modality + " is not supported");
+		}
+	}
+
+	/** The CBEFF format types of the ISO records: 7 finger, 8 face and 9 iris. */
+	static String formatType(BiometricType modality) {
+		switch (modality) {
+		case FINGER:
+			return "7";
+		case FACE:
+			return "8";
+		case IRIS:
+			return "9";
+		default:
+			throw new IllegalArgumentException("Modality " + modality + " is not supported");
+		}
+	}
+
+	static BIR bir(BiometricType modality, String subtype, byte[] bdb) {
+		QualityType quality = new QualityType();
+		quality.setScore(QUALITY_SCORE);
+		BDBInfo bdbInfo = new BDBInfo.BDBInfoBuilder().withType(Arrays.asList(modality))
+				.withSubtype(subtype.isEmpty() ? List.of() : Arrays.asList(subtype.split(" ")))
+				.withPurpose(PurposeType.VERIFY).withQuality(quality)
+				.withFormat(new RegistryIDType("Mosip", formatType(modality))).build();
+		return new BIR.BIRBuilder().withVersion(new VersionType(1, 1)).withCbeffversion(new VersionType(1, 1))
+				.withBirInfo(new BIRInfo.BIRInfoBuilder().withIntegrity(false).build()).withBdbInfo(bdbInfo)
+				.withBdb(bdb).build();
+	}
+
+	private static List<byte[]> encode(BiometricType modality, List<String> subtypes, int seed, int width,
+			int height) throws IOException {
+		List<byte[]> bdbs = new ArrayList<>();
+		for (int index = 0; index < subtypes.size(); index++) {
+			ConvertRequestDto request = new ConvertRequestDto();
+			request.setPurpose("Registration");
+			request.setModality(modality.value());
+			request.setBiometricSubType(subtypes.get(index));
+			request.setImageType(0);
+			request.setInputBytes(jpeg2000(seed * 31 + index, width, height));
+			try {
+				switch (modality) {
+				case FINGER:
+					request.setVersion(FINGER_ISO_FORMAT);
+					bdbs.add(FingerEncoder.convertFingerImageToISO(request));
+					break;
+				case IRIS:
+					request.setVersion(IRIS_ISO_FORMAT);
+					bdbs.add(IrisEncoder.convertIrisImageToISO(request));
+					break;
+				default:
+					request.setVersion(FACE_ISO_FORMAT);
+					bdbs.add(FaceEncoder.convertFaceImageToISO(request));
+					break;
+				}
+			} catch (IOException ex) {
+				throw ex;
+			} catch (Exception ex) {
+				throw new IOException("Could not encode the " + modality + " image", ex);
+			}
+		}
+		return bdbs;
+	}
+
+	private static byte[] jpeg2000(int seed, int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+		WritableRaster raster = image.getRaster();
+		double scale = 200.0 + 17 * seed;
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				raster.setSample(x, y, 0, (int) (128 + 100 * Math.sin((x * x + y * y + seed * x) / scale)));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		if (!ImageIO.write(image, "jpeg2000", out))
+			throw new IOException("No JPEG 2000 image writer");
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,85 @@
+package io.mosip.mock.sdk.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.constant.PurposeType;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.mock.sdk.service.BdbValidationCache;
+import io.mosip.mock.sdk.service.SDKService;
+import io.mosip.mock.sdk.service.SdkSettings;
+import io.mosip.mock.sdk.utils.Util;
+
+/**
+ * The ISO validators of {@link SDKService} on one BDB: decoding and checking
+ * the ISO record every time, and validating it through the
+ * {@link BdbValidationCache} as a match sample, hashing the BDB on every call
+ * while all but the first validation are hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IsoValidatorBenchmark {
+	@Param({ "FINGER", "IRIS", "FACE" })
+	private String modality;
+
+	private Validator validator;
+	private BiometricType bioType;
+	private String bioSubType;
+	private byte[] bdb;
+	private BIR bir;
+
+	/**
+	 * Exposes the validators of the service.
+	 */
+	private static final class Validator extends SDKService {
+		private final BdbValidationCache cache = new BdbValidationCache(BdbValidationCache.DEFAULT_SIZE_KB);
+
+		Validator() {
+			super(SdkSettings.fromEnvironment(null));
+		}
+
+		boolean validate(BiometricType bioType, String bioSubType, byte[] bdb) {
+			return isValidBiometericData(getSettings(), PurposeType.VERIFY, bioType, bioSubType, bdb);
+		}
+
+		boolean validateCached(BIR bir) {
+			return isValidBirData(getSettings(), bir, this.cache, () -> Util.computeDigest(bir.getBdb()));
+		}
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		this.bioType = BiometricType.valueOf(this.modality);
+		this.bioSubType = IsoFixtures.subtypes(this.bioType).get(0);
+		this.bdb = IsoFixtures.variants(1).get(0).bdb(this.bioType, 0);
+		this.bir = IsoFixtures.bir(this.bioType, this.bioSubType, this.bdb);
+		this.validator = new Validator();
+	}
+
+	@Benchmark
+	public boolean validate() {
+		return this.validator.validate(this.bioType, this.bioSubType, this.bdb);
+	}
+
+	@Benchmark
+	public boolean validateCached() {
+		return this.validator.validateCached(this.bir);
+	}
+}
@@ -0,0 +1,74 @@
+package io.mosip.mock.sdk.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BiometricRecord;
+import io.mosip.kernel.biometrics.model.MatchDecision;
+import io.mosip.kernel.biometrics.model.Response;
+import io.mosip.mock.sdk.impl.SampleSDKV2;
+
+/**
+ * 1:N match of {@link SampleSDKV2} against galleries of synthetic records, per
+ * modality. One gallery record in {@value #VARIANTS} has the BDBs of the sample
+ * and matches it, the others do not. The sample is validated on every gallery
+ * record, so past the first operation its validations come from the validation
+ * cache as they would for a stable sample.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchBenchmark {
+	/** Distinct BDB sets the gallery records are built from. */
+	private static final int VARIANTS = 8;
+
+	@Param({ "1", "100", "10000" })
+	private int gallerySize;
+
+	@Param({ "FINGER", "IRIS", "FACE", "ALL" })
+	private String modality;
+
+	private SampleSDKV2 sampleSDK;
+	private BiometricRecord sample;
+	private BiometricRecord[] gallery;
+	private List<BiometricType> modalitiesToMatch;
+	private Map<String, String> flags;
+
+	@Setup
+	public void setup() throws IOException {
+		this.modalitiesToMatch = IsoFixtures.modalities(this.modality);
+		List<IsoFixtures.Variant> variants = IsoFixtures.variants(VARIANTS);
+		this.sample = variants.get(0).record(this.modalitiesToMatch);
+		this.gallery = new BiometricRecord[this.gallerySize];
+		for (int index = 0; index < this.gallerySize; index++)
+			this.gallery[index] = variants.get(index % VARIANTS).record(this.modalitiesToMatch);
+
+		this.sampleSDK = new SampleSDKV2();
+		this.sampleSDK.init(new HashMap<>());
+		this.flags = new HashMap<>();
+	}
+
+	@Benchmark
+	public Response<MatchDecision[]> match() {
+		return this.sampleSDK.match(this.sample, this.gallery, this.modalitiesToMatch, this.flags);
+	}
+}
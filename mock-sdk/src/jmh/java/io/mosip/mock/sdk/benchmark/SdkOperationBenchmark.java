@@ -0,0 +1,91 @@
+package io.mosip.mock.sdk.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BiometricRecord;
+import io.mosip.kernel.biometrics.model.QualityCheck;
+import io.mosip.kernel.biometrics.model.Response;
+import io.mosip.mock.sdk.impl.SampleSDKV2;
+
+/**
+ * The single record operations of {@link SampleSDKV2}: quality check,
+ * template extraction and conversion to images of a record with all the
+ * modalities, the source format selecting the segments converted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SdkOperationBenchmark {
+	private static final String TARGET_FORMAT = "IMAGE/JPEG";
+
+	private SampleSDKV2 sampleSDK;
+	private BiometricRecord sample;
+	private List<BiometricType> modalities;
+	private Map<String, String> flags;
+
+	@Setup
+	public void setup() throws IOException {
+		this.modalities = IsoFixtures.modalities("ALL");
+		this.sample = IsoFixtures.variants(1).get(0).record(this.modalities);
+		this.sampleSDK = new SampleSDKV2();
+		this.sampleSDK.init(new HashMap<>());
+		this.flags = new HashMap<>();
+	}
+
+	/**
+	 * Records to convert, with all the modalities as captured at registration;
+	 * the source format selects the segments converted. The conversion replaces
+	 * the BDBs of the record it is given, so each operation converts a new
+	 * record sharing the source BDBs.
+	 */
+	@State(Scope.Benchmark)
+	public static class ConvertState {
+		@Param({ IsoFixtures.FINGER_ISO_FORMAT, IsoFixtures.FACE_ISO_FORMAT, IsoFixtures.IRIS_ISO_FORMAT })
+		private String sourceFormat;
+
+		private IsoFixtures.Variant variant;
+		private List<BiometricType> modalities;
+
+		@Setup
+		public void setup() throws IOException {
+			this.variant = IsoFixtures.variants(1).get(0);
+			this.modalities = IsoFixtures.modalities("ALL");
+		}
+	}
+
+	@Benchmark
+	public Response<QualityCheck> checkQuality() {
+		return this.sampleSDK.checkQuality(this.sample, this.modalities, this.flags);
+	}
+
+	@Benchmark
+	public Response<BiometricRecord> extractTemplate() {
+		return this.sampleSDK.extractTemplate(this.sample, this.modalities, this.flags);
+	}
+
+	@Benchmark
+	public Response<BiometricRecord> convertFormatV2(ConvertState state) {
+		return this.sampleSDK.convertFormatV2(state.variant.record(state.modalities), state.sourceFormat,
+				TARGET_FORMAT, new HashMap<>(), new HashMap<>(), state.modalities);
+	}
+}
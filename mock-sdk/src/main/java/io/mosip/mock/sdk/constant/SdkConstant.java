@@ -24,4 +24,39 @@ public class SdkConstant {
 	 * </p>
 	 */
 	public static final String SDK_CHECK_ISO_TIMESTAMP_FORMAT = "sdk_check_iso_timestamp_format";
+
+	/**
+	 * SDK configuration key for the number of threads matching a gallery.
+	 * 
+	 * <p>
+	 * This constant represents the key used to retrieve the fork-join parallelism
+	 * of 1:N match from SDK configurations or flags. A value of 1 matches the
+	 * gallery on the calling thread.
+	 * </p>
+	 */
+	public static final String SDK_MATCH_PARALLELISM = "sdk_match_parallelism";
+
+	/**
+	 * SDK configuration key for the size of the BDB validation cache.
+	 * 
+	 * <p>
+	 * This constant represents the key used to retrieve the maximum size in
+	 * kilobytes of the cache of BDB validation outcomes from SDK configurations. A
+	 * value of 0 disables the cache. Each SDK instance has its own cache, sized
+	 * on init and shared by all its requests, so it is not read from flags.
+	 * </p>
+	 */
+	public static final String SDK_VALIDATION_CACHE_SIZE = "sdk_validation_cache_size";
+
+	/**
+	 * SDK configuration key for the number of threads converting BDBs.
+	 * 
+	 * <p>
+	 * This constant represents the key used to retrieve the size of the pool
+	 * converting the BDBs of a record from SDK configurations. A value of 1
+	 * converts them on the calling thread. The pool being shared by all the
+	 * requests, it is not read from flags.
+	 * </p>
+	 */
+	public static final String SDK_CONVERT_PARALLELISM = "sdk_convert_parallelism";
 }
\ No newline at end of file
@@ -15,11 +15,7 @@ import io.mosip.kernel.biometrics.model.QualityCheck;
 import io.mosip.kernel.biometrics.model.Response;
 import io.mosip.kernel.biometrics.model.SDKInfo;
 import io.mosip.kernel.biometrics.spi.IBioApi;
-import io.mosip.mock.sdk.service.CheckQualityService;
-import io.mosip.mock.sdk.service.ExtractTemplateService;
-import io.mosip.mock.sdk.service.MatchService;
 import io.mosip.mock.sdk.service.SDKInfoService;
-import io.mosip.mock.sdk.service.SegmentService;
 
 /**
  * Implementation of IBioApi for the Sample SDK.
@@ -50,6 +46,9 @@ public class SampleSDK implements IBioApi {
 	/** The Api version. */
 	private static final String API_VERSION = "0.9";
 
+	/** The services, created on init or on the first request. */
+	private final SdkServices.Holder services = new SdkServices.Holder(() -> env);
+
 	/**
 	 * Initializes the SDK with the provided parameters.
 	 * 
@@ -58,7 +57,9 @@ public class SampleSDK implements IBioApi {
 	 */
 	@Override
 	public SDKInfo init(Map<String, String> initParams) {
-		SDKInfoService service = new SDKInfoService(env, API_VERSION, "sample1", "sample2", "sample3");
+		SdkServices sdkServices = services.init();
+		SDKInfoService service = new SDKInfoService(sdkServices.settings(), API_VERSION, "sample1", "sample2",
+				"sample3");
 		return service.getSDKInfo();
 	}
 
@@ -73,8 +74,7 @@ public class SampleSDK implements IBioApi {
 	@Override
 	public Response<QualityCheck> checkQuality(BiometricRecord sample, List<BiometricType> modalitiesToCheck,
 			Map<String, String> flags) {
-		CheckQualityService service = new CheckQualityService(env, sample, modalitiesToCheck, flags);
-		return service.getCheckQualityInfo();
+		return services().checkQuality().getCheckQualityInfo(sample, modalitiesToCheck, flags);
 	}
 
 	/**
@@ -89,8 +89,7 @@ public class SampleSDK implements IBioApi {
 	@Override
 	public Response<MatchDecision[]> match(BiometricRecord sample, BiometricRecord[] gallery,
 			List<BiometricType> modalitiesToMatch, Map<String, String> flags) {
-		MatchService service = new MatchService(env, sample, gallery, modalitiesToMatch, flags);
-		return service.getMatchDecisionInfo();
+		return services().match().getMatchDecisionInfo(sample, gallery, modalitiesToMatch, flags);
 	}
 
 	/**
@@ -105,8 +104,7 @@ public class SampleSDK implements IBioApi {
 	@Override
 	public Response<BiometricRecord> extractTemplate(BiometricRecord sample, List<BiometricType> modalitiesToExtract,
 			Map<String, String> flags) {
-		ExtractTemplateService service = new ExtractTemplateService(env, sample, modalitiesToExtract, flags);
-		return service.getExtractTemplateInfo();
+		return services().extractTemplate().getExtractTemplateInfo(sample, modalitiesToExtract, flags);
 	}
 
 	/**
@@ -120,8 +118,7 @@ public class SampleSDK implements IBioApi {
 	@Override
 	public Response<BiometricRecord> segment(BiometricRecord sample, List<BiometricType> modalitiesToSegment,
 			Map<String, String> flags) {
-		SegmentService service = new SegmentService(env, sample, modalitiesToSegment, flags);
-		return service.getSegmentInfo();
+		return services().segment().getSegmentInfo(sample, modalitiesToSegment, flags);
 	}
 
 	/**
@@ -144,4 +141,14 @@ public class SampleSDK implements IBioApi {
 			List<BiometricType> modalitiesToConvert) {
 		return sample;
 	}
+
+	/**
+	 * Retrieves the services, creating them with the environment settings if the
+	 * SDK has not been initialized.
+	 *
+	 * @return The services.
+	 */
+	SdkServices services() {
+		return services.get();
+	}
 }
\ No newline at end of file
@@ -16,12 +16,7 @@ import io.mosip.kernel.biometrics.model.Response;
 import io.mosip.kernel.biometrics.model.SDKInfo;
 import io.mosip.kernel.biometrics.spi.IBioApi;
 import io.mosip.kernel.biometrics.spi.IBioApiV2;
-import io.mosip.mock.sdk.service.CheckQualityService;
-import io.mosip.mock.sdk.service.ConvertFormatService;
-import io.mosip.mock.sdk.service.ExtractTemplateService;
-import io.mosip.mock.sdk.service.MatchService;
 import io.mosip.mock.sdk.service.SDKInfoService;
-import io.mosip.mock.sdk.service.SegmentService;
 
 /**
  * Implementation of {@link IBioApiV2} interface providing biometric SDK
@@ -48,6 +43,9 @@ public class SampleSDKV2 implements IBioApiV2 {
 	/** The Api version. */
 	private static final String API_VERSION = "0.9";
 
+	/** The services, created on init or on the first request. */
+	private final SdkServices.Holder services = new SdkServices.Holder(() -> env);
+
 	/**
 	 * Initializes the SDK with the provided initialization parameters.
 	 *
@@ -56,7 +54,9 @@ public class SampleSDKV2 implements IBioApiV2 {
 	 */
 	@Override
 	public SDKInfo init(Map<String, String> initParams) {
-		SDKInfoService service = new SDKInfoService(env, API_VERSION, "sample1", "sample2", "sample3");
+		SdkServices sdkServices = services.init();
+		SDKInfoService service = new SDKInfoService(sdkServices.settings(), API_VERSION, "sample1", "sample2",
+				"sample3");
 		return service.getSDKInfo();
 	}
 
@@ -71,8 +71,7 @@ public class SampleSDKV2 implements IBioApiV2 {
 	@Override
 	public Response<QualityCheck> checkQuality(BiometricRecord sample, List<BiometricType> modalitiesToCheck,
 			Map<String, String> flags) {
-		CheckQualityService service = new CheckQualityService(env, sample, modalitiesToCheck, flags);
-		return service.getCheckQualityInfo();
+		return services().checkQuality().getCheckQualityInfo(sample, modalitiesToCheck, flags);
 	}
 
 	/**
@@ -87,8 +86,7 @@ public class SampleSDKV2 implements IBioApiV2 {
 	@Override
 	public Response<MatchDecision[]> match(BiometricRecord sample, BiometricRecord[] gallery,
 			List<BiometricType> modalitiesToMatch, Map<String, String> flags) {
-		MatchService service = new MatchService(env, sample, gallery, modalitiesToMatch, flags);
-		return service.getMatchDecisionInfo();
+		return services().match().getMatchDecisionInfo(sample, gallery, modalitiesToMatch, flags);
 	}
 
 	/**
@@ -103,8 +101,7 @@ public class SampleSDKV2 implements IBioApiV2 {
 	@Override
 	public Response<BiometricRecord> extractTemplate(BiometricRecord sample, List<BiometricType> modalitiesToExtract,
 			Map<String, String> flags) {
-		ExtractTemplateService service = new ExtractTemplateService(env, sample, modalitiesToExtract, flags);
-		return service.getExtractTemplateInfo();
+		return services().extractTemplate().getExtractTemplateInfo(sample, modalitiesToExtract, flags);
 	}
 
 	/**
@@ -123,9 +120,8 @@ public class SampleSDKV2 implements IBioApiV2 {
 	public Response<BiometricRecord> convertFormatV2(BiometricRecord bioRecord, String sourceFormat,
 			String targetFormat, Map<String, String> sourceParams, Map<String, String> targetParams,
 			List<BiometricType> modalitiesToConvert) {
-		ConvertFormatService service = new ConvertFormatService(env, bioRecord, sourceFormat, targetFormat,
-				sourceParams, targetParams, modalitiesToConvert);
-		return service.getConvertFormatInfo();
+		return services().convertFormat().getConvertFormatInfo(bioRecord, sourceFormat, targetFormat, sourceParams,
+				targetParams, modalitiesToConvert);
 	}
 
 	/**
@@ -139,8 +135,7 @@ public class SampleSDKV2 implements IBioApiV2 {
 	@Override
 	public Response<BiometricRecord> segment(BiometricRecord sample, List<BiometricType> modalitiesToSegment,
 			Map<String, String> flags) {
-		SegmentService service = new SegmentService(env, sample, modalitiesToSegment, flags);
-		return service.getSegmentInfo();
+		return services().segment().getSegmentInfo(sample, modalitiesToSegment, flags);
 	}
 
 	/**
@@ -163,4 +158,14 @@ public class SampleSDKV2 implements IBioApiV2 {
 			List<BiometricType> modalitiesToConvert) {
 		return sample;
 	}
+
+	/**
+	 * Retrieves the services, creating them with the environment settings if the
+	 * SDK has not been initialized.
+	 *
+	 * @return The services.
+	 */
+	SdkServices services() {
+		return services.get();
+	}
 }
@@ -0,0 +1,123 @@
+package io.mosip.mock.sdk.impl;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.env.Environment;
+
+import io.mosip.mock.sdk.service.CheckQualityService;
+import io.mosip.mock.sdk.service.ConvertFormatService;
+import io.mosip.mock.sdk.service.ExtractTemplateService;
+import io.mosip.mock.sdk.service.MatchService;
+import io.mosip.mock.sdk.service.SdkSettings;
+import io.mosip.mock.sdk.service.SegmentService;
+
+/**
+ * The services of an SDK instance, created once with the settings resolved from
+ * the environment and shared by all its requests.
+ */
+final class SdkServices {
+	private final SdkSettings settings;
+	private final CheckQualityService checkQuality;
+	private final MatchService match;
+	private final ExtractTemplateService extractTemplate;
+	private final ConvertFormatService convertFormat;
+	private final SegmentService segment;
+
+	private SdkServices(SdkSettings settings) {
+		this.settings = settings;
+		this.checkQuality = new CheckQualityService(settings);
+		this.match = new MatchService(settings);
+		this.extractTemplate = new ExtractTemplateService(settings);
+		this.convertFormat = new ConvertFormatService(settings);
+		this.segment = new SegmentService(settings);
+	}
+
+	/**
+	 * Resolves the settings from the environment and creates the services.
+	 *
+	 * @param env The environment configuration, or null to use the defaults.
+	 * @return The services.
+	 */
+	static SdkServices create(Environment env) {
+		return new SdkServices(SdkSettings.fromEnvironment(env));
+	}
+
+	/** @return The settings of the SDK. */
+	SdkSettings settings() {
+		return settings;
+	}
+
+	/** @return The quality check service. */
+	CheckQualityService checkQuality() {
+		return checkQuality;
+	}
+
+	/** @return The match service. */
+	MatchService match() {
+		return match;
+	}
+
+	/** @return The template extraction service. */
+	ExtractTemplateService extractTemplate() {
+		return extractTemplate;
+	}
+
+	/** @return The format conversion service. */
+	ConvertFormatService convertFormat() {
+		return convertFormat;
+	}
+
+	/** @return The segmentation service. */
+	SegmentService segment() {
+		return segment;
+	}
+
+	/**
+	 * Holds the services of an SDK instance, created on init or, if the SDK has
+	 * not been initialized, on its first request.
+	 */
+	static final class Holder {
+		private final Supplier<Environment> env;
+		private volatile SdkServices services;
+
+		/**
+		 * Constructs a holder of the services of an SDK instance.
+		 *
+		 * @param env Supplies the environment configuration, injected after the SDK
+		 *            is constructed.
+		 */
+		Holder(Supplier<Environment> env) {
+			this.env = env;
+		}
+
+		/**
+		 * Creates the services with the environment settings, replacing the
+		 * current ones.
+		 *
+		 * @return The services.
+		 */
+		SdkServices init() {
+			SdkServices sdkServices = create(env.get());
+			services = sdkServices;
+			return sdkServices;
+		}
+
+		/**
+		 * Retrieves the services, creating them with the environment settings if
+		 * the SDK has not been initialized.
+		 *
+		 * @return The services.
+		 */
+		SdkServices get() {
+			SdkServices sdkServices = services;
+			if (sdkServices == null) {
+				synchronized (this) {
+					if (services == null)
+						services = create(env.get());
+					sdkServices = services;
+				}
+			}
+			return sdkServices;
+		}
+	}
+}
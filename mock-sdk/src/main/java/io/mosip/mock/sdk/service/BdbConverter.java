@@ -0,0 +1,146 @@
+package io.mosip.mock.sdk.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.mosip.kernel.bio.converter.exception.ConversionException;
+import io.mosip.kernel.bio.converter.service.impl.ConverterServiceImpl;
+import io.mosip.mock.sdk.constant.ResponseStatus;
+import io.mosip.mock.sdk.constant.SdkConstant;
+import io.mosip.mock.sdk.exceptions.SDKException;
+import io.mosip.mock.sdk.utils.Util;
+
+/**
+ * Converts BDBs from a source format to a target format with
+ * {@link ConverterServiceImpl}, one BDB per call so that the BDBs of a record
+ * are converted in parallel.
+ *
+ * <p>
+ * The conversions run on a fixed pool whose size is set with
+ * {@link SdkConstant#SDK_CONVERT_PARALLELISM}, shared by all the requests so
+ * that concurrent requests do not multiply the threads. The BDBs are passed and
+ * returned as bytes, and only encoded to URL-safe base64 for the converter
+ * itself.
+ */
+public final class BdbConverter {
+	/** Fixed pools converting BDBs, one per configured parallelism. */
+	private static final Map<Integer, ExecutorService> CONVERT_POOLS = new ConcurrentHashMap<>();
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final ConverterService converterService;
+	private final String sourceFormat;
+	private final String targetFormat;
+	private final int parallelism;
+
+	/**
+	 * Constructs a converter of a pair of formats.
+	 *
+	 * @param sourceFormat The format of the BDBs to convert.
+	 * @param targetFormat The format to convert them to.
+	 * @param parallelism  The number of threads converting the BDBs of a record; 1
+	 *                     converts them on the calling thread.
+	 */
+	public BdbConverter(String sourceFormat, String targetFormat, int parallelism) {
+		this(new ConverterServiceImpl()::convert, sourceFormat, targetFormat, parallelism);
+	}
+
+	BdbConverter(ConverterService converterService, String sourceFormat, String targetFormat, int parallelism) {
+		this.converterService = converterService;
+		this.sourceFormat = sourceFormat;
+		this.targetFormat = targetFormat;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Converts BDBs, in parallel when there are several of them. When a
+	 * conversion fails, the exception of the first failing BDB in the order of
+	 * the map is thrown.
+	 *
+	 * @param bdbs         The BDBs to convert by key; an empty map is still passed
+	 *                     to the converter, which reports it.
+	 * @param sourceParams The parameters of the source format.
+	 * @param targetParams The parameters of the target format.
+	 * @return The converted BDBs by key, in the order of the map, without the keys
+	 *         the converter returned no value for.
+	 * @throws ConversionException If a BDB cannot be converted.
+	 */
+	public Map<String, byte[]> convert(Map<String, byte[]> bdbs, Map<String, String> sourceParams,
+			Map<String, String> targetParams) {
+		if (bdbs.isEmpty()) {
+			converterService.convert(new HashMap<>(), sourceFormat, targetFormat, sourceParams, targetParams);
+			return Collections.emptyMap();
+		}
+
+		Map<String, byte[]> converted = new LinkedHashMap<>();
+		if (bdbs.size() == 1 || parallelism == 1) {
+			for (Map.Entry<String, byte[]> entry : bdbs.entrySet())
+				putConverted(converted, entry.getKey(),
+						convert(entry.getKey(), entry.getValue(), sourceParams, targetParams));
+			return converted;
+		}
+
+		ExecutorService pool = CONVERT_POOLS.computeIfAbsent(parallelism, BdbConverter::newConvertPool);
+		List<String> keys = new ArrayList<>(bdbs.keySet());
+		List<Future<byte[]>> futures = new ArrayList<>(keys.size());
+		try {
+			for (Map.Entry<String, byte[]> entry : bdbs.entrySet())
+				futures.add(pool.submit(() -> convert(entry.getKey(), entry.getValue(), sourceParams, targetParams)));
+			for (int index = 0; index < keys.size(); index++)
+				putConverted(converted, keys.get(index), futures.get(index).get());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SDKException(ResponseStatus.UNKNOWN_ERROR.getStatusCode() + "",
+					ResponseStatus.UNKNOWN_ERROR.getStatusMessage(), ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			throw new SDKException(ResponseStatus.UNKNOWN_ERROR.getStatusCode() + "",
+					ResponseStatus.UNKNOWN_ERROR.getStatusMessage(), ex.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+		return converted;
+	}
+
+	private byte[] convert(String key, byte[] bdb, Map<String, String> sourceParams,
+			Map<String, String> targetParams) {
+		Map<String, String> values = new HashMap<>();
+		values.put(key, Util.encodeToURLSafeBase64(bdb));
+		Map<String, String> responseValues = converterService.convert(values, sourceFormat, targetFormat,
+				sourceParams, targetParams);
+		if (responseValues == null || !responseValues.containsKey(key))
+			return null;
+		return Util.decodeURLSafeBase64(responseValues.get(key));
+	}
+
+	private static void putConverted(Map<String, byte[]> converted, String key, byte[] bdb) {
+		if (bdb != null)
+			converted.put(key, bdb);
+	}
+
+	private static ExecutorService newConvertPool(int parallelism) {
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "sdk-convert-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/** The conversion of {@link ConverterServiceImpl}, replaced in tests. */
+	@FunctionalInterface
+	interface ConverterService {
+		Map<String, String> convert(Map<String, String> values, String sourceFormat, String targetFormat,
+				Map<String, String> sourceParams, Map<String, String> targetParams);
+	}
+}
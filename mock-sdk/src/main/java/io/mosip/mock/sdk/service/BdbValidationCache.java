@@ -0,0 +1,242 @@
+package io.mosip.mock.sdk.service;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.constant.PurposeType;
+import io.mosip.mock.sdk.constant.SdkConstant;
+import io.mosip.mock.sdk.exceptions.SDKException;
+
+/**
+ * Cache of the outcomes of BDB validation, used by 1:N match.
+ *
+ * <p>
+ * A 1:N match validates the sample once per gallery record, and already
+ * computes the SHA-256 digests of the BDBs to compare them. The outcome only
+ * depends on the BDB and on how it is validated, so it is kept by that digest
+ * together with its modality, subtype, purpose and the ISO timestamp check.
+ * The other operations validate each BDB once and do not use the cache, since
+ * hashing a BDB costs more than validating its ISO header. Valid BDBs and
+ * BDBs rejected with an {@link SDKException} are both cached; a rejection is thrown again as a new
+ * {@link SDKException} with the same error code and message.
+ *
+ * <p>
+ * The cache is bounded by the estimated size of its entries, set with
+ * {@link SdkConstant#SDK_VALIDATION_CACHE_SIZE}, and evicts the least recently
+ * used entries first. A size of 0 disables it. Each {@link MatchService} owns
+ * its cache, so that SDK instances configured with different sizes do not
+ * share or resize one another's cache.
+ */
+public final class BdbValidationCache {
+	/** Default size of the cache in kilobytes. */
+	public static final long DEFAULT_SIZE_KB = 1024;
+
+	/** Estimated size of an entry, without its strings. */
+	private static final int ENTRY_OVERHEAD = 256;
+
+	private final Map<Key, Outcome> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final long maxSize;
+	private long size;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Constructs an empty cache.
+	 *
+	 * @param maxSizeKb The maximum size in kilobytes; 0 disables the cache.
+	 */
+	public BdbValidationCache(long maxSizeKb) {
+		this.maxSize = Math.max(0, maxSizeKb) * 1024;
+	}
+
+	/**
+	 * Validates a BDB, returning the cached outcome if the same BDB has already
+	 * been validated the same way.
+	 *
+	 * @param digest               The SHA-256 digest of the BDB.
+	 * @param purposeType          The purpose type of the BDB.
+	 * @param bioType              The biometric type of the BDB.
+	 * @param bioSubType           The subtype of the BDB.
+	 * @param checkTimestampFormat Whether the ISO timestamp format is checked.
+	 * @param validation           Validates the BDB when it is not cached.
+	 * @return True if the BDB is valid; false otherwise.
+	 * @throws SDKException If the BDB is invalid.
+	 */
+	public boolean validate(byte[] digest, PurposeType purposeType, BiometricType bioType, String bioSubType,
+			boolean checkTimestampFormat, Supplier<Boolean> validation) {
+		Key key = new Key(ByteBuffer.wrap(digest), purposeType, bioType, bioSubType, checkTimestampFormat);
+		Outcome outcome;
+		synchronized (this) {
+			if (maxSize <= 0)
+				return validation.get();
+			outcome = entries.get(key);
+			if (outcome != null)
+				hits++;
+			else
+				misses++;
+		}
+		if (outcome == null) {
+			try {
+				outcome = new Outcome(validation.get(), null, null);
+			} catch (SDKException ex) {
+				outcome = new Outcome(false, ex.getErrorCode(), ex.getErrorText());
+			}
+			put(key, outcome);
+		}
+		if (outcome.errorCode != null)
+			throw new SDKException(outcome.errorCode, outcome.errorMessage);
+		return outcome.valid;
+	}
+
+	/**
+	 * Removes all the entries and resets the statistics.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Retrieves the statistics of the cache.
+	 *
+	 * @return A snapshot of the statistics.
+	 */
+	public synchronized Stats stats() {
+		return new Stats(hits, misses, evictions, entries.size(), size, maxSize);
+	}
+
+	private synchronized void put(Key key, Outcome outcome) {
+		if (maxSize <= 0)
+			return;
+		Outcome previous = entries.put(key, outcome);
+		size += weight(key, outcome);
+		if (previous != null)
+			size -= weight(key, previous);
+		evict();
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<Key, Outcome>> iterator = entries.entrySet().iterator();
+		while (size > maxSize && iterator.hasNext()) {
+			Map.Entry<Key, Outcome> eldest = iterator.next();
+			size -= weight(eldest.getKey(), eldest.getValue());
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	private static long weight(Key key, Outcome outcome) {
+		return ENTRY_OVERHEAD + 2L * (length(key.bioSubType) + length(outcome.errorCode)
+				+ length(outcome.errorMessage));
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	/**
+	 * Statistics of the cache.
+	 */
+	public static final class Stats {
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+		private final int entries;
+		private final long size;
+		private final long maxSize;
+
+		private Stats(long hits, long misses, long evictions, int entries, long size, long maxSize) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.entries = entries;
+			this.size = size;
+			this.maxSize = maxSize;
+		}
+
+		/** @return The validations answered from the cache. */
+		public long getHits() {
+			return hits;
+		}
+
+		/** @return The validations that decoded the BDB. */
+		public long getMisses() {
+			return misses;
+		}
+
+		/** @return The entries evicted to stay within the maximum size. */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/** @return The number of entries. */
+		public int getEntries() {
+			return entries;
+		}
+
+		/** @return The estimated size of the entries in bytes. */
+		public long getSize() {
+			return size;
+		}
+
+		/** @return The maximum size in bytes. */
+		public long getMaxSize() {
+			return maxSize;
+		}
+	}
+
+	private static final class Key {
+		private final ByteBuffer digest;
+		private final PurposeType purposeType;
+		private final BiometricType bioType;
+		private final String bioSubType;
+		private final boolean checkTimestampFormat;
+
+		Key(ByteBuffer digest, PurposeType purposeType, BiometricType bioType, String bioSubType,
+				boolean checkTimestampFormat) {
+			this.digest = digest;
+			this.purposeType = purposeType;
+			this.bioType = bioType;
+			this.bioSubType = bioSubType;
+			this.checkTimestampFormat = checkTimestampFormat;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return checkTimestampFormat == other.checkTimestampFormat && digest.equals(other.digest)
+					&& purposeType == other.purposeType && bioType == other.bioType
+					&& Objects.equals(bioSubType, other.bioSubType);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(digest, purposeType, bioType, bioSubType, checkTimestampFormat);
+		}
+	}
+
+	private static final class Outcome {
+		private final boolean valid;
+		private final String errorCode;
+		private final String errorMessage;
+
+		Outcome(boolean valid, String errorCode, String errorMessage) {
+			this.valid = valid;
+			this.errorCode = errorCode;
+			this.errorMessage = errorMessage;
+		}
+	}
+}
@@ -8,7 +8,6 @@ import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.env.Environment;
 
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.entities.BIR;
@@ -27,33 +26,29 @@ import io.mosip.mock.sdk.exceptions.SDKException;
 public class CheckQualityService extends SDKService {
 	private Logger logger = LoggerFactory.getLogger(CheckQualityService.class);
 
-	private BiometricRecord sample;
-	private List<BiometricType> modalitiesToCheck;
-
 	/**
 	 * Constructs an instance of CheckQualityService.
 	 *
-	 * @param env               The Spring environment configuration.
-	 * @param sample            The biometric record containing segments to be
-	 *                          checked for quality.
-	 * @param modalitiesToCheck The list of biometric types to evaluate quality for.
-	 * @param flags             Additional flags or parameters for customization.
+	 * @param settings The settings resolved when the SDK was initialized.
 	 */
-	public CheckQualityService(Environment env, BiometricRecord sample, List<BiometricType> modalitiesToCheck,
-			Map<String, String> flags) {
-		super(env, flags);
-		this.sample = sample;
-		this.modalitiesToCheck = modalitiesToCheck;
+	public CheckQualityService(SdkSettings settings) {
+		super(settings);
 	}
 
 	/**
 	 * Retrieves the quality check results as a response containing quality scores
 	 * for each specified biometric type.
 	 *
+	 * @param sample            The biometric record containing segments to be
+	 *                          checked for quality.
+	 * @param modalitiesToCheck The list of biometric types to evaluate quality for.
+	 * @param flags             Additional flags or parameters for customization.
 	 * @return A {@link Response} object containing the status code, status message,
 	 *         and quality check results.
 	 */
-	public Response<QualityCheck> getCheckQualityInfo() {
+	public Response<QualityCheck> getCheckQualityInfo(BiometricRecord sample, List<BiometricType> modalitiesToCheck,
+			Map<String, String> flags) {
+		SdkSettings settings = getSettings(flags);
 		ResponseStatus responseStatus = null;
 		Map<BiometricType, QualityScore> scores = null;
 		Response<QualityCheck> response = new Response<>();
@@ -64,7 +59,7 @@ public class CheckQualityService extends SDKService {
 			}
 
 			for (BIR segment : sample.getSegments()) {
-				if (!isValidBirData(segment))
+				if (!isValidBirData(settings, segment))
 					break;
 			}
 
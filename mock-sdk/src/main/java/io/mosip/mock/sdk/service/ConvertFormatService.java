@@ -1,12 +1,11 @@
 package io.mosip.mock.sdk.service;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.env.Environment;
 
 import io.mosip.kernel.bio.converter.constant.ConverterErrorCode;
 import io.mosip.kernel.bio.converter.exception.ConversionException;
@@ -17,7 +16,6 @@ import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.kernel.biometrics.model.Response;
 import io.mosip.mock.sdk.constant.ResponseStatus;
 import io.mosip.mock.sdk.exceptions.SDKException;
-import io.mosip.mock.sdk.utils.Util;
 
 /**
  * Service class to convert biometric data formats from one specified format to
@@ -27,10 +25,10 @@ import io.mosip.mock.sdk.utils.Util;
  * biometric data conversion errors, logging them using SLF4J.
  * 
  * <p>
- * The conversion process involves encoding biometric segments into URL-safe
- * base64, performing format conversion, and decoding the converted data back
- * into the biometric record. Supports specific biometric types based on the
- * source format and maps conversion errors to appropriate response statuses.
+ * The BDBs of the segments are converted by a {@link BdbConverter} of the
+ * source and target formats, in parallel, and set back into the biometric
+ * record. Supports specific biometric types based on the source format and maps
+ * conversion errors to appropriate response statuses.
  * 
  * @author Janardhan B S
  * @version 1.0.0
@@ -39,22 +37,22 @@ import io.mosip.mock.sdk.utils.Util;
 public class ConvertFormatService extends SDKService {
 	private Logger logger = LoggerFactory.getLogger(ConvertFormatService.class);
 
-	private BiometricRecord sample;
-	@SuppressWarnings("unused")
-	private List<BiometricType> modalitiesToConvert;
-	private String sourceFormat;
-	private String targetFormat;
-	private Map<String, String> sourceParams;
-	private Map<String, String> targetParams;
-
 	private static final String TAG_ERROR_INFO = "convertFormat -- error";
 
 	/**
-	 * Constructs a {@code ConvertFormatService} instance with the provided
-	 * environment, sample biometric record, source and target formats, source and
-	 * target parameters, and a list of biometric types to convert.
+	 * Constructs a {@code ConvertFormatService} instance with the SDK settings.
+	 * 
+	 * @param settings The settings resolved when the SDK was initialized.
+	 */
+	public ConvertFormatService(SdkSettings settings) {
+		super(settings);
+	}
+
+	/**
+	 * Retrieves and converts biometric data segments from the source format to the
+	 * target format. Handles errors using specific {@link ResponseStatus} based on
+	 * SDK and conversion exceptions.
 	 * 
-	 * @param env                 The environment configuration to be used.
 	 * @param sample              The biometric record containing segments to be
 	 *                            converted.
 	 * @param sourceFormat        The source format of the biometric data segments.
@@ -65,36 +63,21 @@ public class ConvertFormatService extends SDKService {
 	 * @param targetParams        Additional parameters specific to the target
 	 *                            format conversion.
 	 * @param modalitiesToConvert The list of biometric types to be converted.
-	 */
-	public ConvertFormatService(Environment env, BiometricRecord sample, String sourceFormat, String targetFormat,
-			Map<String, String> sourceParams, Map<String, String> targetParams,
-			List<BiometricType> modalitiesToConvert) {
-		super(env, null);
-		this.sample = sample;
-		this.sourceParams = sourceParams;
-		this.sourceFormat = sourceFormat;
-		this.targetFormat = targetFormat;
-		this.targetParams = targetParams;
-		this.modalitiesToConvert = modalitiesToConvert;
-	}
-
-	/**
-	 * Retrieves and converts biometric data segments from the source format to the
-	 * target format. Handles errors using specific {@link ResponseStatus} based on
-	 * SDK and conversion exceptions.
-	 * 
 	 * @return A {@link Response} object containing the status code, status message,
 	 *         and the updated {@code BiometricRecord} with converted data segments.
 	 */
-	@SuppressWarnings({ "java:S112", "java:S135", "java:S3776", "java:S6208", "java:S6541" })
-	public Response<BiometricRecord> getConvertFormatInfo() {
+	@SuppressWarnings({ "java:S112", "java:S135", "java:S1172", "java:S3776", "java:S6208", "java:S6541" })
+	public Response<BiometricRecord> getConvertFormatInfo(BiometricRecord sample, String sourceFormat,
+			String targetFormat, Map<String, String> sourceParams, Map<String, String> targetParams,
+			List<BiometricType> modalitiesToConvert) {
+		SdkSettings settings = getSettings();
 		Response<BiometricRecord> response = new Response<>();
 
-		Map<String, String> responseValues = null;
+		Map<String, byte[]> responseValues = null;
 		try {
-			Map<String, String> values = new HashMap<>();
+			Map<String, byte[]> values = new LinkedHashMap<>();
 			for (BIR segment : sample.getSegments()) {
-				if (!isValidBirData(segment))
+				if (!isValidBirData(settings, segment))
 					break;
 
 				BiometricType bioType = segment.getBdbInfo().getType().get(0);
@@ -112,13 +95,11 @@ public class ConvertFormatService extends SDKService {
 				if (!isValidBioTypeForSourceFormat(bioType, sourceFormat))
 					continue;
 
-				if (!values.containsKey(key)) {
-					values.put(key, Util.encodeToURLSafeBase64(segment.getBdb()));
-				}
+				values.putIfAbsent(key, segment.getBdb());
 			}
 
-			responseValues = new ConverterServiceImpl().convert(values, sourceFormat, targetFormat, sourceParams,
-					targetParams);
+			responseValues = new BdbConverter(sourceFormat, targetFormat, settings.getConvertParallelism())
+					.convert(values, sourceParams, targetParams);
 			List<BIR> birList = sample.getSegments();
 			for (int index = 0; index < birList.size(); index++) {
 				BIR segment = birList.get(index);
@@ -138,7 +119,7 @@ public class ConvertFormatService extends SDKService {
 
 				if (responseValues != null && responseValues.containsKey(key)) {
 					segment.getBirInfo().setPayload(segment.getBdb());
-					segment.setBdb(Util.decodeURLSafeBase64(responseValues.get(key)));
+					segment.setBdb(responseValues.get(key));
 				}
 				birList.set(index, segment);
 			}
@@ -7,7 +7,6 @@ import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.env.Environment;
 
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.constant.ProcessedLevelType;
@@ -26,12 +25,9 @@ import io.mosip.mock.sdk.exceptions.SDKException;
 public class ExtractTemplateService extends SDKService {
 	private Logger logger = LoggerFactory.getLogger(ExtractTemplateService.class);
 
-	private SecureRandom random = new SecureRandom();
-	private BiometricRecord sample;
-	@SuppressWarnings("unused")
-	private List<BiometricType> modalitiesToExtract;
+	private final SecureRandom random = new SecureRandom();
 
-	private ProcessedLevelType[] types = new ProcessedLevelType[] { ProcessedLevelType.INTERMEDIATE,
+	private final ProcessedLevelType[] types = new ProcessedLevelType[] { ProcessedLevelType.INTERMEDIATE,
 			ProcessedLevelType.PROCESSED };
 
 	public static final long FORMAT_TYPE_FINGER = 7;
@@ -40,27 +36,26 @@ public class ExtractTemplateService extends SDKService {
 	/**
 	 * Constructs an instance of ExtractTemplateService.
 	 *
-	 * @param env                 The Spring environment configuration.
-	 * @param sample              The biometric record from which templates are to
-	 *                            be extracted.
-	 * @param modalitiesToExtract The list of biometric types to extract templates
-	 *                            for.
-	 * @param flags               Additional flags or parameters for customization.
+	 * @param settings The settings resolved when the SDK was initialized.
 	 */
-	public ExtractTemplateService(Environment env, BiometricRecord sample, List<BiometricType> modalitiesToExtract,
-			Map<String, String> flags) {
-		super(env, flags);
-		this.sample = sample;
-		this.modalitiesToExtract = modalitiesToExtract;
+	public ExtractTemplateService(SdkSettings settings) {
+		super(settings);
 	}
 
 	/**
 	 * Retrieves the extracted biometric templates information as a response.
 	 *
+	 * @param sample              The biometric record from which templates are to
+	 *                            be extracted.
+	 * @param modalitiesToExtract The list of biometric types to extract templates
+	 *                            for.
+	 * @param flags               Additional flags or parameters for customization.
 	 * @return A {@link Response} object containing the status code, status message,
 	 *         and extracted templates.
 	 */
-	public Response<BiometricRecord> getExtractTemplateInfo() {
+	@SuppressWarnings({ "java:S1172" })
+	public Response<BiometricRecord> getExtractTemplateInfo(BiometricRecord sample,
+			List<BiometricType> modalitiesToExtract, Map<String, String> flags) {
 		ResponseStatus responseStatus = null;
 		Response<BiometricRecord> response = new Response<>();
 		try {
@@ -69,7 +64,7 @@ public class ExtractTemplateService extends SDKService {
 				throw new SDKException(responseStatus.getStatusCode() + "", responseStatus.getStatusMessage());
 			}
 
-			doExtractTemplateInfo(sample);
+			doExtractTemplateInfo(getSettings(flags), sample);
 		} catch (SDKException ex) {
 			logger.error("extractTemplate -- error", ex);
 			switch (ResponseStatus.fromStatusCode(Integer.parseInt(ex.getErrorCode()))) {
@@ -127,12 +122,13 @@ public class ExtractTemplateService extends SDKService {
 	 * Performs the extraction of biometric templates from the provided biometric
 	 * record.
 	 *
+	 * @param settings  The settings of the request.
 	 * @param bioRecord The biometric record containing segments from which
 	 *                  templates are to be extracted.
 	 */
-	private void doExtractTemplateInfo(BiometricRecord bioRecord) {
+	private void doExtractTemplateInfo(SdkSettings settings, BiometricRecord bioRecord) {
 		for (BIR segment : bioRecord.getSegments()) {
-			if (!isValidBirData(segment))
+			if (!isValidBirData(settings, segment))
 				break;
 
 			/**
@@ -1,15 +1,20 @@
 package io.mosip.mock.sdk.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.env.Environment;
 import org.springframework.util.CollectionUtils;
 
 import io.mosip.kernel.biometrics.constant.BiometricType;
@@ -20,6 +25,7 @@ import io.mosip.kernel.biometrics.model.Decision;
 import io.mosip.kernel.biometrics.model.MatchDecision;
 import io.mosip.kernel.biometrics.model.Response;
 import io.mosip.mock.sdk.constant.ResponseStatus;
+import io.mosip.mock.sdk.constant.SdkConstant;
 import io.mosip.mock.sdk.exceptions.SDKException;
 import io.mosip.mock.sdk.utils.Util;
 
@@ -33,36 +39,42 @@ import io.mosip.mock.sdk.utils.Util;
  * record.
  * 
  * <p>
- * Uses environment configuration and flags for operational settings.
+ * Each BDB is hashed once per match and the gallery records are compared on a
+ * fork-join pool whose parallelism is set with
+ * {@link SdkConstant#SDK_MATCH_PARALLELISM}. The sample is validated once per
+ * gallery record, which after the first one hits its {@link BdbValidationCache}.
+ * 
+ * <p>
+ * Uses the {@link SdkSettings} of the SDK, with the flags of each request
+ * applied, and holds no state of the requests so that it can be shared by
+ * concurrent callers.
  */
 public class MatchService extends SDKService {
 	private Logger logger = LoggerFactory.getLogger(MatchService.class);
 
-	private BiometricRecord sample;
-	private BiometricRecord[] gallery;
-	private List<BiometricType> modalitiesToMatch;
+	/** Fork-join pools matching galleries, one per configured parallelism. */
+	private static final Map<Integer, ForkJoinPool> MATCH_POOLS = new ConcurrentHashMap<>();
+
+	/** The cache of the validations of the samples, sized with the settings. */
+	private final BdbValidationCache validationCache;
 
 	/**
-	 * Constructs a MatchService instance with environment settings, sample
-	 * biometric record, gallery of biometric records, modalities to match, and
-	 * optional flags.
+	 * Constructs a MatchService instance with the SDK settings.
 	 *
-	 * @param env               The environment configuration.
-	 * @param sample            The sample biometric record to compare against the
-	 *                          gallery.
-	 * @param gallery           The gallery of biometric records to compare against
-	 *                          the sample.
-	 * @param modalitiesToMatch The list of biometric modalities to perform
-	 *                          matching.
-	 * @param flags             Optional flags for customization of matching
-	 *                          behavior.
+	 * @param settings The settings resolved when the SDK was initialized.
 	 */
-	public MatchService(Environment env, BiometricRecord sample, BiometricRecord[] gallery,
-			List<BiometricType> modalitiesToMatch, Map<String, String> flags) {
-		super(env, flags);
-		this.sample = sample;
-		this.gallery = gallery;
-		this.modalitiesToMatch = modalitiesToMatch;
+	public MatchService(SdkSettings settings) {
+		super(settings);
+		this.validationCache = new BdbValidationCache(settings.getValidationCacheSize());
+	}
+
+	/**
+	 * Retrieves the cache of the validations of the samples.
+	 *
+	 * @return The cache of this service.
+	 */
+	public BdbValidationCache getValidationCache() {
+		return validationCache;
 	}
 
 	/**
@@ -70,14 +82,23 @@ public class MatchService extends SDKService {
 	 * gallery of biometric records. Returns match decisions for each record in the
 	 * gallery based on the comparison.
 	 *
+	 * @param sample            The sample biometric record to compare against the
+	 *                          gallery.
+	 * @param gallery           The gallery of biometric records to compare against
+	 *                          the sample.
+	 * @param modalitiesToMatch The list of biometric modalities to perform
+	 *                          matching.
+	 * @param flags             Optional flags for customization of matching
+	 *                          behavior.
 	 * @return Response containing an array of MatchDecision objects, each
 	 *         representing the match decision for a biometric record in the
 	 *         gallery.
 	 */
-	public Response<MatchDecision[]> getMatchDecisionInfo() {
+	public Response<MatchDecision[]> getMatchDecisionInfo(BiometricRecord sample, BiometricRecord[] gallery,
+			List<BiometricType> modalitiesToMatch, Map<String, String> flags) {
 		Response<MatchDecision[]> response = new Response<>();
 		try {
-			return doMatch(sample, gallery, modalitiesToMatch, getFlags());
+			return doMatch(sample, gallery, modalitiesToMatch, getSettings(flags));
 		} catch (SDKException ex) {
 			logger.error("match -- error", ex);
 			switch (ResponseStatus.fromStatusCode(Integer.parseInt(ex.getErrorCode()))) {
@@ -134,44 +155,34 @@ public class MatchService extends SDKService {
 	 * @param gallery           The gallery of biometric records.
 	 * @param modalitiesToMatch The list of biometric modalities to perform
 	 *                          matching.
-	 * @param flags             Optional flags for customization of matching
-	 *                          behavior.
+	 * @param settings          The settings of the request.
 	 * @return Response containing an array of MatchDecision objects, each
 	 *         representing the match decision for a biometric record in the
 	 *         gallery.
 	 * @throws SDKException If there is an issue with SDK operations, such as
 	 *                      missing or invalid input.
 	 */
-	@SuppressWarnings({ "java:S112", "java:S1172" })
+	@SuppressWarnings({ "java:S112" })
 	private Response<MatchDecision[]> doMatch(BiometricRecord sample, BiometricRecord[] gallery,
-			List<BiometricType> modalitiesToMatch, Map<String, String> flags) {
-		int index = 0;
+			List<BiometricType> modalitiesToMatch, SdkSettings settings) {
 		MatchDecision[] matchDecision = new MatchDecision[gallery.length];
 		Response<MatchDecision[]> response = new Response<>();
 
-		// Group Segments by modality
+		// Group Segments by modality and hash the sample once for the whole gallery
 		Map<BiometricType, List<BIR>> sampleBioSegmentMap = getBioSegmentMap(sample, modalitiesToMatch);
-		for (BiometricRecord bioRecord : gallery) {
-			Map<BiometricType, List<BIR>> recordBioSegmentMap = getBioSegmentMap(bioRecord, modalitiesToMatch);
-			matchDecision[index] = new MatchDecision(index);
-			Map<BiometricType, Decision> decisions = new EnumMap<>(BiometricType.class);
-			Decision decision = new Decision();
-			logger.info("Comparing sample with gallery index {} ----------------------------------", index);
-			for (Map.Entry<BiometricType, List<BIR>> entry : sampleBioSegmentMap.entrySet()) {
-				BiometricType modality = entry.getKey();
-				try {
-					decision = compareModality(modality, sampleBioSegmentMap.get(modality),
-							recordBioSegmentMap.get(modality));
-				} catch (NullPointerException ex) {
-					logger.error("doMatch", ex);
-					decision.setMatch(Match.ERROR);
-					decision.getErrors().add("Modality " + modality.name() + " threw an exception:" + ex.getMessage());
-				} finally {
-					decisions.put(modality, decision);
-				}
-			}
-			matchDecision[index].setDecisions(decisions);
-			index++;
+		BdbDigests sampleDigests = new BdbDigests(null);
+		sampleBioSegmentMap.values().forEach(sampleDigests::preload);
+
+		int parallelism = settings.getMatchParallelism();
+		if (parallelism <= 1 || gallery.length <= 1) {
+			for (int index = 0; index < gallery.length; index++)
+				matchDecision[index] = matchRecord(settings, index, gallery[index], sampleBioSegmentMap,
+						sampleDigests, modalitiesToMatch);
+		} else {
+			runInMatchPool(parallelism,
+					() -> IntStream.range(0, gallery.length).parallel()
+							.forEach(index -> matchDecision[index] = matchRecord(settings, index, gallery[index],
+									sampleBioSegmentMap, sampleDigests, modalitiesToMatch)));
 		}
 
 		response.setStatusCode(ResponseStatus.SUCCESS.getStatusCode());
@@ -179,25 +190,89 @@ public class MatchService extends SDKService {
 		return response;
 	}
 
+	/**
+	 * Compares the sample with one biometric record of the gallery.
+	 *
+	 * @param settings            The settings of the request.
+	 * @param index               The index of the record in the gallery.
+	 * @param bioRecord           The gallery biometric record.
+	 * @param sampleBioSegmentMap The sample segments grouped by modality.
+	 * @param sampleDigests       The digests of the sample segments.
+	 * @param modalitiesToMatch   The list of biometric modalities to perform
+	 *                            matching.
+	 * @return The match decision of the record.
+	 */
+	private MatchDecision matchRecord(SdkSettings settings, int index, BiometricRecord bioRecord,
+			Map<BiometricType, List<BIR>> sampleBioSegmentMap, BdbDigests sampleDigests,
+			List<BiometricType> modalitiesToMatch) {
+		Map<BiometricType, List<BIR>> recordBioSegmentMap = getBioSegmentMap(bioRecord, modalitiesToMatch);
+		BdbDigests digests = new BdbDigests(sampleDigests);
+		MatchDecision matchDecision = new MatchDecision(index);
+		Map<BiometricType, Decision> decisions = new EnumMap<>(BiometricType.class);
+		Decision decision = new Decision();
+		logger.info("Comparing sample with gallery index {} ----------------------------------", index);
+		for (Map.Entry<BiometricType, List<BIR>> entry : sampleBioSegmentMap.entrySet()) {
+			BiometricType modality = entry.getKey();
+			try {
+				decision = compareModality(settings, modality, sampleBioSegmentMap.get(modality),
+						recordBioSegmentMap.get(modality), digests);
+			} catch (NullPointerException ex) {
+				logger.error("doMatch", ex);
+				decision.setMatch(Match.ERROR);
+				decision.getErrors().add("Modality " + modality.name() + " threw an exception:" + ex.getMessage());
+			} finally {
+				decisions.put(modality, decision);
+			}
+		}
+		matchDecision.setDecisions(decisions);
+		return matchDecision;
+	}
+
+	/**
+	 * Runs a match task on the shared fork-join pool of the given parallelism and
+	 * waits for it, rethrowing its runtime exceptions as they are.
+	 *
+	 * @param parallelism The number of threads of the pool.
+	 * @param task        The task to run.
+	 */
+	private static void runInMatchPool(int parallelism, Runnable task) {
+		ForkJoinPool pool = MATCH_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+		try {
+			pool.submit(task).get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new SDKException(ResponseStatus.UNKNOWN_ERROR.getStatusCode() + "",
+					ResponseStatus.UNKNOWN_ERROR.getStatusMessage(), ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			throw new SDKException(ResponseStatus.UNKNOWN_ERROR.getStatusCode() + "",
+					ResponseStatus.UNKNOWN_ERROR.getStatusMessage(), ex.getCause());
+		}
+	}
+
 	/**
 	 * Compares a specific biometric modality between sample and gallery segments.
 	 *
+	 * @param settings        The settings of the request.
 	 * @param modality        The biometric modality to compare.
 	 * @param sampleSegments  The list of sample biometric segments.
 	 * @param gallerySegments The list of gallery biometric segments.
+	 * @param digests         The BDB digests of the sample and the gallery record.
 	 * @return Decision object containing the match decision and analytics
 	 *         information for the modality.
 	 */
-	private Decision compareModality(BiometricType modality, List<BIR> sampleSegments, List<BIR> gallerySegments) {
+	private Decision compareModality(SdkSettings settings, BiometricType modality, List<BIR> sampleSegments,
+			List<BIR> gallerySegments, BdbDigests digests) {
 		Decision decision = new Decision();
 		decision.setMatch(Match.ERROR);
 		switch (modality) {
 		case FACE:
-			return compareFaces(sampleSegments, gallerySegments);
+			return compareFaces(settings, sampleSegments, gallerySegments, digests);
 		case FINGER:
-			return compareFingerprints(sampleSegments, gallerySegments);
+			return compareFingerprints(settings, sampleSegments, gallerySegments, digests);
 		case IRIS:
-			return compareIrises(sampleSegments, gallerySegments);
+			return compareIrises(settings, sampleSegments, gallerySegments, digests);
 		default:
 			// unsupported modality
 			decision.setAnalyticsInfo(new HashMap<>());
@@ -209,18 +284,21 @@ public class MatchService extends SDKService {
 	/**
 	 * Compares fingerprint biometric segments between sample and gallery.
 	 *
+	 * @param settings        The settings of the request.
 	 * @param sampleSegments  The list of sample fingerprint biometric segments.
 	 * @param gallerySegments The list of gallery fingerprint biometric segments.
+	 * @param digests         The BDB digests of the sample and the gallery record.
 	 * @return Decision object containing the match decision and analytics
 	 *         information for fingerprints.
 	 */
 	@SuppressWarnings({ "java:S112", "java:S135", "java:S2629", "java:S3776" })
-	private Decision compareFingerprints(List<BIR> sampleSegments, List<BIR> gallerySegments) {
+	private Decision compareFingerprints(SdkSettings settings, List<BIR> sampleSegments,
+			List<BIR> gallerySegments, BdbDigests digests) {
 		List<Boolean> matched = new ArrayList<>();
 		Decision decision = vaildateSegments(sampleSegments, gallerySegments, BiometricType.FINGER.value());
 
 		for (BIR sampleBIR : sampleSegments) {
-			if (!isValidBirData(sampleBIR))
+			if (!isValidBirData(settings, sampleBIR, validationCache, () -> digests.get(sampleBIR)))
 				break;
 
 			boolean bioFound = false;
@@ -235,7 +313,7 @@ public class MatchService extends SDKService {
 					// need to check isValidBIRParams and isValidBDBData too
 					if (galleryBIR.getBdbInfo().getSubtype().get(0)
 							.equals(sampleBIR.getBdbInfo().getSubtype().get(0))) {
-						if (Util.compareHash(galleryBIR.getBdb(), sampleBIR.getBdb())) {
+						if (digests.sameBdb(galleryBIR, sampleBIR)) {
 							logger.info("Finger Modality: {}; Subtype: {}  -- matched", BiometricType.FINGER.value(),
 									galleryBIR.getBdbInfo().getSubtype());
 							matched.add(true);
@@ -251,7 +329,7 @@ public class MatchService extends SDKService {
 			} else {
 				for (BIR galleryBIR : gallerySegments) {
 					// need to check isValidBIRParams and isValidBDBData too
-					if (Util.compareHash(galleryBIR.getBdb(), sampleBIR.getBdb())) {
+					if (digests.sameBdb(galleryBIR, sampleBIR)) {
 						logger.info("Finger Modality: {}; Subtype: {}  -- matched", BiometricType.FINGER.value(),
 								galleryBIR.getBdbInfo().getSubtype());
 						matched.add(true);
@@ -287,18 +365,21 @@ public class MatchService extends SDKService {
 	/**
 	 * Compares iris biometric segments between sample and gallery.
 	 *
+	 * @param settings        The settings of the request.
 	 * @param sampleSegments  The list of sample iris biometric segments.
 	 * @param gallerySegments The list of gallery iris biometric segments.
+	 * @param digests         The BDB digests of the sample and the gallery record.
 	 * @return Decision object containing the match decision and analytics
 	 *         information for irises.
 	 */
 	@SuppressWarnings({ "java:S112", "java:S135", "java:S2629", "java:S3776" })
-	private Decision compareIrises(List<BIR> sampleSegments, List<BIR> gallerySegments) {
+	private Decision compareIrises(SdkSettings settings, List<BIR> sampleSegments,
+			List<BIR> gallerySegments, BdbDigests digests) {
 		List<Boolean> matched = new ArrayList<>();
 		Decision decision = vaildateSegments(sampleSegments, gallerySegments, BiometricType.IRIS.value());
 
 		for (BIR sampleBIR : sampleSegments) {
-			if (!isValidBirData(sampleBIR))
+			if (!isValidBirData(settings, sampleBIR, validationCache, () -> digests.get(sampleBIR)))
 				break;
 
 			boolean bioFound = false;
@@ -313,7 +394,7 @@ public class MatchService extends SDKService {
 					// need to check isValidBIRParams and isValidBDBData too
 					if (galleryBIR.getBdbInfo().getSubtype().get(0)
 							.equals(sampleBIR.getBdbInfo().getSubtype().get(0))) {
-						if (Util.compareHash(galleryBIR.getBdb(), sampleBIR.getBdb())) {
+						if (digests.sameBdb(galleryBIR, sampleBIR)) {
 							logger.info("Iris Modality: {}; Subtype: {} -- matched", BiometricType.IRIS.value(),
 									galleryBIR.getBdbInfo().getSubtype().get(0));
 							matched.add(true);
@@ -329,7 +410,7 @@ public class MatchService extends SDKService {
 			} else {
 				for (BIR galleryBIR : gallerySegments) {
 					// need to check isValidBIRParams and isValidBDBData too
-					if (Util.compareHash(galleryBIR.getBdb(), sampleBIR.getBdb())) {
+					if (digests.sameBdb(galleryBIR, sampleBIR)) {
 						logger.info("Modality: {}; Subtype: {} -- matched", BiometricType.IRIS.value(),
 								galleryBIR.getBdbInfo().getSubtype());
 						matched.add(true);
@@ -366,18 +447,21 @@ public class MatchService extends SDKService {
 	/**
 	 * Compares face biometric segments between sample and gallery.
 	 *
+	 * @param settings        The settings of the request.
 	 * @param sampleSegments  The list of sample face biometric segments.
 	 * @param gallerySegments The list of gallery face biometric segments.
+	 * @param digests         The BDB digests of the sample and the gallery record.
 	 * @return Decision object containing the match decision and analytics
 	 *         information for faces.
 	 */
 	@SuppressWarnings({ "java:S112", "java:S135", "java:S3776" })
-	private Decision compareFaces(List<BIR> sampleSegments, List<BIR> gallerySegments) {
+	private Decision compareFaces(SdkSettings settings, List<BIR> sampleSegments,
+			List<BIR> gallerySegments, BdbDigests digests) {
 		List<Boolean> matched = new ArrayList<>();
 		Decision decision = vaildateSegments(sampleSegments, gallerySegments, BiometricType.FACE.value());
 
 		for (BIR sampleBIR : sampleSegments) {
-			if (!isValidBirData(sampleBIR))
+			if (!isValidBirData(settings, sampleBIR, validationCache, () -> digests.get(sampleBIR)))
 				break;
 
 			boolean bioFound = false;
@@ -387,7 +471,7 @@ public class MatchService extends SDKService {
 				for (BIR galleryBIR : gallerySegments) {
 					if (!CollectionUtils.isEmpty(galleryBIR.getBdbInfo().getType())
 							&& galleryBIR.getBdbInfo().getType().get(0).equals(BiometricType.FACE)) {
-						if (Util.compareHash(galleryBIR.getBdb(), sampleBIR.getBdb())) {
+						if (digests.sameBdb(galleryBIR, sampleBIR)) {
 							logger.info("Face Modality: {}; Subtype: {} -- matched", BiometricType.FACE.value(),
 									galleryBIR.getBdbInfo().getSubtype());
 							matched.add(true);
@@ -506,4 +590,41 @@ public class MatchService extends SDKService {
 			decision.setMatch(Match.ERROR);
 		}
 	}
+
+	/**
+	 * SHA-256 digests of BDBs keyed by BIR identity, so that each BDB is hashed
+	 * once per match instead of once per comparison. The digests of the sample are
+	 * computed up front and shared read-only by the gallery records; those of a
+	 * gallery record are computed on first use by the thread matching it.
+	 */
+	private static final class BdbDigests {
+		private final BdbDigests shared;
+		private final Map<BIR, byte[]> digests = new IdentityHashMap<>();
+
+		private BdbDigests(BdbDigests shared) {
+			this.shared = shared;
+		}
+
+		/**
+		 * Hashes the segments that have a BDB. Segments without one are left to
+		 * {@link #get(BIR)}, which fails on them as {@link Util#compareHash} does.
+		 */
+		private void preload(List<BIR> segments) {
+			for (BIR segment : segments) {
+				if (segment.getBdb() != null)
+					digests.put(segment, Util.computeDigest(segment.getBdb()));
+			}
+		}
+
+		private byte[] get(BIR bir) {
+			byte[] digest = shared == null ? null : shared.digests.get(bir);
+			if (digest == null)
+				digest = digests.computeIfAbsent(bir, b -> Util.computeDigest(b.getBdb()));
+			return digest;
+		}
+
+		private boolean sameBdb(BIR galleryBIR, BIR sampleBIR) {
+			return Arrays.equals(get(galleryBIR), get(sampleBIR));
+		}
+	}
 }
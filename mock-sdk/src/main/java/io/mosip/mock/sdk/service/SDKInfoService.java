@@ -5,8 +5,6 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.core.env.Environment;
-
 import io.mosip.kernel.biometrics.constant.BiometricFunction;
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.model.SDKInfo;
@@ -16,23 +14,24 @@ import io.mosip.kernel.biometrics.model.SDKInfo;
  * supported modalities, and supported biometric methods.
  */
 public class SDKInfoService extends SDKService {
-	private String apiVersion;
-	private String sample1;
-	private String sample2;
-	private String sample3;
+	private final String apiVersion;
+	private final String sample1;
+	private final String sample2;
+	private final String sample3;
 
 	/**
 	 * Constructs an instance of {@code SDKInfoService} with the specified
-	 * environment, API version, and sample information.
+	 * settings, API version, and sample information.
 	 *
-	 * @param env        The environment configuration
+	 * @param settings   The settings resolved when the SDK was initialized
 	 * @param apiVersion The version of the SDK API
 	 * @param sample1    Sample information 1
 	 * @param sample2    Sample information 2
 	 * @param sample3    Sample information 3
 	 */
-	public SDKInfoService(Environment env, String apiVersion, String sample1, String sample2, String sample3) {
-		super(env, null);
+	public SDKInfoService(SdkSettings settings, String apiVersion, String sample1, String sample2,
+			String sample3) {
+		super(settings);
 		this.apiVersion = apiVersion;
 		this.sample1 = sample1;
 		this.sample2 = sample2;
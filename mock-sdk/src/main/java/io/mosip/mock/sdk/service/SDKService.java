@@ -6,10 +6,10 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.env.Environment;
 
 import io.mosip.biometrics.util.ConvertRequestDto;
 import io.mosip.biometrics.util.face.FaceBDIR;
@@ -38,7 +38,6 @@ import io.mosip.kernel.biometrics.constant.PurposeType;
 import io.mosip.kernel.biometrics.entities.BIR;
 import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.mock.sdk.constant.ResponseStatus;
-import io.mosip.mock.sdk.constant.SdkConstant;
 import io.mosip.mock.sdk.exceptions.SDKException;
 import io.mosip.mock.sdk.utils.Util;
 
@@ -47,57 +46,39 @@ import io.mosip.mock.sdk.utils.Util;
  */
 public abstract class SDKService {
 	private Logger logger = LoggerFactory.getLogger(SDKService.class);
-	private Map<String, String> flags;
-	private Environment env;
+	private final SdkSettings settings;
 
 	private static final String TAG_ERROR_BASE64URLENCODED = " Source not valid base64urlencoded";
 
 	/**
-	 * Constructs an instance of {@code SDKService} with the specified environment
-	 * and flags.
-	 *
-	 * @param env   The environment configuration
-	 * @param flags The flags associated with the service
-	 */
-	protected SDKService(Environment env, Map<String, String> flags) {
-		setEnv(env);
-		setFlags(flags);
-	}
-
-	/**
-	 * Retrieves the flags associated with the service.
-	 *
-	 * @return The flags map
-	 */
-	protected Map<String, String> getFlags() {
-		return flags;
-	}
-
-	/**
-	 * Sets the flags associated with the service.
+	 * Constructs an instance of {@code SDKService} with the specified settings.
+	 * <p>
+	 * Services hold no state of the requests they process, so that one instance
+	 * can be shared by concurrent callers.
 	 *
-	 * @param flags The flags to be set
+	 * @param settings The settings resolved when the SDK was initialized
 	 */
-	protected void setFlags(Map<String, String> flags) {
-		this.flags = flags;
+	protected SDKService(SdkSettings settings) {
+		this.settings = settings;
 	}
 
 	/**
-	 * Retrieves the environment configuration associated with the service.
+	 * Retrieves the settings the service was created with.
 	 *
-	 * @return The environment configuration
+	 * @return The settings
 	 */
-	protected Environment getEnv() {
-		return env;
+	protected SdkSettings getSettings() {
+		return settings;
 	}
 
 	/**
-	 * Sets the environment configuration associated with the service.
+	 * Retrieves the settings of a request, with its flags applied.
 	 *
-	 * @param env The environment configuration to be set
+	 * @param flags The flags of the request, may be null
+	 * @return The settings of the request
 	 */
-	protected void setEnv(Environment env) {
-		this.env = env;
+	protected SdkSettings getSettings(Map<String, String> flags) {
+		return settings.withFlags(flags);
 	}
 
 	/**
@@ -143,10 +124,32 @@ public abstract class SDKService {
 	/**
 	 * Validates the data within a Biometric Information Record (BIR).
 	 *
-	 * @param bir The Biometric Information Record to validate
+	 * @param settings The settings of the request
+	 * @param bir      The Biometric Information Record to validate
 	 * @return True if the BIR data is valid; false otherwise
 	 */
-	protected boolean isValidBirData(BIR bir) {
+	protected boolean isValidBirData(SdkSettings settings, BIR bir) {
+		return isValidBirData(settings, bir, null, null);
+	}
+
+	/**
+	 * Validates the data within a Biometric Information Record (BIR) through a
+	 * {@link BdbValidationCache}, with the digest of its BDB supplied by a caller
+	 * that has already computed it. Only these validations are cached: hashing a BDB
+	 * costs more than validating its ISO header once, so the cache only pays off
+	 * where the digest is needed anyway and the same BDB is validated repeatedly,
+	 * as the sample of a 1:N match.
+	 *
+	 * @param settings  The settings of the request
+	 * @param bir       The Biometric Information Record to validate
+	 * @param cache     The cache of validation outcomes, or null to validate
+	 *                  without a cache
+	 * @param bdbDigest Supplies the SHA-256 digest of the BDB, or null to validate
+	 *                  without the cache
+	 * @return True if the BIR data is valid; false otherwise
+	 */
+	protected boolean isValidBirData(SdkSettings settings, BIR bir, BdbValidationCache cache,
+			Supplier<byte[]> bdbDigest) {
 		BiometricType biometricType = bir.getBdbInfo().getType().get(0);
 		PurposeType purposeType = bir.getBdbInfo().getPurpose();
 		List<String> bioSubTypeList = bir.getBdbInfo().getSubtype();
@@ -160,7 +163,8 @@ public abstract class SDKService {
 
 		if (!isValidBIRParams(bir, biometricType, bioSubType))
 			return false;
-		else if (!isValidBDBData(purposeType, biometricType, bioSubType, bir.getBdb()))
+		else if (!isValidBDBData(settings, purposeType, biometricType, bioSubType, bir.getBdb(), cache,
+				bdbDigest))
 			return false;
 		else
 			return true;
@@ -214,6 +218,7 @@ public abstract class SDKService {
 	 * Validates the Biometric Data Block (BDB) data associated with a biometric
 	 * type and subtype.
 	 *
+	 * @param settings    The settings of the request
 	 * @param purposeType The purpose type of the biometric data
 	 * @param bioType     The biometric type of the data
 	 * @param bioSubType  The subtype of the biometric data
@@ -222,11 +227,36 @@ public abstract class SDKService {
 	 * @throws SDKException If the BDB data is invalid or not found, throws an
 	 *                      SDKException with the appropriate error message
 	 */
-	protected boolean isValidBDBData(PurposeType purposeType, BiometricType bioType, String bioSubType,
-			byte[] bdbData) {
+	protected boolean isValidBDBData(SdkSettings settings, PurposeType purposeType, BiometricType bioType,
+			String bioSubType, byte[] bdbData) {
+		return isValidBDBData(settings, purposeType, bioType, bioSubType, bdbData, null, null);
+	}
+
+	/**
+	 * Validates BDB data, reusing the outcome of a previous validation of the same
+	 * data from a {@link BdbValidationCache} when its digest is supplied.
+	 *
+	 * @param settings    The settings of the request
+	 * @param purposeType The purpose type of the biometric data
+	 * @param bioType     The biometric type of the data
+	 * @param bioSubType  The subtype of the biometric data
+	 * @param bdbData     The binary data block to validate
+	 * @param cache       The cache of validation outcomes, or null to validate
+	 *                    without a cache
+	 * @param digest      Supplies the digest of the data block, or null to
+	 *                    validate without the cache
+	 * @return True if the BDB data is valid; false otherwise
+	 * @throws SDKException If the BDB data is invalid or not found
+	 */
+	private boolean isValidBDBData(SdkSettings settings, PurposeType purposeType, BiometricType bioType,
+			String bioSubType, byte[] bdbData, BdbValidationCache cache, Supplier<byte[]> digest) {
 		ResponseStatus responseStatus = null;
 		if (bdbData != null && bdbData.length != 0) {
-			return isValidBiometericData(purposeType, bioType, bioSubType, Util.encodeToURLSafeBase64(bdbData));
+			if (cache == null || digest == null)
+				return isValidBiometericData(settings, purposeType, bioType, bioSubType, bdbData);
+			return cache.validate(digest.get(), purposeType, bioType, bioSubType,
+					settings.isCheckISOTimestampFormat(),
+					() -> isValidBiometericData(settings, purposeType, bioType, bioSubType, bdbData));
 		}
 
 		responseStatus = ResponseStatus.BIOMETRIC_NOT_FOUND_IN_CBEFF;
@@ -237,6 +267,7 @@ public abstract class SDKService {
 	 * Validates biometric data encoded as a Base64 string for a specific biometric
 	 * type and subtype.
 	 *
+	 * @param settings    The settings of the request
 	 * @param purposeType The purpose type of the biometric data
 	 * @param bioType     The biometric type of the data
 	 * @param bioSubType  The subtype of the biometric data
@@ -245,16 +276,34 @@ public abstract class SDKService {
 	 * @throws SDKException If the biometric data is invalid or unsupported, throws
 	 *                      an SDKException with the appropriate error message
 	 */
-	protected boolean isValidBiometericData(PurposeType purposeType, BiometricType bioType, String bioSubType,
-			String bdbData) {
+	protected boolean isValidBiometericData(SdkSettings settings, PurposeType purposeType, BiometricType bioType,
+			String bioSubType, String bdbData) {
+		return isValidBiometericData(settings, purposeType, bioType, bioSubType, getBioData(bdbData));
+	}
+
+	/**
+	 * Validates the raw biometric data block for a specific biometric type and
+	 * subtype, without encoding it.
+	 *
+	 * @param settings    The settings of the request
+	 * @param purposeType The purpose type of the biometric data
+	 * @param bioType     The biometric type of the data
+	 * @param bioSubType  The subtype of the biometric data
+	 * @param bioData     The biometric data block to validate
+	 * @return True if the biometric data is valid; false otherwise
+	 * @throws SDKException If the biometric data is invalid or unsupported, throws
+	 *                      an SDKException with the appropriate error message
+	 */
+	protected boolean isValidBiometericData(SdkSettings settings, PurposeType purposeType, BiometricType bioType,
+			String bioSubType, byte[] bioData) {
 		ResponseStatus responseStatus = null;
 		switch (bioType) {
 		case FACE:
-			return isValidFaceBdb(purposeType, bioSubType, bdbData);
+			return isValidFaceBdb(settings, purposeType, bioSubType, bioData);
 		case FINGER:
-			return isValidFingerBdb(purposeType, bioSubType, bdbData);
+			return isValidFingerBdb(settings, purposeType, bioSubType, bioData);
 		case IRIS:
-			return isValidIrisBdb(purposeType, bioSubType, bdbData);
+			return isValidIrisBdb(settings, purposeType, bioSubType, bioData);
 		default:
 			break;
 		}
@@ -262,20 +311,41 @@ public abstract class SDKService {
 		throw new SDKException(responseStatus.getStatusCode() + "", responseStatus.getStatusMessage());
 	}
 
+	/**
+	 * Validates the Base64 encoded Biometric Data Block (BDB) for Finger modality by
+	 * decoding it and validating the raw bytes.
+	 *
+	 * @param settings         The settings of the request
+	 * @param purposeType      The purpose type associated with the biometric data
+	 * @param biometricSubType The subtype of the finger biometric data
+	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @return True if the Finger BDB data is valid according to standards; false
+	 *         otherwise
+	 * @throws SDKException If the BDB data fails validation against ISO standards
+	 *                      or other errors occur during validation
+	 * @see #isValidFingerBdb(SdkSettings, PurposeType, String, byte[])
+	 */
+	protected boolean isValidFingerBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			String bdbData) {
+		return isValidFingerBdb(settings, purposeType, biometricSubType, getBioData(bdbData));
+	}
+
 	/**
 	 * Validates the Biometric Data Block (BDB) for Finger modality based on ISO
 	 * 19794-4:2011 standards.
 	 *
+	 * @param settings         The settings of the request
 	 * @param purposeType      The purpose type associated with the biometric data
 	 * @param biometricSubType The subtype of the finger biometric data
-	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @param bioData          Biometric data block to validate
 	 * @return True if the Finger BDB data is valid according to standards; false
 	 *         otherwise
 	 * @throws SDKException If the BDB data fails validation against ISO standards
 	 *                      or other errors occur during validation
 	 */
 	@SuppressWarnings({ "java:S1172", "java:S2139", "java:S3776", "java:S6541", "removal" })
-	protected boolean isValidFingerBdb(PurposeType purposeType, String biometricSubType, String bdbData) {
+	protected boolean isValidFingerBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			byte[] bioData) {
 		ResponseStatus responseStatus = null;
 		try {
 			StringBuilder message = new StringBuilder(
@@ -285,7 +355,6 @@ public abstract class SDKService {
 			ConvertRequestDto requestDto = new ConvertRequestDto();
 			requestDto.setModality("Finger");
 			requestDto.setVersion("ISO19794_4_2011");
-			byte[] bioData = getBioData(bdbData);
 			if (Objects.isNull(bioData) || bioData.length == 0) {
 				responseStatus = ResponseStatus.INVALID_INPUT;
 				throw new SDKException(responseStatus.getStatusCode() + "",
@@ -346,7 +415,7 @@ public abstract class SDKService {
 				isValid = false;
 			}
 
-			if (isCheckISOTimestampFormat()
+			if (settings.isCheckISOTimestampFormat()
 					&& (!FingerISOStandardsValidator.getInstance().isValidCaptureDateTime(bdir.getCaptureYear(),
 							bdir.getCaptureMonth(), bdir.getCaptureDay(), bdir.getCaptureHour(),
 							bdir.getCaptureMinute(), bdir.getCaptureSecond(), bdir.getCaptureMilliSecond()))) {
@@ -605,20 +674,41 @@ public abstract class SDKService {
 		}
 	}
 
+	/**
+	 * Validates the Base64 encoded Biometric Data Block (BDB) for Iris modality by
+	 * decoding it and validating the raw bytes.
+	 *
+	 * @param settings         The settings of the request
+	 * @param purposeType      The purpose type associated with the biometric data
+	 * @param biometricSubType The subtype of the iris biometric data
+	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @return True if the Iris BDB data is valid according to standards; false
+	 *         otherwise
+	 * @throws SDKException If the BDB data fails validation against ISO standards
+	 *                      or other errors occur during validation
+	 * @see #isValidIrisBdb(SdkSettings, PurposeType, String, byte[])
+	 */
+	protected boolean isValidIrisBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			String bdbData) {
+		return isValidIrisBdb(settings, purposeType, biometricSubType, getBioData(bdbData));
+	}
+
 	/**
 	 * Validates the Biometric Data Block (BDB) for Iris modality based on ISO
 	 * 19794-6:2011 standards.
 	 *
+	 * @param settings         The settings of the request
 	 * @param purposeType      The purpose type associated with the biometric data
 	 * @param biometricSubType The subtype of the finger biometric data
-	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @param bioData          Biometric data block to validate
 	 * @return True if the Finger BDB data is valid according to standards; false
 	 *         otherwise
 	 * @throws SDKException If the BDB data fails validation against ISO standards
 	 *                      or other errors occur during validation
 	 */
 	@SuppressWarnings({ "java:S1172", "java:S2139", "java:S3776", "java:S6541", "removal" })
-	protected boolean isValidIrisBdb(PurposeType purposeType, String biometricSubType, String bdbData) {
+	protected boolean isValidIrisBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			byte[] bioData) {
 		ResponseStatus responseStatus = null;
 		try {
 			StringBuilder message = new StringBuilder(
@@ -628,7 +718,6 @@ public abstract class SDKService {
 			ConvertRequestDto requestDto = new ConvertRequestDto();
 			requestDto.setModality("Iris");
 			requestDto.setVersion("ISO19794_6_2011");
-			byte[] bioData = getBioData(bdbData);
 			if (Objects.isNull(bioData) || bioData.length == 0) {
 				responseStatus = ResponseStatus.INVALID_INPUT;
 				throw new SDKException(responseStatus.getStatusCode() + "",
@@ -698,7 +787,7 @@ public abstract class SDKService {
 				isValid = false;
 			}
 
-			if (isCheckISOTimestampFormat()
+			if (settings.isCheckISOTimestampFormat()
 					&& (!IrisISOStandardsValidator.getInstance().isValidCaptureDateTime(bdir.getCaptureYear(),
 							bdir.getCaptureMonth(), bdir.getCaptureDay(), bdir.getCaptureHour(),
 							bdir.getCaptureMinute(), bdir.getCaptureSecond(), bdir.getCaptureMilliSecond()))) {
@@ -949,20 +1038,41 @@ public abstract class SDKService {
 		return isValid;
 	}
 
+	/**
+	 * Validates the Base64 encoded Biometric Data Block (BDB) for Face modality by
+	 * decoding it and validating the raw bytes.
+	 *
+	 * @param settings         The settings of the request
+	 * @param purposeType      The purpose type associated with the biometric data
+	 * @param biometricSubType The subtype of the face biometric data
+	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @return True if the Face BDB data is valid according to standards; false
+	 *         otherwise
+	 * @throws SDKException If the BDB data fails validation against ISO standards
+	 *                      or other errors occur during validation
+	 * @see #isValidFaceBdb(SdkSettings, PurposeType, String, byte[])
+	 */
+	protected boolean isValidFaceBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			String bdbData) {
+		return isValidFaceBdb(settings, purposeType, biometricSubType, getBioData(bdbData));
+	}
+
 	/**
 	 * Validates the Biometric Data Block (BDB) for Face modality based on ISO
 	 * 19794-5:2011 standards.
 	 *
+	 * @param settings         The settings of the request
 	 * @param purposeType      The purpose type associated with the biometric data
 	 * @param biometricSubType The subtype of the finger biometric data
-	 * @param bdbData          Base64 encoded biometric data block to validate
+	 * @param bioData          Biometric data block to validate
 	 * @return True if the Finger BDB data is valid according to standards; false
 	 *         otherwise
 	 * @throws SDKException If the BDB data fails validation against ISO standards
 	 *                      or other errors occur during validation
 	 */
 	@SuppressWarnings({ "java:S1172", "java:S2139", "java:S3776", "java:S6541", "removal" })
-	protected boolean isValidFaceBdb(PurposeType purposeType, String biometricSubType, String bdbData) {
+	protected boolean isValidFaceBdb(SdkSettings settings, PurposeType purposeType, String biometricSubType,
+			byte[] bioData) {
 		ResponseStatus responseStatus = null;
 		try {
 			StringBuilder message = new StringBuilder(
@@ -972,7 +1082,6 @@ public abstract class SDKService {
 			ConvertRequestDto requestDto = new ConvertRequestDto();
 			requestDto.setModality("Face");
 			requestDto.setVersion("ISO19794_5_2011");
-			byte[] bioData = getBioData(bdbData);
 			if (Objects.isNull(bioData) || bioData.length == 0) {
 				responseStatus = ResponseStatus.INVALID_INPUT;
 				throw new SDKException(responseStatus.getStatusCode() + "",
@@ -1032,7 +1141,7 @@ public abstract class SDKService {
 				isValid = false;
 			}
 
-			if (isCheckISOTimestampFormat()
+			if (settings.isCheckISOTimestampFormat()
 					&& (!FaceISOStandardsValidator.getInstance().isValidCaptureDateTime(bdir.getCaptureYear(),
 							bdir.getCaptureMonth(), bdir.getCaptureDay(), bdir.getCaptureHour(),
 							bdir.getCaptureMinute(), bdir.getCaptureSecond(), bdir.getCaptureMilliSecond()))) {
@@ -1303,27 +1412,4 @@ public abstract class SDKService {
 			return new byte[] {};
 		}
 	}
-
-	/**
-	 * Checks if the ISO timestamp format validation flag is enabled.
-	 * <p>
-	 * This method retrieves the flag value from the environment properties or from
-	 * the flags map if available.
-	 *
-	 * @return True if the ISO timestamp format validation is enabled, false
-	 *         otherwise
-	 */
-	protected boolean isCheckISOTimestampFormat() {
-		boolean isCheckISOTimestampFormat = true;
-		if (getEnv() != null) {
-			isCheckISOTimestampFormat = getEnv().getProperty(SdkConstant.SDK_CHECK_ISO_TIMESTAMP_FORMAT, Boolean.class,
-					true);
-		}
-		if (!Objects.isNull(getFlags()) && getFlags().containsKey(SdkConstant.SDK_CHECK_ISO_TIMESTAMP_FORMAT)) {
-			String isoTimestampFormat = getFlags().get(SdkConstant.SDK_CHECK_ISO_TIMESTAMP_FORMAT).toLowerCase();
-			if (isoTimestampFormat.equals("true") || isoTimestampFormat.equals("false"))
-				isCheckISOTimestampFormat = Boolean.parseBoolean(isoTimestampFormat);
-		}
-		return isCheckISOTimestampFormat;
-	}
 }
\ No newline at end of file
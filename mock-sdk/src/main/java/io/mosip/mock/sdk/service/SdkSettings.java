@@ -0,0 +1,143 @@
+package io.mosip.mock.sdk.service;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import io.mosip.mock.sdk.constant.SdkConstant;
+
+/**
+ * Settings of the SDK, resolved once from the environment when the SDK is
+ * initialized.
+ *
+ * <p>
+ * The settings are immutable so that the services holding them can be shared by
+ * concurrent requests. The flags of a request are applied with
+ * {@link #withFlags(Map)}, which returns new settings for that request only.
+ * </p>
+ */
+public final class SdkSettings {
+	private static final Logger logger = LoggerFactory.getLogger(SdkSettings.class);
+
+	/** Upper bound of the match parallelism, to bound the number of pools. */
+	public static final int MAX_MATCH_PARALLELISM = 4 * Runtime.getRuntime().availableProcessors();
+
+	/** Upper bound of the convert parallelism, to bound the number of pools. */
+	public static final int MAX_CONVERT_PARALLELISM = 4 * Runtime.getRuntime().availableProcessors();
+
+	private final boolean checkISOTimestampFormat;
+	private final int matchParallelism;
+	private final long validationCacheSize;
+	private final int convertParallelism;
+
+	private SdkSettings(boolean checkISOTimestampFormat, int matchParallelism, long validationCacheSize,
+			int convertParallelism) {
+		this.checkISOTimestampFormat = checkISOTimestampFormat;
+		this.matchParallelism = Math.max(1, Math.min(matchParallelism, MAX_MATCH_PARALLELISM));
+		this.validationCacheSize = Math.max(0, validationCacheSize);
+		this.convertParallelism = Math.max(1, Math.min(convertParallelism, MAX_CONVERT_PARALLELISM));
+	}
+
+	/**
+	 * Resolves the settings from the environment properties, using the defaults
+	 * for the missing ones.
+	 *
+	 * @param env The environment configuration, or null to use the defaults
+	 * @return The settings
+	 */
+	public static SdkSettings fromEnvironment(Environment env) {
+		boolean checkISOTimestampFormat = true;
+		int matchParallelism = Runtime.getRuntime().availableProcessors();
+		long validationCacheSize = BdbValidationCache.DEFAULT_SIZE_KB;
+		int convertParallelism = Runtime.getRuntime().availableProcessors();
+		if (env != null) {
+			checkISOTimestampFormat = env.getProperty(SdkConstant.SDK_CHECK_ISO_TIMESTAMP_FORMAT, Boolean.class,
+					checkISOTimestampFormat);
+			matchParallelism = env.getProperty(SdkConstant.SDK_MATCH_PARALLELISM, Integer.class, matchParallelism);
+			validationCacheSize = env.getProperty(SdkConstant.SDK_VALIDATION_CACHE_SIZE, Long.class,
+					validationCacheSize);
+			convertParallelism = env.getProperty(SdkConstant.SDK_CONVERT_PARALLELISM, Integer.class,
+					convertParallelism);
+		}
+		return new SdkSettings(checkISOTimestampFormat, matchParallelism, validationCacheSize, convertParallelism);
+	}
+
+	/**
+	 * Applies the flags of a request to the settings. Invalid values are ignored.
+	 *
+	 * @param flags The flags of the request, may be null
+	 * @return These settings if the flags change none of them; new settings
+	 *         otherwise
+	 */
+	public SdkSettings withFlags(Map<String, String> flags) {
+		if (flags == null || flags.isEmpty())
+			return this;
+
+		boolean newCheckISOTimestampFormat = checkISOTimestampFormat;
+		String isoTimestampFormat = flags.get(SdkConstant.SDK_CHECK_ISO_TIMESTAMP_FORMAT);
+		if (isoTimestampFormat != null) {
+			isoTimestampFormat = isoTimestampFormat.toLowerCase();
+			if (isoTimestampFormat.equals("true") || isoTimestampFormat.equals("false"))
+				newCheckISOTimestampFormat = Boolean.parseBoolean(isoTimestampFormat);
+		}
+
+		int newMatchParallelism = matchParallelism;
+		String parallelism = flags.get(SdkConstant.SDK_MATCH_PARALLELISM);
+		if (parallelism != null) {
+			try {
+				newMatchParallelism = Integer.parseInt(parallelism.trim());
+			} catch (NumberFormatException ex) {
+				logger.warn("Ignoring invalid {} flag", SdkConstant.SDK_MATCH_PARALLELISM);
+			}
+		}
+
+		if (newCheckISOTimestampFormat == checkISOTimestampFormat && newMatchParallelism == matchParallelism)
+			return this;
+		return new SdkSettings(newCheckISOTimestampFormat, newMatchParallelism, validationCacheSize,
+				convertParallelism);
+	}
+
+	/**
+	 * Checks if the ISO timestamp format of the BDBs is validated, set with
+	 * {@link SdkConstant#SDK_CHECK_ISO_TIMESTAMP_FORMAT}.
+	 *
+	 * @return True if the ISO timestamp format is validated, false otherwise
+	 */
+	public boolean isCheckISOTimestampFormat() {
+		return checkISOTimestampFormat;
+	}
+
+	/**
+	 * Retrieves the number of threads matching a gallery, set with
+	 * {@link SdkConstant#SDK_MATCH_PARALLELISM} and defaulting to the number of
+	 * available processors.
+	 *
+	 * @return The parallelism, between 1 and {@link #MAX_MATCH_PARALLELISM}
+	 */
+	public int getMatchParallelism() {
+		return matchParallelism;
+	}
+
+	/**
+	 * Retrieves the maximum size of the {@link BdbValidationCache}, set with
+	 * {@link SdkConstant#SDK_VALIDATION_CACHE_SIZE}.
+	 *
+	 * @return The size in kilobytes, 0 if the cache is disabled
+	 */
+	public long getValidationCacheSize() {
+		return validationCacheSize;
+	}
+
+	/**
+	 * Retrieves the number of threads converting the BDBs of a record, set with
+	 * {@link SdkConstant#SDK_CONVERT_PARALLELISM} and defaulting to the number of
+	 * available processors.
+	 *
+	 * @return The parallelism, between 1 and {@link #MAX_CONVERT_PARALLELISM}
+	 */
+	public int getConvertParallelism() {
+		return convertParallelism;
+	}
+}
@@ -3,8 +3,6 @@ package io.mosip.mock.sdk.service;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.core.env.Environment;
-
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.kernel.biometrics.model.Response;
@@ -18,33 +16,27 @@ import io.mosip.kernel.biometrics.model.Response;
  * </p>
  * 
  */
-@SuppressWarnings("unused")
 public class SegmentService extends SDKService {
-	private BiometricRecord sample;
-	private List<BiometricType> modalitiesToSegment;
-
 	/**
-	 * Constructs a SegmentService instance with environment, sample biometric
-	 * record, modalities to segment, and additional flags.
+	 * Constructs a SegmentService instance with the SDK settings.
 	 * 
-	 * @param env                 The environment configuration.
-	 * @param sample              The biometric record to segment.
-	 * @param modalitiesToSegment The list of biometric types to segment.
-	 * @param flags               Additional flags or parameters.
+	 * @param settings The settings resolved when the SDK was initialized.
 	 */
-	public SegmentService(Environment env, BiometricRecord sample, List<BiometricType> modalitiesToSegment,
-			Map<String, String> flags) {
-		super(env, flags);
-		this.sample = sample;
-		this.modalitiesToSegment = modalitiesToSegment;
+	public SegmentService(SdkSettings settings) {
+		super(settings);
 	}
 
 	/**
 	 * Performs segmentation on the provided biometric sample.
 	 * 
+	 * @param sample              The biometric record to segment.
+	 * @param modalitiesToSegment The list of biometric types to segment.
+	 * @param flags               Additional flags or parameters.
 	 * @return A {@link Response} containing the segmented biometric record.
 	 */
-	public Response<BiometricRecord> getSegmentInfo() {
+	@SuppressWarnings({ "java:S1172" })
+	public Response<BiometricRecord> getSegmentInfo(BiometricRecord sample, List<BiometricType> modalitiesToSegment,
+			Map<String, String> flags) {
 		BiometricRecord bioRecord = new BiometricRecord();
 		bioRecord.setSegments(null);
 		Response<BiometricRecord> response = new Response<>();
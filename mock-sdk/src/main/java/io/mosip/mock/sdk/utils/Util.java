@@ -3,6 +3,7 @@ package io.mosip.mock.sdk.utils;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Base64.Encoder;
+import java.util.Objects;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.ArrayUtils;
@@ -21,6 +22,7 @@ import io.mosip.mock.sdk.exceptions.SDKException;
  * <li>Computing SHA-256 fingerprint of byte data combined with optional
  * metadata.</li>
  * <li>Comparing hash values of two byte arrays.</li>
+ * <li>Computing the raw SHA-256 digest of byte data.</li>
  * <li>Encoding and decoding byte arrays or strings to/from URL-safe Base64
  * format.</li>
  * <li>Checking if a byte array or string is null or empty.</li>
@@ -69,6 +71,19 @@ public class Util {
 		return DigestUtils.sha256Hex(combinedPlainTextBytes);
 	}
 
+	/**
+	 * Computes the SHA-256 digest of a byte array without copying it, for callers
+	 * that compare the same data many times.
+	 *
+	 * @param data Byte array to compute hash from.
+	 * @return The 32-byte SHA-256 digest.
+	 * @throws NullPointerException If the byte array is null, as
+	 *                              {@link #compareHash(byte[], byte[])} does.
+	 */
+	public static byte[] computeDigest(byte[] data) {
+		return DigestUtils.sha256(Objects.requireNonNull(data, "data"));
+	}
+
 	private static Encoder urlSafeEncoder;
 	static {
 		urlSafeEncoder = Base64.getUrlEncoder().withoutPadding();
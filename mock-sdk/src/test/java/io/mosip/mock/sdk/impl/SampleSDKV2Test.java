@@ -9,6 +9,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -34,6 +38,7 @@ import io.mosip.kernel.biometrics.entities.VersionType;
 import io.mosip.kernel.biometrics.model.Decision;
 import io.mosip.kernel.biometrics.model.MatchDecision;
 import io.mosip.kernel.biometrics.model.Response;
+import io.mosip.mock.sdk.service.BdbValidationCache;
 
 public class SampleSDKV2Test {
 
@@ -87,6 +92,127 @@ public class SampleSDKV2Test {
 		}
 	}
 
+	@Test
+	public void match_gallery_parallel() {
+		try {
+			List<BiometricType> modalitiesToMatch = new ArrayList<>() {
+				{
+					add(BiometricType.FACE);
+					add(BiometricType.FINGER);
+					add(BiometricType.IRIS);
+				}
+			};
+			BiometricRecord sampleBioRecord = xmlFileToBiometricRecord(samplePath);
+			BiometricRecord[] galleryBioRecord = new BiometricRecord[8];
+			for (int i = 0; i < galleryBioRecord.length; i++)
+				galleryBioRecord[i] = xmlFileToBiometricRecord(i % 2 == 0 ? sampleFullMatchPath : sampleIrisNoMatchPath);
+
+			SampleSDKV2 sampleSDK = new SampleSDKV2();
+			Map<String, String> sequentialFlags = new HashMap<>();
+			sequentialFlags.put("sdk_match_parallelism", "1");
+			Map<String, String> parallelFlags = new HashMap<>();
+			parallelFlags.put("sdk_match_parallelism", "4");
+			Response<MatchDecision[]> sequential = sampleSDK.match(sampleBioRecord, galleryBioRecord,
+					modalitiesToMatch, sequentialFlags);
+			Response<MatchDecision[]> parallel = sampleSDK.match(sampleBioRecord, galleryBioRecord, modalitiesToMatch,
+					parallelFlags);
+
+			Assert.assertEquals(sequential.getStatusCode(), parallel.getStatusCode());
+			if (sequential.getResponse() != null) {
+				Assert.assertEquals(galleryBioRecord.length, parallel.getResponse().length);
+				for (int i = 0; i < galleryBioRecord.length; i++) {
+					Assert.assertEquals(i, parallel.getResponse()[i].getGalleryIndex());
+					for (BiometricType modality : modalitiesToMatch)
+						Assert.assertEquals(sequential.getResponse()[i].getDecisions().get(modality).getMatch(),
+								parallel.getResponse()[i].getDecisions().get(modality).getMatch());
+				}
+			}
+		} catch (ParserConfigurationException | IOException | SAXException e) {
+			logger.error("match_gallery_parallel", e);
+		}
+	}
+
+	@Test
+	public void match_gallery_validation_cached() {
+		try {
+			List<BiometricType> modalitiesToMatch = new ArrayList<>() {
+				{
+					add(BiometricType.FACE);
+					add(BiometricType.FINGER);
+					add(BiometricType.IRIS);
+				}
+			};
+			BiometricRecord sampleBioRecord = xmlFileToBiometricRecord(samplePath);
+			BiometricRecord[] galleryBioRecord = new BiometricRecord[4];
+			for (int i = 0; i < galleryBioRecord.length; i++)
+				galleryBioRecord[i] = xmlFileToBiometricRecord(sampleFullMatchPath);
+
+			SampleSDKV2 sampleSDK = new SampleSDKV2();
+			Map<String, String> flags = new HashMap<>();
+			flags.put("sdk_match_parallelism", "1");
+			BdbValidationCache cache = sampleSDK.services().match().getValidationCache();
+			Response<MatchDecision[]> first = sampleSDK.match(sampleBioRecord, galleryBioRecord, modalitiesToMatch,
+					flags);
+			BdbValidationCache.Stats afterFirst = cache.stats();
+			Response<MatchDecision[]> second = sampleSDK.match(sampleBioRecord, galleryBioRecord, modalitiesToMatch,
+					flags);
+			BdbValidationCache.Stats afterSecond = cache.stats();
+
+			Assert.assertEquals(first.getStatusCode(), second.getStatusCode());
+			Assert.assertTrue(afterFirst.getMisses() > 0);
+			Assert.assertEquals(afterFirst.getMisses(), afterSecond.getMisses());
+			Assert.assertTrue(afterSecond.getHits() > afterFirst.getHits());
+		} catch (ParserConfigurationException | IOException | SAXException e) {
+			logger.error("match_gallery_validation_cached", e);
+		}
+	}
+
+	@Test
+	public void match_concurrent_callers() throws InterruptedException, ExecutionException {
+		try {
+			List<BiometricType> modalitiesToMatch = new ArrayList<>() {
+				{
+					add(BiometricType.FACE);
+					add(BiometricType.FINGER);
+					add(BiometricType.IRIS);
+				}
+			};
+			BiometricRecord sampleBioRecord = xmlFileToBiometricRecord(samplePath);
+			BiometricRecord[] galleryBioRecord = new BiometricRecord[] { xmlFileToBiometricRecord(sampleFullMatchPath),
+					xmlFileToBiometricRecord(sampleIrisNoMatchPath) };
+
+			SampleSDKV2 sampleSDK = new SampleSDKV2();
+			sampleSDK.init(new HashMap<>());
+			Response<MatchDecision[]> expected = sampleSDK.match(sampleBioRecord, galleryBioRecord, modalitiesToMatch,
+					new HashMap<>());
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<Response<MatchDecision[]>>> futures = new ArrayList<>();
+				for (int i = 0; i < 16; i++) {
+					Map<String, String> flags = new HashMap<>();
+					flags.put("sdk_match_parallelism", String.valueOf(1 + i % 3));
+					futures.add(executor.submit(
+							() -> sampleSDK.match(sampleBioRecord, galleryBioRecord, modalitiesToMatch, flags)));
+				}
+				for (Future<Response<MatchDecision[]>> future : futures) {
+					Response<MatchDecision[]> response = future.get();
+					Assert.assertEquals(expected.getStatusCode(), response.getStatusCode());
+					if (expected.getResponse() != null) {
+						for (int i = 0; i < galleryBioRecord.length; i++)
+							for (BiometricType modality : modalitiesToMatch)
+								Assert.assertEquals(expected.getResponse()[i].getDecisions().get(modality).getMatch(),
+										response.getResponse()[i].getDecisions().get(modality).getMatch());
+					}
+				}
+			} finally {
+				executor.shutdown();
+			}
+		} catch (ParserConfigurationException | IOException | SAXException e) {
+			logger.error("match_concurrent_callers", e);
+		}
+	}
+
 	// @Test
 	public void match_different_iris() {
 		try {
@@ -0,0 +1,105 @@
+package io.mosip.mock.sdk.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.kernel.bio.converter.exception.ConversionException;
+import io.mosip.mock.sdk.utils.Util;
+
+public class BdbConverterTest {
+
+	private static final int PARALLELISM = 4;
+
+	/**
+	 * Echoes each BDB as "target:BDB", finishing the later keys of a record first
+	 * so that the completion order differs from the record order.
+	 */
+	private static BdbConverter.ConverterService echoConverter(List<Map<String, String>> calls,
+			Map<String, ConversionException> failures) {
+		return (values, sourceFormat, targetFormat, sourceParams, targetParams) -> {
+			calls.add(values);
+			Map<String, String> responseValues = new HashMap<>();
+			for (Map.Entry<String, String> entry : values.entrySet()) {
+				String key = entry.getKey();
+				sleep(10L * (10 - Integer.parseInt(key.substring(key.length() - 1))));
+				if (failures.containsKey(key))
+					throw failures.get(key);
+				String bdb = new String(Util.decodeURLSafeBase64(entry.getValue()), StandardCharsets.UTF_8);
+				responseValues.put(key,
+						Util.encodeToURLSafeBase64((targetFormat + ":" + bdb).getBytes(StandardCharsets.UTF_8)));
+			}
+			return responseValues;
+		};
+	}
+
+	private static Map<String, byte[]> bdbs(int count) {
+		Map<String, byte[]> bdbs = new LinkedHashMap<>();
+		for (int index = 0; index < count; index++)
+			bdbs.put("FINGER_" + index, ("bdb" + index).getBytes(StandardCharsets.UTF_8));
+		return bdbs;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void convert_keepsRecordOrder() {
+		List<Map<String, String>> calls = new CopyOnWriteArrayList<>();
+		BdbConverter converter = new BdbConverter(echoConverter(calls, new HashMap<>()), "ISO19794_4_2011",
+				"IMAGE/JPEG", PARALLELISM);
+
+		Map<String, byte[]> converted = converter.convert(bdbs(6), new HashMap<>(), new HashMap<>());
+
+		Assert.assertEquals(6, calls.size());
+		List<String> keys = new ArrayList<>(converted.keySet());
+		for (int index = 0; index < 6; index++) {
+			Assert.assertEquals("FINGER_" + index, keys.get(index));
+			Assert.assertEquals("IMAGE/JPEG:bdb" + index,
+					new String(converted.get("FINGER_" + index), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void convert_rethrowsFirstFailureInRecordOrder() {
+		Map<String, ConversionException> failures = new HashMap<>();
+		ConversionException firstFailure = new ConversionException("MOS-CNV-002", "first failure");
+		failures.put("FINGER_2", firstFailure);
+		// finishes before FINGER_2, the later keys being converted faster
+		failures.put("FINGER_4", new ConversionException("MOS-CNV-002", "later failure"));
+		BdbConverter converter = new BdbConverter(echoConverter(new CopyOnWriteArrayList<>(), failures),
+				"ISO19794_4_2011", "IMAGE/JPEG", PARALLELISM);
+
+		try {
+			converter.convert(bdbs(6), new HashMap<>(), new HashMap<>());
+			Assert.fail("Expected a ConversionException");
+		} catch (ConversionException ex) {
+			Assert.assertSame(firstFailure, ex);
+		}
+	}
+
+	@Test
+	public void convert_passesEmptyMapToConverter() {
+		List<Map<String, String>> calls = new CopyOnWriteArrayList<>();
+		BdbConverter converter = new BdbConverter(echoConverter(calls, new HashMap<>()), "ISO19794_4_2011",
+				"IMAGE/JPEG", PARALLELISM);
+
+		Map<String, byte[]> converted = converter.convert(new LinkedHashMap<>(), new HashMap<>(), new HashMap<>());
+
+		Assert.assertTrue(converted.isEmpty());
+		Assert.assertEquals(1, calls.size());
+		Assert.assertTrue(calls.get(0).isEmpty());
+	}
+}